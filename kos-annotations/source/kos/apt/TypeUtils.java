@@ -34,6 +34,7 @@ import java.util.regex.Pattern;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static kos.core.Lang.convert;
+import static kos.core.Lang.first;
 import static kos.core.Lang.nonEmptySetOfString;
 
 @UtilityClass
@@ -57,8 +58,32 @@ public class TypeUtils {
           .and( "boolean", "java.lang.Boolean" )
             .build();
 
+    private final List<String> nonPreResolvablePackages = asList(
+        "java.", "javax.", "io.vertx.", "kos.api."
+    );
+
+    private final Map<String, String> streamReaders = Lang
+        .mapOf( "io.vertx.core.streams.ReadStream", "readBodyAsReadStream" )
+          .and( "java.util.concurrent.Flow.Publisher", "readBodyAsPublisher" )
+            .build();
+
+    private final Map<String, String> specializedReaderSuffixes = Lang
+        .mapOf( "int", "AsInt" )
+          .and( "long", "AsLong" )
+          .and( "double", "AsDouble" )
+          .and( "boolean", "AsBoolean" )
+          .and( "java.lang.String", "AsString" )
+            .build();
+
+    private final List<String> specializableParamAnnotations = asList(
+        Param.class.getSimpleName(), Header.class.getSimpleName()
+    );
+
+    private final String defaultStreamElementType = "io.vertx.core.buffer.Buffer";
+
     public final String validationAnnotation = Valid.class.getCanonicalName();
     public final String bodyAnnotation = Body.class.getCanonicalName();
+    public final String blockingAnnotation = Blocking.class.getCanonicalName();
 
     private final List<String> validParamAnnotations = asList(
         Param.class.getCanonicalName(),
@@ -83,6 +108,20 @@ public class TypeUtils {
         return validRouteAnnotations.contains(element.getType());
     }
 
+    public boolean isBlockingAnn( SimplifiedAST.Annotation element ) {
+        return blockingAnnotation.equals(element.getType());
+    }
+
+    /**
+     * @return the worker pool defined by a {@code @Blocking} annotation, or {@code null}
+     * if the route should run on a virtual thread.
+     */
+    public String workerPoolOf( SimplifiedAST.Annotation blocking ) {
+        val workerPool = first(blocking.getParameters().values())
+            .map( value -> value.toString().replace("\"", "") ).orElse("");
+        return workerPool.isEmpty() ? null : workerPool;
+    }
+
     public String typeSimpleName( String canonicalName ) {
         val tokens = canonicalName.split("\\.");
         return tokens[tokens.length-1];
@@ -136,6 +175,20 @@ public class TypeUtils {
             || primitiveTypeObjects.containsValue(actualType);
     }
 
+    /**
+     * @return {@code true} when {@code type} is a (non-generic) application type
+     * which Jackson readers and writers can be resolved beforehand. JDK, Vert.x
+     * and Kos types are ignored, as well as primitives and arrays.
+     */
+    public boolean isPreResolvablePayloadType( String type ) {
+        if (type == null || !type.contains(".") || type.contains("<") || type.contains("["))
+            return false;
+        for (val prefix : nonPreResolvablePackages)
+            if (type.startsWith(prefix))
+                return false;
+        return true;
+    }
+
     public String unwrapFutureGenericType(String responseType) {
         val begin = responseType.indexOf("<") + 1;
         val end = responseType.lastIndexOf(">");
@@ -159,6 +212,48 @@ public class TypeUtils {
         return isVertxFuture(type) && genericType.equals(Void.class);
     }
 
+    /**
+     * @return {@code true} when {@code type} is a stream (either a Vert.x's ReadStream
+     * or a Java's Flow.Publisher) that can be used to read the request body.
+     */
+    public boolean isStreamType( String type ) {
+        return streamReaders.containsKey(rawType(type).orElse(type));
+    }
+
+    /**
+     * @return the name of the method (at {@code kos.core.Request}) that should be used
+     * to read the request body as {@code type}, or {@code null} when it is not a stream.
+     */
+    public String streamReaderFor( String type ) {
+        return streamReaders.get(rawType(type).orElse(type));
+    }
+
+    /**
+     * @return the name of the method (at {@code kos.core.Request}) that reads a parameter
+     * annotated with {@code annotation} straight into {@code type}, with no boxing and no
+     * {@code StringConverter} lookup. Returns {@code null} for types that have to be
+     * converted by the (pluggable) {@code StringConverter}.
+     */
+    public String specializedReaderFor( String annotation, String type ) {
+        val suffix = specializedReaderSuffixes.get(type);
+        if (suffix == null || !specializableParamAnnotations.contains(annotation))
+            return null;
+        return "read" + annotation + suffix;
+    }
+
+    /**
+     * @return the (raw) type of the elements emitted by the stream {@code type}.
+     * Streams with no generic types defined emit {@code io.vertx.core.buffer.Buffer}.
+     */
+    public String streamElementType( String type ) {
+        val begin = type.indexOf("<");
+        if (begin < 0)
+            return defaultStreamElementType;
+
+        val elementType = type.substring(begin + 1, type.lastIndexOf(">")).trim();
+        return rawType(elementType).orElse(elementType);
+    }
+
     public Optional<String> rawType(String wrapped) {
         return rawClass.matchedGroup(wrapped, 1);
     }
@@ -178,6 +273,24 @@ public class TypeUtils {
         }
     }
 
+    public long annotationParameterAsLong(SimplifiedAST.Annotation annotation, String name, long defaultValue) {
+        val value = annotation.getParameters().get(name);
+        if (value == null)
+            return defaultValue;
+        return Long.parseLong(value.toString().replaceFirst("[lL]$", ""));
+    }
+
+    /**
+     * @return the name of an enum constant defined as annotation parameter, without its enclosing type
+     */
+    public String annotationParameterAsEnumName(SimplifiedAST.Annotation annotation, String name, String defaultValue) {
+        val value = annotation.getParameters().get(name);
+        if (value == null)
+            return defaultValue;
+        val constant = value.toString();
+        return constant.substring(constant.lastIndexOf('.') + 1);
+    }
+
     public String annotationValueAsString(@NonNull Object value) {
         return value.toString()
             .replaceFirst("^\"", "")
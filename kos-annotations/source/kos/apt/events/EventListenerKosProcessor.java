@@ -27,6 +27,7 @@ public class EventListenerKosProcessor extends SimplifiedAbstractProcessor {
     private ClassGenerator classGenerator;
     private String spiLocation;
     private SPIGenerator spiGenerator;
+    private ImmutableMessageTypeDetector immutableMessageTypes;
 
     public EventListenerKosProcessor() {
         super(
@@ -43,12 +44,13 @@ public class EventListenerKosProcessor extends SimplifiedAbstractProcessor {
         classGenerator = new ClassGenerator("template-event-listener-java.mustache", processingEnv);
         spiGenerator = new SPIGenerator(processingEnv, resourceLocator, spiLocation);
         injectorProcessor.init(processingEnv);
+        immutableMessageTypes = new ImmutableMessageTypeDetector(processingEnv.getElementUtils());
     }
 
     @Override
     protected void process(Collection<SimplifiedAST.Type> types) {
         try {
-            val eventListenerTypes = convert(types, EventListenerType::from);
+            final List<EventListenerType> eventListenerTypes = convert(types, type -> EventListenerType.from(type, immutableMessageTypes));
             classGenerator.generateClasses(eventListenerTypes);
             injectorProcessor.process(types);
             generateSpiDescriptors(eventListenerTypes);
@@ -25,10 +25,10 @@ class EventListenerType implements SpiClass {
 
     final List<EventListenerMethod> listenerMethods;
 
-    static EventListenerType from(SimplifiedAST.Type type)
+    static EventListenerType from(SimplifiedAST.Type type, ImmutableMessageTypeDetector immutableMessageTypes)
     {
         val methods = Lang.filter(
-            Lang.convertIndex(type.getMethods(), (counter, targetMethod) -> EventListenerMethod.from(counter, type, targetMethod)),
+            Lang.convertIndex(type.getMethods(), (counter, targetMethod) -> EventListenerMethod.from(counter, type, targetMethod, immutableMessageTypes)),
             Objects::nonNull
         );
 
@@ -60,8 +60,14 @@ class EventListenerMethod {
     final boolean isAsync;
     final String targetMethodName;
     final int uniqueIdentifier;
-
-    public static EventListenerMethod from(int counter, SimplifiedAST.Type type, SimplifiedAST.Method targetMethod)
+    final int maxInFlight;
+    final int bufferSize;
+    final String overflow;
+    final boolean immutableMessage;
+
+    public static EventListenerMethod from(
+        int counter, SimplifiedAST.Type type, SimplifiedAST.Method targetMethod,
+        ImmutableMessageTypeDetector immutableMessageTypes)
     {
         if (targetMethod.isConstructor()) return null;
 
@@ -82,18 +88,33 @@ class EventListenerMethod {
 
         val parameter = targetMethod.getParameters().get(0);
         val messageType = parameter.getType();
+        val messageTypeWithTypeErasure = TypeUtils.rawType(messageType).orElse(messageType);
+        val listener = Lang
+            .first(targetMethod.getAnnotations(), ann -> ann.getType().equals(Listener.class.getCanonicalName()))
+            .get();
 
         return new EventListenerMethod(
             topicAddressName,
             messageType,
-            TypeUtils.rawType(messageType).orElse(messageType),
+            messageTypeWithTypeErasure,
             parameter.getAnnotation(Valid.class) != null,
             !targetMethod.isVoidMethod(),
             targetMethod.getName(),
-            counter
+            counter,
+            (int) TypeUtils.annotationParameterAsLong(listener, "maxInFlight", 0),
+            (int) TypeUtils.annotationParameterAsLong(listener, "bufferSize", 1000),
+            TypeUtils.annotationParameterAsEnumName(listener, "overflow", Listener.Overflow.PAUSE.name()),
+            messageType.equals(messageTypeWithTypeErasure) && immutableMessageTypes.isImmutable(messageType)
         );
     }
 
+    /**
+     * @return {@code true} if the number of messages handled concurrently is limited
+     */
+    public boolean isBounded() {
+        return maxInFlight > 0;
+    }
+
     private static String extractTopicAddressNameFrom(SimplifiedAST.Method targetMethod) {
         return Lang
             .first(targetMethod.getAnnotations(), ann -> ann.getType().equals(Listener.class.getCanonicalName()))
@@ -25,6 +25,7 @@ public class EventPublisherKosProcessor extends SimplifiedAbstractProcessor {
     private final CustomInjectorProcessor injectorProcessor = new CustomInjectorProcessor();
     private ClassGenerator classGenerator;
     private SPIGenerator configurationLoadedSpiGenerator;
+    private ImmutableMessageTypeDetector immutableMessageTypes;
 
     public EventPublisherKosProcessor() {
         super(
@@ -39,6 +40,7 @@ public class EventPublisherKosProcessor extends SimplifiedAbstractProcessor {
         super.init(processingEnv);
         classGenerator = new ClassGenerator("template-event-publisher-java.mustache", processingEnv);
         injectorProcessor.init(processingEnv);
+        immutableMessageTypes = new ImmutableMessageTypeDetector(processingEnv.getElementUtils());
 
         val configurationLoadedSpiLocation = "META-INF/services/" + ConfigurationLoadedEventListener.class.getCanonicalName();
         configurationLoadedSpiGenerator = new SPIGenerator(processingEnv, resourceLocator, configurationLoadedSpiLocation);
@@ -47,7 +49,7 @@ public class EventPublisherKosProcessor extends SimplifiedAbstractProcessor {
     @Override
     protected void process(Collection<SimplifiedAST.Type> types) {
         try {
-            val eventPublisherTypes = convert(types, EventPublisherType::from);
+            final List<EventPublisherType> eventPublisherTypes = convert(types, type -> EventPublisherType.from(type, immutableMessageTypes));
             classGenerator.generateClasses(eventPublisherTypes);
             generateSpiDescriptors(eventPublisherTypes);
             createSPIFileForInterfaces(eventPublisherTypes);
@@ -25,14 +25,14 @@ class EventPublisherType implements SpiClass {
 
     final List<EventPublisherMethod> methods;
 
-    static EventPublisherType from(SimplifiedAST.Type type)
+    static EventPublisherType from(SimplifiedAST.Type type, ImmutableMessageTypeDetector immutableMessageTypes)
     {
         if (!type.isInterface()) {
             throw new UnsupportedOperationException("Cannot create Publisher for concrete classes.");
         }
 
         val methods = Lang.filter(
-            Lang.convertIndex(type.getMethods(), EventPublisherMethod::from),
+            Lang.convertIndex(type.getMethods(), (counter, targetMethod) -> EventPublisherMethod.from(counter, targetMethod, immutableMessageTypes)),
             Objects::nonNull
         );
 
@@ -63,8 +63,12 @@ class EventPublisherMethod {
     final boolean isAsync;
     final String targetMethodName;
     final int uniqueIdentifier;
+    final int batchSize;
+    final long batchWindow;
+    final boolean immutableMessage;
 
-    public static EventPublisherMethod from(int counter, SimplifiedAST.Method targetMethod)
+    public static EventPublisherMethod from(
+        int counter, SimplifiedAST.Method targetMethod, ImmutableMessageTypeDetector immutableMessageTypes)
     {
         if (targetMethod.isConstructor()) return null;
 
@@ -91,16 +95,29 @@ class EventPublisherMethod {
             throw new UnsupportedOperationException("Publisher does not support types with generics");
         }
 
+        val publisher = Lang
+                .first(targetMethod.getAnnotations(), ann -> ann.getType().equals(Publisher.class.getCanonicalName()))
+                .get();
         return new EventPublisherMethod(
                 topicAddressName,
                 messageType,
                 parameter.getAnnotation(Valid.class) != null,
                 !targetMethod.isVoidMethod(),
                 targetMethod.getName(),
-                counter
+                counter,
+                (int) TypeUtils.annotationParameterAsLong(publisher, "batchSize", 0),
+                TypeUtils.annotationParameterAsLong(publisher, "batchWindow", 10),
+                immutableMessageTypes.isImmutable(messageType)
         );
     }
 
+    /**
+     * @return {@code true} if messages should be accumulated and sent in batches
+     */
+    public boolean isBatched() {
+        return batchSize > 1;
+    }
+
     private static String extractTopicAddressNameFrom(SimplifiedAST.Method targetMethod) {
         return Lang
                 .first(targetMethod.getAnnotations(), ann -> ann.getType().equals(Publisher.class.getCanonicalName()))
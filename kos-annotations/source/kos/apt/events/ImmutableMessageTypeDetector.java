@@ -0,0 +1,113 @@
+package kos.apt.events;
+
+import kos.core.events.ImmutableMessageTypes;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Detects, at compile time, the message types that cannot be modified once
+ * created: records, Lombok's {@code @Value} classes and classes whose fields are all
+ * final (and immutable as well). Such types are registered at {@link ImmutableMessageTypes},
+ * allowing them to be delivered locally without being copied.
+ *
+ * JDK types are ignored, as the well known immutable ones are already handled by
+ * {@link ImmutableMessageTypes}.
+ */
+@RequiredArgsConstructor
+class ImmutableMessageTypeDetector {
+
+    private static final String LOMBOK_VALUE = "lombok.Value";
+    private static final String RECORD = "RECORD";
+    private static final String RECORD_CLASS = "java.lang.Record";
+
+    private final Map<String, Boolean> detected = new HashMap<>();
+    private final Elements elements;
+
+    /**
+     * @param canonicalName the canonical name of the message type
+     * @return {@code true} if the message type should be registered as immutable
+     */
+    boolean isImmutable(String canonicalName) {
+        if (isJdkType(canonicalName))
+            return false;
+
+        val type = elements.getTypeElement(canonicalName);
+        return type != null && isImmutable(type);
+    }
+
+    private boolean isImmutable(TypeElement type) {
+        val name = type.getQualifiedName().toString();
+        if (isJdkType(name))
+            return ImmutableMessageTypes.isWellKnownImmutable(name);
+
+        val cached = detected.get(name);
+        if (cached != null)
+            return cached;
+
+        // assumed mutable while its fields are inspected: self references are (conservatively) copied
+        detected.put(name, false);
+        val immutable = hasOnlyImmutableState(type);
+        detected.put(name, immutable);
+        return immutable;
+    }
+
+    private boolean hasOnlyImmutableState(TypeElement type) {
+        if (type.getKind() == ElementKind.ENUM)
+            return true;
+
+        val isRecord = type.getKind().name().equals(RECORD);
+        if (!isRecord && type.getKind() != ElementKind.CLASS)
+            return false;
+
+        val finalFields = isRecord || isAnnotatedWith(type, LOMBOK_VALUE);
+        for (val field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            if (field.getModifiers().contains(Modifier.STATIC))
+                continue;
+            if (!finalFields && !field.getModifiers().contains(Modifier.FINAL))
+                return false;
+            if (!isImmutable(field.asType()))
+                return false;
+        }
+
+        val superclass = type.getSuperclass();
+        if (superclass.getKind() == TypeKind.NONE)
+            return true;
+        val superclassName = qualifiedNameOf((DeclaredType) superclass);
+        return superclassName.equals(Object.class.getCanonicalName())
+            || superclassName.equals(RECORD_CLASS)
+            || isImmutable(superclass);
+    }
+
+    private boolean isImmutable(TypeMirror type) {
+        if (type.getKind().isPrimitive())
+            return true;
+        if (type.getKind() != TypeKind.DECLARED)
+            return false;
+
+        return isImmutable((TypeElement) ((DeclaredType) type).asElement());
+    }
+
+    private static String qualifiedNameOf(DeclaredType type) {
+        return ((TypeElement) type.asElement()).getQualifiedName().toString();
+    }
+
+    private static boolean isJdkType(String canonicalName) {
+        return canonicalName.startsWith("java.") || canonicalName.startsWith("javax.");
+    }
+
+    private static boolean isAnnotatedWith(TypeElement type, String annotation) {
+        for (val mirror : type.getAnnotationMirrors())
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation))
+                return true;
+        return false;
+    }
+}
@@ -48,6 +48,42 @@ import static kos.core.Lang.*;
         return packageName + "." + className;
     }
 
+    /**
+     * @return the request body types which Jackson readers can be resolved at startup.
+     */
+    public Set<String> getReadableTypes(){
+        val types = new TreeSet<String>();
+        for (val method : methods)
+            if (TypeUtils.isPreResolvablePayloadType(method.getRequestPayloadType()))
+                types.add(method.getRequestPayloadType());
+        return types;
+    }
+
+    /**
+     * @return the response types which Jackson writers can be resolved at startup.
+     */
+    public Set<String> getWritableTypes(){
+        val types = new TreeSet<String>();
+        for (val method : methods)
+            if (TypeUtils.isPreResolvablePayloadType(method.getUnwrappedResponseType()))
+                types.add(method.getUnwrappedResponseType());
+        return types;
+    }
+
+    public boolean isContainsPayloadTypes(){
+        return !getReadableTypes().isEmpty() || !getWritableTypes().isEmpty();
+    }
+
+    /**
+     * @return {@code true} if any route should be run off the event loop.
+     */
+    public boolean isContainsBlockingMethods(){
+        for (val method : methods)
+            if (method.isBlocking())
+                return true;
+        return false;
+    }
+
     static Type from(SimplifiedAST.Type type, String suffix){
         return from(type, suffix, null);
     }
@@ -56,12 +92,13 @@ import static kos.core.Lang.*;
         TypeReference.resetReferenceCounter();
 
         val rootPath = TypeUtils.parseMultiParamValue(extractRootPath(type));
+        val blockingType = first(type.getAnnotations(), TypeUtils::isBlockingAnn).orElse(null);
         val methods = convert(
             filter(
                 type.getMethods(),
                 m-> filter( m.getAnnotations(), TypeUtils::isRouteAnn ).iterator().hasNext()
             ),
-            m -> Method.from(rootPath, m)
+            m -> Method.from(rootPath, m, blockingType)
         );
 
         methods.sort(Comparator.comparing(Method::getName));
@@ -88,8 +125,8 @@ import static kos.core.Lang.*;
     }
 }
 
-@EqualsAndHashCode(exclude = "uniqueName")
-@ToString(exclude = "uniqueName")
+@EqualsAndHashCode(exclude = {"uniqueName", "readsBodyAsStream", "maxBodySize", "requestPayloadType", "blocking", "blockingPool"})
+@ToString(exclude = {"uniqueName", "readsBodyAsStream", "maxBodySize", "requestPayloadType", "blocking", "blockingPool"})
 @Value class Method {
 
     String httpMethod;
@@ -105,6 +142,11 @@ import static kos.core.Lang.*;
     List<ReplaceablePathParam> replaceablePathParams;
     List<MethodDefinedHeaders> definedHeaders;
     boolean containsDefinedHeaders;
+    boolean readsBodyAsStream;
+    String maxBodySize;
+    String requestPayloadType;
+    boolean blocking;
+    String blockingPool;
 
     @Getter(lazy = true)
     String uniqueName = computeUniqueName();
@@ -132,15 +174,24 @@ import static kos.core.Lang.*;
         return hexString.toString();
     }
 
-    static Method from(Iterable<String> rootPath, SimplifiedAST.Method method) {
+    /**
+     * @return the type produced by the handler when it runs off the event loop.
+     */
+    public String getBlockingResultType() {
+        return responseType == null ? "java.lang.Void" : responseType;
+    }
+
+    static Method from(Iterable<String> rootPath, SimplifiedAST.Method method, SimplifiedAST.Annotation blockingType) {
         val methodAnn = first( method.getAnnotations(), TypeUtils::isRouteAnn ).get();
-        val path = first(methodAnn.getParameters().values()).orElse("").toString();
+        val path = methodAnn.getValue() == null ? "" : methodAnn.getValue().toString();
         val absolutePath = TypeUtils.asAbsolutePath( rootPath, path );
         val containsResponseType = !"void".equals(method.getType());
         val responseType = "void".equals(method.getType()) ? null : TypeUtils.getBoxedType(method.getType());
         val unwrappedResponseType = responseType == null ? null : TypeUtils.unwrapFutureGenericType(responseType);
         val variableWithRequestPayload = retrieveRequestPayloadVariable(method);
         val definedHeaders = MethodDefinedHeaders.extractAnnotatedHeadersFrom(method);
+        val readsBodyAsStream = readsRequestPayloadAsStream(method);
+        val blocking = first( method.getAnnotations(), TypeUtils::isBlockingAnn ).orElse(blockingType);
 
         return new Method(
             TypeUtils.typeSimpleName(methodAnn.getType()),
@@ -155,10 +206,56 @@ import static kos.core.Lang.*;
             TypeReference.from(method),
             ReplaceablePathParam.from(method),
             definedHeaders,
-            !definedHeaders.isEmpty()
+            !definedHeaders.isEmpty(),
+            readsBodyAsStream,
+            retrieveMaxBodySize(methodAnn),
+            retrieveRequestPayloadType(method),
+            blocking != null,
+            blocking == null ? null : TypeUtils.workerPoolOf(blocking)
         );
     }
 
+    /**
+     * @return the expression that defines the maximum body size of a route. Routes
+     * with no maximum size defined will use the router's default.
+     */
+    private static String retrieveMaxBodySize(SimplifiedAST.Annotation methodAnn){
+        val maxBodySize = methodAnn.getParameters().get("maxBodySize");
+        if (maxBodySize == null)
+            return "SimplifiedRouter.DEFAULT_MAX_BODY_SIZE";
+
+        val value = Long.parseLong(maxBodySize.toString().replaceFirst("[lL]$", ""));
+        if (value < 0)
+            return "SimplifiedRouter.DEFAULT_MAX_BODY_SIZE";
+        return value + "L";
+    }
+
+    private static boolean readsRequestPayloadAsStream(SimplifiedAST.Method method){
+        for (val parameter : method.getParameters()) {
+            for (val annotation : parameter.getAnnotations()) {
+                if (annotation.getType().equals(Body.class.getCanonicalName()))
+                    return TypeUtils.isStreamType(parameter.getType());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the type of the request body, or the type of its elements
+     * when it is read as a stream.
+     */
+    private static String retrieveRequestPayloadType(SimplifiedAST.Method method){
+        for (val parameter : method.getParameters()) {
+            for (val annotation : parameter.getAnnotations()) {
+                if (annotation.getType().equals(Body.class.getCanonicalName()))
+                    return TypeUtils.isStreamType(parameter.getType())
+                        ? TypeUtils.streamElementType(parameter.getType())
+                        : parameter.getType();
+            }
+        }
+        return null;
+    }
+
     private static String retrieveRequestPayloadVariable(SimplifiedAST.Method method){
         for (val parameter : method.getParameters()) {
             for (val annotation : parameter.getAnnotations()) {
@@ -178,6 +275,30 @@ import static kos.core.Lang.*;
     String type;
     boolean shouldBeValidated;
 
+    /**
+     * @return {@code true} if this parameter reads the request body as a stream.
+     */
+    public boolean isStreamed(){
+        return TypeUtils.typeSimpleName(TypeUtils.bodyAnnotation).equals(annotation)
+            && TypeUtils.isStreamType(type);
+    }
+
+    public String getStreamReader(){
+        return TypeUtils.streamReaderFor(type);
+    }
+
+    public String getElementType(){
+        return TypeUtils.streamElementType(type);
+    }
+
+    /**
+     * @return the name of the {@code Request} method that parses this parameter with no
+     * boxing, or {@code null} if it should be converted by the {@code StringConverter}.
+     */
+    public String getSpecializedReader(){
+        return TypeUtils.specializedReaderFor(annotation, type);
+    }
+
     static SimplifiedAST.WrappedDataIterable from( SimplifiedAST.Method method ) {
         val params = convert(method.getParameters(), p -> {
             SimplifiedAST.Annotation annotation = extractMainAnnotation( method, p );
@@ -187,6 +308,7 @@ import static kos.core.Lang.*;
             if (shouldBeValidated) {
                 ensureIsATypeOfParameterThatCanBeValidated(method, p, annotation);
                 ensureIsNotAJavaNativeType(method, p, annotation);
+                ensureIsNotAStream(method, p);
             }
 
             return new MethodParam(
@@ -235,6 +357,19 @@ import static kos.core.Lang.*;
         }
     }
 
+    private static void ensureIsNotAStream(
+            SimplifiedAST.Method method,
+            SimplifiedAST.Element parameter
+    ){
+        if (TypeUtils.isStreamType(parameter.getType())) {
+            throw new UnsupportedOperationException(
+                "Cannot enforce validation on parameters read as stream (" + parameter.getType() + ")." +
+                        " Method: " + method.getName() +
+                        " Parameter: " + parameter.getName()
+            );
+        }
+    }
+
     private static void ensureIsNotAJavaNativeType(
             SimplifiedAST.Method method,
             SimplifiedAST.Element parameter,
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.apt.spi;
+
+import kos.apt.ClassGenerator;
+import lombok.val;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Generates the {@code KosBootstrapIndex}, a {@link kos.api.BootstrapIndex} listing every
+ * class generated by the other Kos processors that can be instantiated through a public
+ * no-args constructor, indexed by the interfaces they implement (the SPI types they are
+ * exposed as). Generated classes show up as root elements of the round following the one
+ * they were generated in, thus each round indexes the classes it has found. Sources can't
+ * be generated once processing is over (javac would warn about them not being processed),
+ * so only the SPI file, listing the index of every round, is written in the last round.
+ */
+@SupportedAnnotationTypes("*")
+public class BootstrapIndexProcessor extends AbstractProcessor {
+
+    static final String INDEX_CLASS_NAME = "KosBootstrapIndex";
+    static final String DEFAULT_PACKAGE = "kos.generated";
+    static final String INDEX_SPI_LOCATION = "META-INF/services/kos.api.BootstrapIndex";
+    static final String KOS_PROCESSORS_PREFIX = "kos.apt.";
+
+    static final List<String> GENERATED_ANNOTATIONS = Arrays.asList(
+        "javax.annotation.processing.Generated", "javax.annotation.Generated"
+    );
+
+    private final List<String> generatedIndexes = new ArrayList<>();
+    private ClassGenerator classGenerator;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        classGenerator = new ClassGenerator("template-bootstrap-index-java.mustache", processingEnv);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!generatedIndexes.isEmpty())
+                exposeIndexes();
+        } else {
+            val implementations = new TreeMap<String, Set<String>>();
+            for (val type : ElementFilter.typesIn(roundEnv.getRootElements()))
+                if (isIndexable(type))
+                    memorize(implementations, type);
+            if (!implementations.isEmpty())
+                generateIndex(implementations);
+        }
+
+        // never claims annotations, leaving them to the other processors
+        return false;
+    }
+
+    private void memorize(Map<String, Set<String>> implementations, TypeElement type) {
+        val typeUtils = processingEnv.getTypeUtils();
+        for (val spiType : type.getInterfaces())
+            implementations
+                .computeIfAbsent(typeUtils.erasure(spiType).toString(), k -> new TreeSet<>())
+                .add(type.getQualifiedName().toString());
+    }
+
+    /**
+     * @return {@code true} for public classes generated by the other Kos processors
+     * that have a public no-args constructor. Generated validators, for instance,
+     * are left out as they depend on constructor injection.
+     */
+    private boolean isIndexable(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS || !type.getModifiers().contains(Modifier.PUBLIC))
+            return false;
+
+        val processor = generatorOf(type);
+        if (processor == null || !processor.startsWith(KOS_PROCESSORS_PREFIX)
+        ||  processor.equals(getClass().getCanonicalName()))
+            return false;
+
+        for (val constructor : ElementFilter.constructorsIn(type.getEnclosedElements()))
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC))
+                return true;
+        return false;
+    }
+
+    private static String generatorOf(TypeElement type) {
+        for (val annotation : type.getAnnotationMirrors()) {
+            val annotationType = ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName();
+            if (!GENERATED_ANNOTATIONS.contains(annotationType.toString()))
+                continue;
+
+            for (val attribute : annotation.getElementValues().entrySet())
+                if (attribute.getKey().getSimpleName().contentEquals("value")) {
+                    val processors = (List<?>) attribute.getValue().getValue();
+                    if (!processors.isEmpty())
+                        return ((AnnotationValue) processors.get(0)).getValue().toString();
+                }
+        }
+        return null;
+    }
+
+    private void generateIndex(Map<String, Set<String>> implementations) {
+        val indexType = BootstrapIndexType.from(implementations, jdkGeneratedAnnotation(), DEFAULT_PACKAGE, INDEX_CLASS_NAME);
+        try {
+            classGenerator.generateClasses(Collections.singletonList(indexType));
+            generatedIndexes.add(indexType.getClassCanonicalName());
+        } catch (IOException cause) {
+            throw new IllegalStateException("Could not generate " + indexType.getClassCanonicalName(), cause);
+        }
+    }
+
+    private void exposeIndexes() {
+        try {
+            val resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_SPI_LOCATION);
+            try (val writer = resource.openWriter()) {
+                for (val index : generatedIndexes)
+                    writer.write(index + SPIGenerator.EOL);
+            }
+        } catch (IOException cause) {
+            throw new IllegalStateException("Could not expose " + String.join(", ", generatedIndexes), cause);
+        }
+    }
+
+    private String jdkGeneratedAnnotation() {
+        if (processingEnv.getSourceVersion().compareTo(SourceVersion.RELEASE_8) > 0)
+            return "javax.annotation.processing.Generated";
+        return "javax.annotation.Generated";
+    }
+}
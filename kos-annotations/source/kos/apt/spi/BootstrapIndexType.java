@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.apt.spi;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+
+import java.util.*;
+
+/**
+ * Data used to render the {@code KosBootstrapIndex} template.
+ */
+@Getter
+@RequiredArgsConstructor
+class BootstrapIndexType implements SpiClass {
+
+    final String jdkGeneratedAnnotation;
+    final String packageName;
+    final String className;
+    final List<IndexedSpiType> spiTypes;
+
+    static BootstrapIndexType from(
+        Map<String, Set<String>> implementations, String jdkGeneratedAnnotation,
+        String defaultPackage, String className
+    ) {
+        val spiTypes = new ArrayList<IndexedSpiType>();
+        val allClasses = new ArrayList<String>();
+        for (val entry : implementations.entrySet()) {
+            spiTypes.add(IndexedSpiType.from(entry.getKey(), entry.getValue()));
+            allClasses.addAll(entry.getValue());
+        }
+
+        val packageName = commonPackageOf(allClasses);
+        return new BootstrapIndexType(
+            jdkGeneratedAnnotation,
+            packageName.isEmpty() ? defaultPackage : packageName,
+            className + "_" + fingerprintOf(allClasses), spiTypes
+        );
+    }
+
+    /**
+     * Modules may share the same package. The indexed classes identify the module,
+     * avoiding two indexes with the same canonical name in the class path.
+     */
+    static String fingerprintOf(List<String> classes) {
+        return Integer.toHexString(String.join(",", classes).hashCode());
+    }
+
+    /**
+     * @return the package shared by all {@code classes}, so each module has its own index.
+     */
+    static String commonPackageOf(List<String> classes) {
+        String[] common = null;
+        int length = 0;
+
+        for (val canonicalName : classes) {
+            val segments = canonicalName.split("\\.");
+            val packageLength = segments.length - 1;
+            if (common == null) {
+                common = segments;
+                length = packageLength;
+                continue;
+            }
+
+            int matching = 0;
+            while (matching < Math.min(length, packageLength) && common[matching].equals(segments[matching]))
+                matching++;
+            length = matching;
+        }
+
+        if (common == null)
+            return "";
+        return String.join(".", Arrays.asList(common).subList(0, length));
+    }
+
+    @Override
+    public String getClassCanonicalName() {
+        return packageName + "." + className;
+    }
+}
+
+@Value class IndexedSpiType {
+
+    String name;
+    List<IndexedImplementation> implementations;
+
+    static IndexedSpiType from(String name, Set<String> classes) {
+        val implementations = new ArrayList<IndexedImplementation>();
+        val iterator = classes.iterator();
+        while (iterator.hasNext())
+            implementations.add(new IndexedImplementation(iterator.next(), !iterator.hasNext()));
+        return new IndexedSpiType(name, implementations);
+    }
+}
+
+@Value class IndexedImplementation {
+    String name;
+    boolean last;
+}
@@ -11,4 +11,43 @@ public @interface Listener {
      * The {@link io.vertx.core.eventbus.EventBus} topic address.
      */
     String value();
+
+    /**
+     * Maximum number of messages handled concurrently. {@code 0} means unlimited.
+     */
+    int maxInFlight() default 0;
+
+    /**
+     * Maximum number of messages waiting to be handled once {@link #maxInFlight()} is reached.
+     */
+    int bufferSize() default 1000;
+
+    /**
+     * What happens to the messages received once the buffer is full.
+     */
+    Overflow overflow() default Overflow.PAUSE;
+
+    enum Overflow {
+
+        /**
+         * Pauses the consumer until the buffer has room again. Messages sent meanwhile
+         * are kept by the EventBus consumer, which discards them beyond {@link #bufferSize()}.
+         * Discarded messages are not replied to, thus requests (e.g. the ones sent by
+         * always consistent publishers, including whole batches) wait until their reply
+         * timeout (30 seconds by default) is reached. Prefer {@code REJECT} or {@code DROP}
+         * for listeners of requests, as they fail overflowing requests immediately.
+         */
+        PAUSE,
+
+        /**
+         * Discards the message. Published messages are silently discarded, while
+         * requests (that expect a reply) are failed as if they were rejected.
+         */
+        DROP,
+
+        /**
+         * Fails the message, notifying the publisher that the listener is overloaded.
+         */
+        REJECT
+    }
 }
\ No newline at end of file
@@ -11,4 +11,17 @@ public @interface Publisher {
      * The {@link io.vertx.core.eventbus.EventBus} topic address.
      */
     String value();
+
+    /**
+     * Maximum number of messages sent at once. When bigger than {@code 1}, messages
+     * sent to an <i>always consistent</i> address are accumulated and shipped as a
+     * single envelope, which is unpacked (and acknowledged per message) by the listeners.
+     */
+    int batchSize() default 0;
+
+    /**
+     * Maximum time (in milliseconds) a message waits for the batch to be filled.
+     * Ignored if {@link #batchSize()} is not defined.
+     */
+    long batchWindow() default 10;
 }
\ No newline at end of file
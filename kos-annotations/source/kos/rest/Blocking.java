@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.rest;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a route (or every route of a {@link RestApi}) as blocking. Instead of
+ * running on the event loop, its handler runs on a virtual thread (or on the
+ * Vert.x worker pool when virtual threads are not available), and its response
+ * is sent back from the event loop that received the request.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Blocking {
+
+    /**
+     * The name of the worker pool (defined by the {@code worker-pools} configuration
+     * entry) the route should run on. Routes with no worker pool run on virtual threads.
+     */
+    String value() default "";
+}
@@ -23,4 +23,11 @@ import java.lang.annotation.*;
 public @interface DELETE {
 
     String[] value() default "";
+
+    /**
+     * Maximum size (in bytes) of the request body accepted by this route. Requests
+     * exceeding it will be rejected with {@code 413 Payload Too Large}. Negative values
+     * fall back to the {@code web.server.max-body-size} configuration entry.
+     */
+    long maxBodySize() default -1;
 }
@@ -94,6 +94,10 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
         // Fetches an instance of the web handler class
         final SimpleApi handler = implementationLoader.instanceOfOrFail(SimpleApi.class);
 
+        // Registers the payload types, allowing its Jackson readers and writers to be resolved at startup
+        JacksonTypeCache.registerReadable(kos.sample.rest.api.User.class);
+        JacksonTypeCache.registerWritable(kos.sample.rest.api.User.class);
+
         /**
          * Handle incoming requests mapped for {@link kos.sample.rest.api.SimpleApi#deleteUser}.
          */
@@ -104,7 +108,7 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
                     /* Call original handler */
                         handler.deleteUser(
                             /* Read Param parameter identified by "user_id" */
-                            Request.readParam( kosContext, routingContext, "user_id", java.lang.String.class ),
+                            Request.readParamAsString( kosContext, routingContext, "user_id" ),
                             /* Read Context parameter identified by "httpServerRequest" */
                             Request.readContext( kosContext, routingContext, "httpServerRequest", io.vertx.core.http.HttpServerRequest.class )
                         );
@@ -116,7 +120,7 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
             }
         };
         // Maps the method handler to an HTTP endpoint
-        event.getRouter().route( HttpMethod.DELETE, "/api/simple/:user_id", handlerForDeleteUser$2cd2bbd6306e060993e03665fc2a2a97f6b081cf725906313d80cb90ce5aaeb4);
+        event.getRouter().routeWithNoBody( HttpMethod.DELETE, "/api/simple/:user_id", handlerForDeleteUser$2cd2bbd6306e060993e03665fc2a2a97f6b081cf725906313d80cb90ce5aaeb4);
 
         /**
          * Handle incoming requests mapped for {@link kos.sample.rest.api.SimpleApi#patchUser}.
@@ -129,9 +133,9 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
                     final kos.api.Response response =
                         handler.patchUser(
                             /* Read Param parameter identified by "user_id" */
-                            Request.readParam( kosContext, routingContext, "user_id", java.lang.String.class ),
+                            Request.readParamAsString( kosContext, routingContext, "user_id" ),
                             /* Read Header parameter identified by "Authorization" */
-                            Request.readHeader( kosContext, routingContext, "Authorization", java.lang.String.class ),
+                            Request.readHeaderAsString( kosContext, routingContext, "Authorization" ),
                             /* Read Body parameter identified by "user" */
                             Request.readBody( kosContext, routingContext, "user", kos.sample.rest.api.User.class )
                         );
@@ -143,7 +147,7 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
             }
         };
         // Maps the method handler to an HTTP endpoint
-        event.getRouter().route( HttpMethod.PATCH, "/api/simple/:user_id", handlerForPatchUser$a44fb2910d498802191f53879ab6ffd166eaf5e8a28a8fb6149bb171237f53c3);
+        event.getRouter().route( HttpMethod.PATCH, "/api/simple/:user_id", SimplifiedRouter.DEFAULT_MAX_BODY_SIZE, handlerForPatchUser$a44fb2910d498802191f53879ab6ffd166eaf5e8a28a8fb6149bb171237f53c3);
 
         /**
          * Handle incoming requests mapped for {@link kos.sample.rest.api.SimpleApi#retrieveUser}.
@@ -164,7 +168,7 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
             }
         };
         // Maps the method handler to an HTTP endpoint
-        event.getRouter().route( HttpMethod.GET, "/api/simple", handlerForRetrieveUser$503ad392d03d2f606bae554cab497033540ab30b069b679547715448c2c2ba2d);
+        event.getRouter().routeWithNoBody( HttpMethod.GET, "/api/simple", handlerForRetrieveUser$503ad392d03d2f606bae554cab497033540ab30b069b679547715448c2c2ba2d);
 
         /**
          * Handle incoming requests mapped for {@link kos.sample.rest.api.SimpleApi#retrieveUser}.
@@ -185,7 +189,7 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
             }
         };
         // Maps the method handler to an HTTP endpoint
-        event.getRouter().route( HttpMethod.GET, "/api/simple/all", handlerForRetrieveUser$503ad392d03d2f606bae554cab497033540ab30b069b679547715448c2c2ba2d);
+        event.getRouter().routeWithNoBody( HttpMethod.GET, "/api/simple/all", handlerForRetrieveUser$503ad392d03d2f606bae554cab497033540ab30b069b679547715448c2c2ba2d);
 
         /**
          * Handle incoming requests mapped for {@link kos.sample.rest.api.SimpleApi#retrieveUser2}.
@@ -206,7 +210,7 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
             }
         };
         // Maps the method handler to an HTTP endpoint
-        event.getRouter().route( HttpMethod.GET, "/api/simple/2", handlerForRetrieveUser2$a89554055c3afd125604d252adc856f946cc802ece070914a23af1a1a70d2326);
+        event.getRouter().routeWithNoBody( HttpMethod.GET, "/api/simple/2", handlerForRetrieveUser2$a89554055c3afd125604d252adc856f946cc802ece070914a23af1a1a70d2326);
 
         /**
          * Handle incoming requests mapped for {@link kos.sample.rest.api.SimpleApi#retrieveUser2}.
@@ -227,7 +231,7 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
             }
         };
         // Maps the method handler to an HTTP endpoint
-        event.getRouter().route( HttpMethod.GET, "/api/simple/all2", handlerForRetrieveUser2$a89554055c3afd125604d252adc856f946cc802ece070914a23af1a1a70d2326);
+        event.getRouter().routeWithNoBody( HttpMethod.GET, "/api/simple/all2", handlerForRetrieveUser2$a89554055c3afd125604d252adc856f946cc802ece070914a23af1a1a70d2326);
 
         /**
          * Handle incoming requests mapped for {@link kos.sample.rest.api.SimpleApi#saveUser}.
@@ -249,7 +253,7 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
             }
         };
         // Maps the method handler to an HTTP endpoint
-        event.getRouter().route( HttpMethod.POST, "/api/simple", handlerForSaveUser$b62e5df7194d0669c603c07a70e7b13755eb3cece61c742d558db28704d86523);
+        event.getRouter().route( HttpMethod.POST, "/api/simple", SimplifiedRouter.DEFAULT_MAX_BODY_SIZE, handlerForSaveUser$b62e5df7194d0669c603c07a70e7b13755eb3cece61c742d558db28704d86523);
 
         /**
          * Handle incoming requests mapped for {@link kos.sample.rest.api.SimpleApi#updateUser}.
@@ -261,7 +265,7 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
                     /* Call original handler */
                         handler.updateUser(
                             /* Read Param parameter identified by "id" */
-                            Request.readParam( kosContext, routingContext, "id", java.lang.String.class )
+                            Request.readParamAsString( kosContext, routingContext, "id" )
                         );
                     /* Sends the default response for "no content". */
                     Response.sendDefaultNoContent( kosContext, routingContext );
@@ -271,7 +275,7 @@ public class SimpleApiRoutingContextHandler implements WebServerEventListener {
             }
         };
         // Maps the method handler to an HTTP endpoint
-        event.getRouter().route( HttpMethod.PUT, "/api/simple/:id", handlerForUpdateUser$752e7933bc45972696bf537d05b533987c3bfc153424ea502a5974e2ca4e6641);
+        event.getRouter().routeWithNoBody( HttpMethod.PUT, "/api/simple/:id", handlerForUpdateUser$752e7933bc45972696bf537d05b533987c3bfc153424ea502a5974e2ca4e6641);
 
     }
 
@@ -71,7 +71,7 @@ public class ApiWithNoPathRoutingContextHandler implements WebServerEventListene
             }
         };
         // Maps the method handler to an HTTP endpoint
-        event.getRouter().route( HttpMethod.GET, "/location", handlerForRetrieveLocation$d632b5942ddb36866459dced761f4c0733b946262327108293bffef0e710faf3);
+        event.getRouter().routeWithNoBody( HttpMethod.GET, "/location", handlerForRetrieveLocation$d632b5942ddb36866459dced761f4c0733b946262327108293bffef0e710faf3);
 
     }
 
@@ -31,6 +31,9 @@ public class ApiWithValidationRoutingContextHandler implements WebServerEventLis
         // Fetches an instance of the web handler class
         final ApiWithValidation handler = implementationLoader.instanceOfOrFail(ApiWithValidation.class);
 
+        // Registers the payload types, allowing its Jackson readers and writers to be resolved at startup
+        JacksonTypeCache.registerReadable(kos.sample.rest.api.Event.class);
+
         /**
          * Handle incoming requests mapped for {@link kos.sample.rest.api.ApiWithValidation#updateEvent}.
          */
@@ -41,7 +44,7 @@ public class ApiWithValidationRoutingContextHandler implements WebServerEventLis
                     /* Call original handler */
                         handler.updateEvent(
                             /* Read Param parameter identified by "id" */
-                            Request.readParam( kosContext, routingContext, "id", java.lang.String.class ),
+                            Request.readParamAsString( kosContext, routingContext, "id" ),
                             /* Read attached (and pre-validated) Body parameter identified by "receivedEvent" */
                             webPointcutValidation.unwrapForBody(routingContext, "receivedEvent")
                         );
@@ -56,7 +59,7 @@ public class ApiWithValidationRoutingContextHandler implements WebServerEventLis
         // Validates the parameter identified as receivedEvent
         handlerForUpdateEvent$aba16933d56868661ebf08881d96b7d1710e23f8002080f8f7e70ef1cce0717b = webPointcutValidation.wrapForBody( kos.sample.rest.api.Event.class, "receivedEvent", handlerForUpdateEvent$aba16933d56868661ebf08881d96b7d1710e23f8002080f8f7e70ef1cce0717b );
         // Maps the method handler to an HTTP endpoint
-        event.getRouter().route( HttpMethod.PUT, "/events/:id", handlerForUpdateEvent$aba16933d56868661ebf08881d96b7d1710e23f8002080f8f7e70ef1cce0717b);
+        event.getRouter().route( HttpMethod.PUT, "/events/:id", SimplifiedRouter.DEFAULT_MAX_BODY_SIZE, handlerForUpdateEvent$aba16933d56868661ebf08881d96b7d1710e23f8002080f8f7e70ef1cce0717b);
 
     }
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.apt;
+
+import kos.apt.rest.RestApiProcessor;
+import kos.apt.spi.BootstrapIndexProcessor;
+import kos.apt.spi.SPIGenerator;
+import kos.core.exception.KosException;
+import kos.sample.rest.api.SimpleApi;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BootstrapIndexProcessorTest {
+
+    final String
+        generatedRouteName = SimpleApi.class.getCanonicalName() + "RoutingContextHandler",
+        generatedIndexPrefix = SimpleApi.class.getPackage().getName() + ".KosBootstrapIndex_";
+
+    @DisplayName("SHOULD index the generated classes with direct constructor references")
+    @Test void generateIndex(){
+        val source = APT.asSource(APT.testFile(SimpleApi.class));
+        APT.run(new RoutesAndIndexProcessor(), source);
+
+        val generatedIndex = APT.readFileAsString(APT.outputGeneratedClass(exposedIndexName()));
+        assertTrue(generatedIndex.contains("implementations.put(kos.api.WebServerEventListener.class, Arrays.asList("));
+        assertTrue(generatedIndex.contains(
+            "new BootstrapIndex.Implementation(" + generatedRouteName + ".class, " + generatedRouteName + "::new)"));
+    }
+
+    @DisplayName("SHOULD expose the generated index as SPI")
+    @Test void exposeIndex(){
+        val source = APT.asSource(APT.testFile(SimpleApi.class));
+        APT.run(new RoutesAndIndexProcessor(), source);
+
+        val spiFile = APT.readFileAsString(APT.outputGeneratedFile("META-INF/services/kos.api.BootstrapIndex"));
+        assertTrue(spiFile.startsWith(generatedIndexPrefix));
+        assertTrue(spiFile.endsWith(SPIGenerator.EOL));
+        assertEquals(1, spiFile.split(SPIGenerator.EOL).length);
+    }
+
+    @DisplayName("SHOULD not generate sources once processing is over")
+    @Test void noSourcesGeneratedInTheLastRound(){
+        val source = APT.asSource(APT.testFile(SimpleApi.class));
+        val warnings = new ArrayList<String>();
+        APT.runner().run(new RoutesAndIndexProcessor(), source).printErrorsIfAny(d -> {
+            if (d.getKind() == Diagnostic.Kind.ERROR)
+                throw new KosException(d.toString());
+            warnings.add(d.getMessage(Locale.ENGLISH));
+        });
+
+        for (val warning : warnings)
+            assertFalse(warning.contains("created in the last round"), warning);
+    }
+
+    static String exposedIndexName() {
+        return APT.readFileAsString(APT.outputGeneratedFile("META-INF/services/kos.api.BootstrapIndex")).trim();
+    }
+
+    /**
+     * Runs both processors within the same compilation, as javac does
+     * when they are discovered from the class path.
+     */
+    static class RoutesAndIndexProcessor extends AbstractProcessor {
+
+        final Processor routes = new RestApiProcessor();
+        final Processor index = new BootstrapIndexProcessor();
+
+        @Override
+        public synchronized void init(ProcessingEnvironment processingEnv) {
+            super.init(processingEnv);
+            routes.init(processingEnv);
+            index.init(processingEnv);
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return Collections.singleton("*");
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            routes.process(annotations, roundEnv);
+            index.process(annotations, roundEnv);
+            return false;
+        }
+    }
+}
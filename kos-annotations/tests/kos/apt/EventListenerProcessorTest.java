@@ -79,6 +79,38 @@ public class EventListenerProcessorTest {
                 }
             }
 
+            @Nested class WhenConcurrencyIsBounded {
+
+                @DisplayName("should generate class subscribing with the listener options")
+                @Test void process()
+                {
+                    val source = APT.asSource(APT.testFile(ListenerWithBoundedConcurrency.class));
+                    APT.run(processor, source);
+
+                    val generatedClassName = ListenerWithBoundedConcurrency.class.getCanonicalName() + "EventListenerConfiguration";
+                    val generatedClass = APT.readFileAsString(APT.outputGeneratedClass(generatedClassName));
+
+                    val expectedClass = APT.readFileAsString(APT.testFile(ListenerWithBoundedConcurrencyEventListenerConfiguration.class));
+                    assertEquals(expectedClass, generatedClass);
+                }
+            }
+
+            @Nested class WhenMessageIsImmutable {
+
+                @DisplayName("should generate class registering the message type as immutable")
+                @Test void process()
+                {
+                    val source = APT.asSource(APT.testFile(ListenerWithImmutableMessage.class));
+                    APT.run(processor, source);
+
+                    val generatedClassName = ListenerWithImmutableMessage.class.getCanonicalName() + "EventListenerConfiguration";
+                    val generatedClass = APT.readFileAsString(APT.outputGeneratedClass(generatedClassName));
+
+                    val expectedClass = APT.readFileAsString(APT.testFile(ListenerWithImmutableMessageEventListenerConfiguration.class));
+                    assertEquals(expectedClass, generatedClass);
+                }
+            }
+
             @Nested class WhenReturnsFuture {
 
                 @DisplayName("should generate class using async response and basic event handling")
@@ -2,6 +2,8 @@ package kos.apt;
 
 import kos.apt.events.EventListenerKosProcessor;
 import kos.apt.events.EventPublisherKosProcessor;
+import kos.sample.events.BatchedPublisher;
+import kos.sample.events.BatchedPublisherImpl;
 import kos.sample.events.ListenerWithValidationAndBothAsyncAndSync;
 import kos.sample.events.ListenerWithValidationAndBothAsyncAndSyncEventListenerConfiguration;
 import kos.sample.events.PublisherWithMultipleMethods;
@@ -40,4 +42,20 @@ public class EventPublisherProcessorTest {
             }
         }
     }
+
+    @Nested class WhenPublisherIsBatched {
+
+        @DisplayName("should generate class with a batching producer")
+        @Test void process()
+        {
+            val source = APT.asSource(APT.testFile(BatchedPublisher.class));
+            APT.run(processor, source);
+
+            val generatedClassName = BatchedPublisher.class.getCanonicalName() + "Impl";
+            val generatedClass = APT.readFileAsString(APT.outputGeneratedClass(generatedClassName));
+
+            val expectedClass = APT.readFileAsString(APT.testFile(BatchedPublisherImpl.class));
+            assertEquals(expectedClass, generatedClass);
+        }
+    }
 }
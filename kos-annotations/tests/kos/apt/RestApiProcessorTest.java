@@ -22,8 +22,10 @@ import kos.api.WebServerEventListener;
 import kos.apt.rest.RestApiProcessor;
 import kos.apt.spi.SPIGenerator;
 import kos.core.exception.KosException;
+import kos.sample.rest.api.ApiWithBodyLimit;
 import kos.sample.rest.api.ApiWithNoPath;
 import kos.sample.rest.api.ApiWithValidation;
+import kos.sample.rest.api.BlockingApi;
 import kos.sample.rest.api.SimpleApi;
 import lombok.*;
 import org.junit.jupiter.api.*;
@@ -93,6 +95,67 @@ class RestApiProcessorTest {
 
     }
 
+    @DisplayName("When maxBodySize is defined")
+    @Nested class WithBodyLimit {
+
+        final String generatedClassName = ApiWithBodyLimit.class.getCanonicalName() + "RoutingContextHandler";
+
+        @DisplayName("SHOULD register routes with their own body size limits")
+        @Test
+        void generateClasses() throws IOException {
+            val source = APT.asSource(APT.testFile(ApiWithBodyLimit.class));
+            APT.run(processor, source);
+
+            val generatedClass = APT.readFileAsString(APT.outputGeneratedClass(generatedClassName));
+
+            assertTrue(generatedClass.contains("event.getRouter().route( HttpMethod.POST, \"/api/limited/avatar\", 1024L, "));
+            assertTrue(generatedClass.contains("event.getRouter().routeWithStreamedBody( HttpMethod.PUT, \"/api/limited/document\", 2048L, "));
+            assertTrue(generatedClass.contains("event.getRouter().route( HttpMethod.PATCH, \"/api/limited/profile\", SimplifiedRouter.DEFAULT_MAX_BODY_SIZE, "));
+        }
+    }
+
+    @DisplayName("When @Blocking is defined")
+    @Nested class WithBlocking {
+
+        final String generatedClassName = BlockingApi.class.getCanonicalName() + "RoutingContextHandler";
+
+        @DisplayName("SHOULD run only the blocking routes off the event loop")
+        @Test
+        void generateClasses() throws IOException {
+            val source = APT.asSource(APT.testFile(BlockingApi.class));
+            APT.run(processor, source);
+
+            val generatedClass = APT.readFileAsString(APT.outputGeneratedClass(generatedClassName));
+
+            assertTrue(generatedClass.contains("implementationLoader.instanceOfOrFail(BlockingExecutor.class)"));
+            assertEquals(3, occurrencesOf("blockingExecutor.compute(", generatedClass));
+            assertTrue(generatedClass.contains("blockingExecutor.compute(new KosContext.SupplierThatMightFail<java.lang.String>()"));
+            assertTrue(generatedClass.contains("blockingExecutor.compute(\"jdbc\", new KosContext.SupplierThatMightFail<java.lang.Void>()"));
+        }
+
+        @DisplayName("SHOULD read the parameters (and streamed bodies) on the event loop, before running the route off of it")
+        @Test
+        void bindParametersOnEventLoop() throws IOException {
+            val source = APT.asSource(APT.testFile(BlockingApi.class));
+            APT.run(processor, source);
+
+            val generatedClass = APT.readFileAsString(APT.outputGeneratedClass(generatedClassName));
+            val handlerStart = generatedClass.indexOf("Handle incoming requests mapped for {@link kos.sample.rest.api.BlockingApi#uploadDocument}");
+            val readsBody = generatedClass.indexOf("param$document = Request.readBodyAsReadStream( kosContext, routingContext, ", handlerStart);
+            val readsId = generatedClass.indexOf("final long param$id = Request.readParamAsLong( kosContext, routingContext, \"id\" );", handlerStart);
+            val computes = generatedClass.indexOf("blockingExecutor.compute(", handlerStart);
+            val callsRoute = generatedClass.indexOf("handler.uploadDocument(param$id, param$document);", handlerStart);
+
+            assertTrue(handlerStart >= 0 && readsBody > handlerStart && readsId > handlerStart);
+            assertTrue(readsBody < computes && readsId < computes);
+            assertTrue(computes < callsRoute);
+        }
+
+        int occurrencesOf(String expected, String text) {
+            return text.split(java.util.regex.Pattern.quote(expected), -1).length - 1;
+        }
+    }
+
     @DisplayName("SHOULD expose the generated class as 'SPI' WHEN find classes/methods properly annotated")
     @Test void generateClasses2() throws IOException
     {
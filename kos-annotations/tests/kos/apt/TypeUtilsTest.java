@@ -143,5 +143,70 @@ class TypeUtilsTest {
             }
         }
     }
-}
 
+    @DisplayName("Streamed request bodies")
+    @Nested class StreamedRequestBodies {
+
+        @Test @DisplayName("should identify Vert.x's ReadStream and Java's Flow.Publisher as streams")
+        void isStreamType() {
+            assertTrue(TypeUtils.isStreamType("io.vertx.core.streams.ReadStream<io.vertx.core.buffer.Buffer>"));
+            assertTrue(TypeUtils.isStreamType("java.util.concurrent.Flow.Publisher<kos.sample.User>"));
+            assertFalse(TypeUtils.isStreamType("java.util.List<kos.sample.User>"));
+            assertFalse(TypeUtils.isStreamType("kos.sample.User"));
+        }
+
+        @Test @DisplayName("should find the method that reads the body for each stream type")
+        void streamReaderFor() {
+            assertEquals("readBodyAsReadStream", TypeUtils.streamReaderFor("io.vertx.core.streams.ReadStream<kos.sample.User>"));
+            assertEquals("readBodyAsPublisher", TypeUtils.streamReaderFor("java.util.concurrent.Flow.Publisher<kos.sample.User>"));
+        }
+
+        @Test @DisplayName("should extract the type of the elements emitted by the stream")
+        void streamElementType() {
+            assertEquals("kos.sample.User", TypeUtils.streamElementType("io.vertx.core.streams.ReadStream<kos.sample.User>"));
+            assertEquals("java.util.Map", TypeUtils.streamElementType("java.util.concurrent.Flow.Publisher<java.util.Map<java.lang.String,java.lang.Object>>"));
+            assertEquals("io.vertx.core.buffer.Buffer", TypeUtils.streamElementType("io.vertx.core.streams.ReadStream"));
+        }
+    }
+
+    @DisplayName("Payload types resolved at startup")
+    @Nested class PreResolvablePayloadTypes {
+
+        @Test @DisplayName("should accept non-generic application types")
+        void isPreResolvablePayloadType() {
+            assertTrue(TypeUtils.isPreResolvablePayloadType("kos.sample.User"));
+        }
+
+        @Test @DisplayName("should ignore basic, generic, array, JDK, Vert.x and Kos types")
+        void isPreResolvablePayloadType2() {
+            assertFalse(TypeUtils.isPreResolvablePayloadType(null));
+            assertFalse(TypeUtils.isPreResolvablePayloadType("int"));
+            assertFalse(TypeUtils.isPreResolvablePayloadType("java.lang.String"));
+            assertFalse(TypeUtils.isPreResolvablePayloadType("java.util.List<kos.sample.User>"));
+            assertFalse(TypeUtils.isPreResolvablePayloadType("kos.sample.User[]"));
+            assertFalse(TypeUtils.isPreResolvablePayloadType("io.vertx.core.buffer.Buffer"));
+            assertFalse(TypeUtils.isPreResolvablePayloadType("kos.api.Response"));
+        }
+    }
+
+    @DisplayName("Specialized parameter readers")
+    @Nested class SpecializedParameterReaders {
+
+        @Test @DisplayName("should use specialized readers for primitives and Strings read from params and headers")
+        void specializedReaderFor() {
+            assertEquals("readParamAsInt", TypeUtils.specializedReaderFor("Param", "int"));
+            assertEquals("readParamAsLong", TypeUtils.specializedReaderFor("Param", "long"));
+            assertEquals("readHeaderAsDouble", TypeUtils.specializedReaderFor("Header", "double"));
+            assertEquals("readHeaderAsBoolean", TypeUtils.specializedReaderFor("Header", "boolean"));
+            assertEquals("readParamAsString", TypeUtils.specializedReaderFor("Param", "java.lang.String"));
+        }
+
+        @Test @DisplayName("should fall back to the StringConverter for custom types and other annotations")
+        void specializedReaderFor2() {
+            assertNull(TypeUtils.specializedReaderFor("Param", "java.util.UUID"));
+            assertNull(TypeUtils.specializedReaderFor("Param", "java.lang.Integer"));
+            assertNull(TypeUtils.specializedReaderFor("Body", "java.lang.String"));
+            assertNull(TypeUtils.specializedReaderFor("Context", "int"));
+        }
+    }
+}
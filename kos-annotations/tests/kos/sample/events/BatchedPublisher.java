@@ -0,0 +1,12 @@
+package kos.sample.events;
+
+import io.vertx.core.Future;
+import kos.events.Publisher;
+
+import java.util.UUID;
+
+public interface BatchedPublisher {
+
+    @Publisher(value = "users::deleted", batchSize = 100)
+    Future<Void> userDeleted(UUID uuid);
+}
@@ -0,0 +1,39 @@
+package kos.sample.events;
+
+import injector.*;
+import kos.api.*;
+import kos.core.events.*;
+import io.vertx.core.*;
+import io.vertx.core.eventbus.*;
+
+/**
+ * Auto generated event bus publisher for {@link kos.sample.events.BatchedPublisher}.
+ */
+@Singleton
+@ExposedAs(ConfigurationLoadedEventListener.class)
+@javax.annotation.processing.Generated("kos.apt.EventPublisherKosProcessor")
+public class BatchedPublisherImpl implements ConfigurationLoadedEventListener, BatchedPublisher {
+
+    /**
+     * Message producer for (java.util.UUID).
+     */
+    MessageProducer<java.util.UUID> userDeletedProducer0;
+
+    @Override
+    public Future<Void> userDeleted(java.util.UUID value) {
+        return userDeletedProducer0.write(value);
+    }
+
+    @Override
+    public void on(ConfigurationLoadedEvent configurationLoadedEvent) {
+        final ImplementationLoader implementationLoader = configurationLoadedEvent.getKosContext().getImplementationLoader();
+        final EventBusSinkManager eventPublisherManager = implementationLoader.instanceOfOrFail(EventBusSinkManager.class);
+
+        userDeletedProducer0 = eventPublisherManager.createBatchingProducer("users::deleted", java.util.UUID.class, 100, 10L);
+    }
+
+    @Producer
+    public BatchedPublisher produceBatchedPublisher() {
+        return this;
+    }
+}
\ No newline at end of file
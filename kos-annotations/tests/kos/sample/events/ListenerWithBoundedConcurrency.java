@@ -0,0 +1,12 @@
+package kos.sample.events;
+
+import io.vertx.core.Future;
+import kos.events.Listener;
+
+public class ListenerWithBoundedConcurrency {
+
+    @Listener(value = "gcp::pubsub::users::deleted", maxInFlight = 8, bufferSize = 100, overflow = Listener.Overflow.REJECT)
+    Future<Void> on(String username) {
+        throw new RuntimeException("Not yet implemented");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package kos.sample.events;
+
+import kos.events.Listener;
+
+public class ListenerWithImmutableMessage {
+
+    @Listener("users::deleted")
+    void on(UserDeleted event) {
+        throw new RuntimeException("Not yet implemented");
+    }
+
+    public static final class UserDeleted {
+        final String username;
+        final long deletedAt;
+
+        public UserDeleted(String username, long deletedAt) {
+            this.username = username;
+            this.deletedAt = deletedAt;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package kos.sample.events;
+
+import io.vertx.core.*;
+import io.vertx.core.eventbus.Message;
+import kos.api.*;
+import kos.core.events.*;
+
+/**
+ * Auto generated event bus listener configuration for {@link ListenerWithImmutableMessage }.
+ */
+@SuppressWarnings("all")
+@injector.Singleton
+@injector.ExposedAs(ConfigurationLoadedEventListener.class)
+@javax.annotation.processing.Generated("kos.apt.EventListenerKosProcessor")
+public class ListenerWithImmutableMessageEventListenerConfiguration implements ConfigurationLoadedEventListener {
+
+    @Override
+    public void on(ConfigurationLoadedEvent event) {
+        final ImplementationLoader implementationLoader = event.getKosContext().getImplementationLoader();
+
+        // Auto-configure a message producer, if found in the classpath
+        final EventBusSinkManager subscriptionManager = implementationLoader.instanceOfOrFail(EventBusSinkManager.class);
+
+        final Validation validation = event.getKosContext().getDefaultValidation();
+        final Vertx vertx = event.getKosContext().getDefaultVertx();
+        final ListenerWithImmutableMessage listener = implementationLoader.instanceOfOrFail(ListenerWithImmutableMessage.class);
+
+        /*
+         * Configuring listener for
+         *  - eventBus address: "users::deleted"
+         *  - handled by: ListenerWithImmutableMessage#on
+         *  - handler is async: false
+         *  - requires validation: false
+         */
+        ImmutableMessageTypes.register(kos.sample.events.ListenerWithImmutableMessage.UserDeleted.class);
+        subscriptionManager.subscribe("users::deleted", kos.sample.events.ListenerWithImmutableMessage.UserDeleted.class, EventHandler.async((Message<kos.sample.events.ListenerWithImmutableMessage.UserDeleted> message) -> {
+            kos.sample.events.ListenerWithImmutableMessage.UserDeleted body = message.body();
+            listener.on(body);
+            return Future.succeededFuture();
+        }));
+    }
+}
\ No newline at end of file
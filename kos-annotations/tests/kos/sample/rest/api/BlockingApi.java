@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.sample.rest.api;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import kos.rest.*;
+
+@RestApi("/api/blocking")
+public class BlockingApi {
+
+    @Blocking
+    @GET(":id")
+    String retrieveName( @Param long id ) throws Exception {
+        return "user-" + id;
+    }
+
+    @Blocking("jdbc")
+    @DELETE(":id")
+    void removeUser( @Param long id ) throws Exception {
+    }
+
+    @Blocking
+    @PUT(":id/document")
+    void uploadDocument( @Param long id, @Body ReadStream<Buffer> document ) throws Exception {
+    }
+
+    @GET("count")
+    int countUsers(){
+        return 0;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.benchmarks;
+
+import kos.rest.*;
+
+/**
+ * API which route handler is generated by the {@code RestApiProcessor}, allowing
+ * the benchmarks to measure the very same code that runs in production.
+ */
+@RestApi("/benchmark")
+public interface BenchmarkApi {
+
+    @GET("users/:id")
+    BenchmarkUser retrieveUser(
+        @Param("id") long id,
+        @Header("X-Tenant") String tenant
+    );
+
+    @POST("users")
+    BenchmarkUser saveUser(
+        @Body BenchmarkUser user
+    );
+}
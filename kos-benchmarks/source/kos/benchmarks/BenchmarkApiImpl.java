@@ -0,0 +1,37 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.benchmarks;
+
+/**
+ * Minimal implementation of {@link BenchmarkApi}, so the benchmarks measure
+ * only the framework overhead.
+ */
+public class BenchmarkApiImpl implements BenchmarkApi {
+
+    private final BenchmarkUser user = BenchmarkUser.sample();
+
+    @Override
+    public BenchmarkUser retrieveUser(long id, String tenant) {
+        return user;
+    }
+
+    @Override
+    public BenchmarkUser saveUser(BenchmarkUser user) {
+        return user;
+    }
+}
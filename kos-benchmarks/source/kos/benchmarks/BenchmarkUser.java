@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.benchmarks;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Payload exchanged by the benchmarks. It is small enough to represent
+ * a typical API entity, but big enough to make serialization costs visible.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BenchmarkUser {
+
+    long id;
+    String name;
+    String email;
+    boolean active;
+    List<String> roles;
+
+    public static BenchmarkUser sample() {
+        return new BenchmarkUser(
+            1234567L, "Jane Doe", "jane.doe@example.com", true,
+            Arrays.asList("admin", "reviewer", "contributor")
+        );
+    }
+}
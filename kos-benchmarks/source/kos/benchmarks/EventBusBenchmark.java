@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageProducer;
+import kos.api.MutableKosContext;
+import kos.core.events.EventBusSinkManager;
+import kos.core.events.JsonServiceBusCodec;
+import lombok.val;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the event bus paths: the wire codec used to exchange events between
+ * nodes, and the producers created by {@link EventBusSinkManager}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class EventBusBenchmark {
+
+    static final String ADDRESS = "benchmark.users";
+
+    MutableKosContext kosContext;
+    JsonServiceBusCodec<BenchmarkUser> codec;
+    MessageProducer<BenchmarkUser> producer;
+    BenchmarkUser user;
+    Buffer encoded;
+
+    @Setup
+    public void setup() {
+        kosContext = new MutableKosContext();
+        user = BenchmarkUser.sample();
+        codec = new JsonServiceBusCodec<>(BenchmarkUser.class);
+        encoded = Buffer.buffer();
+        codec.encodeToWire(encoded, user);
+
+        val manager = new EventBusSinkManager(kosContext, Collections.emptyList(), Collections.emptyList());
+        kosContext.getDefaultVertx().eventBus().<BenchmarkUser>consumer(ADDRESS, message -> message.reply(null));
+        producer = manager.createProducer(ADDRESS, BenchmarkUser.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        LocalHttpServer.await(kosContext.getDefaultVertx().close());
+    }
+
+    @Benchmark
+    public Buffer encodeToWire() {
+        val buffer = Buffer.buffer(128);
+        codec.encodeToWire(buffer, user);
+        return buffer;
+    }
+
+    @Benchmark
+    public BenchmarkUser decodeFromWire() {
+        return codec.decodeFromWire(0, encoded);
+    }
+
+    @Benchmark
+    public Object producerWrite() {
+        return LocalHttpServer.await(producer.write(user));
+    }
+}
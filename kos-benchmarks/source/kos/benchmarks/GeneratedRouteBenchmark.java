@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.benchmarks;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.Router;
+import kos.api.MutableKosContext;
+import kos.api.WebServerEventListener;
+import kos.core.JacksonTypeCache;
+import kos.core.SimplifiedRouter;
+import kos.core.VertxFutures;
+import kos.core.validation.WebPointcutValidation;
+import lombok.val;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the route handlers generated from {@code template-route-java.mustache},
+ * covering parameter binding, body deserialization and response serialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class GeneratedRouteBenchmark {
+
+    MutableKosContext kosContext;
+    LocalHttpServer server;
+    Buffer serializedUser;
+
+    @Setup
+    public void startServer() {
+        kosContext = new MutableKosContext();
+        val loader = kosContext.getImplementationLoader();
+        loader.register(BenchmarkApi.class, new BenchmarkApiImpl());
+        loader.register(VertxFutures.class, new VertxFutures(kosContext));
+        loader.register(WebPointcutValidation.class, new WebPointcutValidation(kosContext));
+
+        val vertx = kosContext.getDefaultVertx();
+        val router = SimplifiedRouter.wrapWithAutoBodyReader(kosContext, Router.router(vertx));
+        val event = new WebServerEventListener.BeforeDeployWebServerEvent(vertx, router, new JsonObject(), kosContext);
+        new BenchmarkApiRoutingContextHandler().on(event);
+        JacksonTypeCache.warmUp();
+
+        server = new LocalHttpServer(kosContext, router);
+        serializedUser = kosContext.getDefaultSerializer().serialize(BenchmarkUser.sample());
+    }
+
+    @TearDown
+    public void stopServer() {
+        server.close();
+        kosContext.getDefaultVertx().close();
+    }
+
+    @Benchmark
+    public Object retrieveUser() {
+        return server.get("/benchmark/users/1234567", "X-Tenant", "benchmark");
+    }
+
+    @Benchmark
+    public Object saveUser() {
+        return server.post("/benchmark/users", "application/json", serializedUser);
+    }
+}
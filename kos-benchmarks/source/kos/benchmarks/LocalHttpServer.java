@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.benchmarks;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.*;
+import kos.api.KosContext;
+import kos.core.SimplifiedRouter;
+import lombok.val;
+
+/**
+ * Serves a {@link SimplifiedRouter} through a (loopback) HTTP server, sending
+ * requests to it through a keep-alive connection. Benchmarks based on it measure
+ * the whole request life cycle: decoding, routing, binding, serializing and encoding.
+ */
+class LocalHttpServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final HttpClient client;
+
+    LocalHttpServer(KosContext kosContext, SimplifiedRouter router) {
+        val vertx = kosContext.getDefaultVertx();
+        this.server = await(vertx.createHttpServer().requestHandler(router).listen(0));
+        this.client = vertx.createHttpClient(new HttpClientOptions()
+            .setDefaultHost("localhost")
+            .setDefaultPort(server.actualPort())
+            .setKeepAlive(true)
+            .setMaxPoolSize(1));
+    }
+
+    Buffer get(String uri, String headerName, String headerValue) {
+        return await(client.request(HttpMethod.GET, uri)
+            .compose(request -> request.putHeader(headerName, headerValue).send())
+            .compose(HttpClientResponse::body));
+    }
+
+    Buffer post(String uri, String contentType, Buffer body) {
+        return await(client.request(HttpMethod.POST, uri)
+            .compose(request -> request.putHeader(HttpHeaders.CONTENT_TYPE, contentType).send(body))
+            .compose(HttpClientResponse::body));
+    }
+
+    @Override
+    public void close() {
+        await(client.close());
+        await(server.close());
+    }
+
+    static <T> T await(Future<T> future) {
+        return future.toCompletionStage().toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.benchmarks;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.Router;
+import kos.api.MutableKosContext;
+import kos.api.RequestInterceptor;
+import kos.api.Response;
+import kos.core.SimplifiedRouter;
+import lombok.val;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link SimplifiedRouter} dispatches requests through
+ * a growing chain of (pass-through) {@link RequestInterceptor}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RouterDispatchBenchmark {
+
+    @Param({"0", "1", "4", "16"})
+    int interceptors;
+
+    MutableKosContext kosContext;
+    LocalHttpServer server;
+
+    @Setup
+    public void startServer() {
+        kosContext = new MutableKosContext();
+        val router = SimplifiedRouter.wrapWithAutoBodyReader(kosContext, Router.router(kosContext.getDefaultVertx()));
+        for (int i = 0; i < interceptors; i++)
+            router.intercept(new PassThroughInterceptor());
+
+        router.routeWithNoBody(HttpMethod.GET, "/ping", ctx -> Response.send(kosContext, ctx, Response.NO_CONTENT));
+        server = new LocalHttpServer(kosContext, router);
+    }
+
+    @TearDown
+    public void stopServer() {
+        server.close();
+        kosContext.getDefaultVertx().close();
+    }
+
+    @Benchmark
+    public Object dispatch() {
+        return server.get("/ping", "X-Benchmark", "dispatch");
+    }
+
+    static class PassThroughInterceptor implements RequestInterceptor {
+
+        @Override
+        public void handle(HttpServerRequest request, Handler<HttpServerRequest> next) {
+            next.handle(request);
+        }
+    }
+}
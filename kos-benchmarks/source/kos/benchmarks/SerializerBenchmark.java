@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpResponse;
+import kos.api.MutableKosContext;
+import kos.api.Serializer;
+import kos.core.client.RestClientSerializer;
+import lombok.val;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how payloads are encoded and decoded by each supported data format,
+ * either by the server-side {@link Serializer}s or by the {@link RestClientSerializer}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class SerializerBenchmark {
+
+    @Param({"application/json", "application/cbor", "application/x-jackson-smile", "application/x-msgpack"})
+    String contentType;
+
+    BenchmarkUser user;
+    Serializer serializer;
+    RestClientSerializer restClientSerializer;
+    Buffer serialized;
+    HttpResponse<Buffer> response;
+
+    @Setup
+    public void setup() {
+        val kosContext = new MutableKosContext();
+        user = BenchmarkUser.sample();
+        serializer = kosContext.getSerializerForContentType(contentType);
+        restClientSerializer = restClientSerializerFor(serializer);
+        serialized = serializer.serialize(user);
+        response = responseWithBody(serialized);
+    }
+
+    @Benchmark
+    public Buffer serialize() {
+        return serializer.serialize(user);
+    }
+
+    @Benchmark
+    public BenchmarkUser deserialize() {
+        return serializer.deserialize(serialized, BenchmarkUser.class);
+    }
+
+    @Benchmark
+    public Buffer restClientSerialize() {
+        return restClientSerializer.serialize(user);
+    }
+
+    @Benchmark
+    public BenchmarkUser restClientDeserialize() {
+        return restClientSerializer.deserialize(response, BenchmarkUser.class);
+    }
+
+    @Benchmark
+    public BenchmarkUser restClientDeserializeGeneric() {
+        return restClientSerializer.deserialize(response, new TypeReference<BenchmarkUser>() {});
+    }
+
+    private static RestClientSerializer restClientSerializerFor(Serializer serializer) {
+        if (serializer instanceof Serializer.JacksonDataFormatSerializer)
+            return new RestClientSerializer.JacksonDataFormatRestClientSerializer(
+                (Serializer.JacksonDataFormatSerializer) serializer);
+        return new RestClientSerializer.JsonRestClientSerializer();
+    }
+
+    /**
+     * Creates a response that only exposes its body, which is all serializers read from it.
+     */
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<Buffer> responseWithBody(Buffer body) {
+        return (HttpResponse<Buffer>) Proxy.newProxyInstance(
+            HttpResponse.class.getClassLoader(),
+            new Class[]{ HttpResponse.class },
+            (proxy, method, args) -> {
+                if ("body".equals(method.getName()))
+                    return body;
+                throw new UnsupportedOperationException(method.getName());
+            }
+        );
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.benchmarks;
+
+import io.vertx.core.Future;
+import kos.api.Validation;
+import kos.core.validation.DefaultValidation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how {@link DefaultValidation} finds the {@link Validation} of a type:
+ * registered for the type itself, for one of its super classes, or not registered at all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@SuppressWarnings("unchecked")
+public class ValidationBenchmark {
+
+    DefaultValidation validation;
+    BenchmarkUser user;
+    AdminUser admin;
+
+    @Setup
+    public void setup() {
+        validation = new DefaultValidation();
+        validation.memorise(new BenchmarkUserValidation());
+        user = BenchmarkUser.sample();
+        admin = new AdminUser();
+    }
+
+    @Benchmark
+    public Future<?> validateRegisteredType() {
+        return validation.validate(user, BenchmarkUser.class);
+    }
+
+    @Benchmark
+    public Future<?> validateSubclassOfRegisteredType() {
+        return validation.validate(admin, AdminUser.class);
+    }
+
+    @Benchmark
+    public Future<?> validateUnregisteredType() {
+        return validation.validate("unregistered", String.class);
+    }
+
+    static class AdminUser extends BenchmarkUser {}
+
+    static class BenchmarkUserValidation implements Validation<BenchmarkUser> {
+
+        @Override
+        public Class<BenchmarkUser> getTypeOfTheObjectBeingValidated() {
+            return BenchmarkUser.class;
+        }
+
+        @Override
+        public Future<BenchmarkUser> validate(BenchmarkUser object, Class<BenchmarkUser> targetClass) {
+            if (object.getName() == null)
+                return Future.failedFuture("name is required");
+            return Future.succeededFuture(object);
+        }
+    }
+}
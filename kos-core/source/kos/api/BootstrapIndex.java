@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.api;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Index of the classes generated by the Kos annotation processors at build
+ * time. It lists the implementations of each SPI type along with direct
+ * constructor references, allowing them to be instantiated with no reflection.
+ * Indexes are exposed through {@code META-INF/services/kos.api.BootstrapIndex}.
+ */
+public interface BootstrapIndex {
+
+    /**
+     * @return the indexed implementations, grouped by the SPI type they are exposed as.
+     */
+    Map<Class<?>, List<Implementation>> getImplementations();
+
+    /**
+     * An indexed implementation of a SPI type.
+     */
+    @Value class Implementation {
+        @NonNull Class<?> type;
+        @NonNull Supplier<?> constructor;
+    }
+}
@@ -25,6 +25,17 @@ import lombok.Value;
  */
 public interface ConfigurationLoadedEventListener {
 
+    /**
+     * Defines the notification priority, where the bigger the returned
+     * value sooner the listener is notified. Listeners sharing the same
+     * priority might be notified concurrently (see {@code startup.parallelism}),
+     * thus they should be thread-safe if such parallelism is enabled.
+     * Defaults to 0.
+     */
+    default int priority() {
+        return 0;
+    }
+
     void on(ConfigurationLoadedEvent configurationLoadedEvent);
 
     @Value class ConfigurationLoadedEvent {
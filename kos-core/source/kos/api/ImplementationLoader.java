@@ -16,12 +16,14 @@
 
 package kos.api;
 
+import kos.core.IndexedImplementations;
 import kos.core.exception.KosException;
 import kos.core.Lang;
 import lombok.*;
 import lombok.experimental.Accessors;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -94,14 +96,49 @@ public interface ImplementationLoader {
 
     <T> void register(Class<T> type, T instance);
 
+    /**
+     * {@link ImplementationLoader} backed by the Java's {@link ServiceLoader}. The
+     * {@code META-INF/services} files of each interface are read only once, and the
+     * loaded implementations (as well as the instantiated classes) are kept as singletons.
+     * Implementations listed in a {@link BootstrapIndex} are created through its
+     * constructor references, skipping the reflective instantiation.
+     */
     @SuppressWarnings("unchecked")
     class SPIImplementationLoader implements ImplementationLoader {
         
-        final Map<Class, Object> instances = new HashMap<>();
+        final Map<Class, Object> instances = new ConcurrentHashMap<>();
+        final Map<Class, List> exposedInstances = new ConcurrentHashMap<>();
+        final IndexedImplementations indexed;
+
+        public SPIImplementationLoader() {
+            this(IndexedImplementations.load());
+        }
+
+        public SPIImplementationLoader(@NonNull IndexedImplementations indexed) {
+            this.indexed = indexed;
+        }
 
         @Override
         public <T> Iterable<T> instancesExposedAs(Class<T> interfaceType) {
-            return ServiceLoader.load(interfaceType);
+            List<T> found = exposedInstances.get(interfaceType);
+            if (found == null) {
+                // Providers might look up other services while being instantiated,
+                // thus they are loaded outside the map to avoid recursive updates.
+                found = loadServices(interfaceType);
+                val previous = exposedInstances.putIfAbsent(interfaceType, found);
+                if (previous != null)
+                    found = previous;
+            }
+            return found;
+        }
+
+        private <T> List<T> loadServices(Class<T> interfaceType) {
+            val loaded = new ArrayList<T>(indexed.instancesOf(interfaceType));
+            if (!indexed.isSufficientFor(interfaceType))
+                ServiceLoader.load(interfaceType).stream()
+                    .filter(provider -> !indexed.isIndexed(interfaceType, provider.type()))
+                    .forEach(provider -> loaded.add(provider.get()));
+            return Collections.unmodifiableList(loaded);
         }
 
         @Override
@@ -112,7 +149,8 @@ public interface ImplementationLoader {
             if (type.isInterface())
                 return Lang.first(instancesExposedAs(type));
             val instance = Lang.instantiate(type);
-            return Result.of(instance);
+            val previous = (T) instances.putIfAbsent(type, instance);
+            return Result.of(previous != null ? previous : instance);
         }
 
         @Override
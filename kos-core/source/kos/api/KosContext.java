@@ -6,9 +6,13 @@ import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.WebClient;
+import kos.core.WorkerPools;
 import kos.core.client.RestClientSerializer;
+import kos.core.client.WebClientRegistry;
 import lombok.NonNull;
 
+import java.util.Map;
+
 /**
  * This object is read-only representation of all sensible configuration
  * that have been previously defined at the Kos' application initialization.
@@ -82,10 +86,27 @@ public interface KosContext
     @NonNull ConfigRetriever getConfigRetriever();
 
     /**
-     * @return the read Vert.x configuration object.
+     * @return the read Vert.x configuration object. Blocks the current thread
+     *  if the configuration wasn't read yet, failing when called from an event loop.
      */
     @NonNull JsonObject getApplicationConfig();
 
+    /**
+     * Non-blocking alternative to {@link #getApplicationConfig()}.
+     *
+     * @return a future holding the read Vert.x configuration object.
+     */
+    default @NonNull Future<JsonObject> readApplicationConfig() {
+        return Future.succeededFuture(getApplicationConfig());
+    }
+
+    /**
+     * @return the available {@link Serializer}s, indexed by the Content-Type they handle,
+     * in registration order (JSON, plain text, then the available binary formats). Content
+     * negotiation picks the first matching serializer in this order.
+     */
+    @NonNull Map<String, Serializer> getSerializers();
+
     /**
      * @return the {@link Serializer} configured for a given {@code contentType}.
      */
@@ -99,10 +120,37 @@ public interface KosContext
 
     @NonNull ImplementationLoader getSpi();
 
+    /**
+     * @return the registry of {@link WebClient}s created for Rest Clients with
+     *  their own options, and of the usage of the hosts they target.
+     */
+    @NonNull WebClientRegistry getWebClientRegistry();
+
+    /**
+     * @return the named worker pools used to run blocking code.
+     */
+    @NonNull WorkerPools getWorkerPools();
+
+    /**
+     * Runs {@code runner} on the {@code default} worker pool.
+     */
     Future<Void> runBlocking(RunnerThatMightFail runner);
 
+    /**
+     * Computes {@code supplier} on the {@code default} worker pool.
+     */
     <T> Future<T> computeBlocking(SupplierThatMightFail<T> supplier);
 
+    /**
+     * Runs {@code runner} on the worker pool named {@code workerPool}.
+     */
+    Future<Void> runBlocking(String workerPool, RunnerThatMightFail runner);
+
+    /**
+     * Computes {@code supplier} on the worker pool named {@code workerPool}.
+     */
+    <T> Future<T> computeBlocking(String workerPool, SupplierThatMightFail<T> supplier);
+
     @FunctionalInterface
     interface SupplierThatMightFail<T> { T get() throws Exception; }
 
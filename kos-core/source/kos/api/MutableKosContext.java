@@ -19,15 +19,19 @@ package kos.api;
 import io.vertx.config.ConfigRetriever;
 import io.vertx.config.ConfigRetrieverOptions;
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.WebClient;
 import kos.core.Lang;
+import kos.core.WorkerPools;
 import kos.core.client.RestClientSerializer;
+import kos.core.client.WebClientRegistry;
 import kos.core.events.DefaultEventBusMessageCodecFactory;
+import kos.core.exception.ContentNegotiationException;
+import kos.core.exception.ContentNegotiationExceptionHandler;
+import kos.core.exception.KosException;
 import kos.core.exception.PredicateExceptionHandler;
 import kos.core.validation.DefaultValidation;
 import lombok.Getter;
@@ -35,7 +39,7 @@ import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.val;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static kos.api.Serializer.INVALID_SERIALIZER;
@@ -46,6 +50,16 @@ import static kos.api.Serializer.INVALID_SERIALIZER;
 public class MutableKosContext implements KosContext
 {
 
+    /**
+     * Binary Jackson data formats (and its Content-Types) made available
+     * whenever they are found in the class path.
+     */
+    private static final Map<String, String> BINARY_DATA_FORMATS = Lang
+        .mapOf( "application/cbor", "com.fasterxml.jackson.dataformat.cbor.CBORFactory" )
+          .and( "application/x-jackson-smile", "com.fasterxml.jackson.dataformat.smile.SmileFactory" )
+          .and( "application/x-msgpack", "org.msgpack.jackson.dataformat.MessagePackFactory" )
+            .build();
+
     private final AvailablePayloadStrategies availablePayloadStrategies = new AvailablePayloadStrategies();
 
     private final Map<String, Serializer> serializers;
@@ -66,7 +80,9 @@ public class MutableKosContext implements KosContext
     private ExceptionHandler exceptionHandler;
     private Validation defaultValidation;
     private ConfigRetriever configRetriever;
-    private JsonObject applicationConfig;
+    private volatile JsonObject applicationConfig;
+    private volatile WorkerPools workerPools;
+    private volatile WebClientRegistry webClientRegistry;
 
     public MutableKosContext(){
         this(new ImplementationLoader.SPIImplementationLoader());
@@ -74,19 +90,25 @@ public class MutableKosContext implements KosContext
 
     public MutableKosContext(ImplementationLoader spi) {
         this.spi = spi;
-        this.restClientSerializers = loadRestClientSerializers();
         this.serializers = loadSerializers();
+        this.restClientSerializers = loadRestClientSerializers();
         this.implementationLoader = spi;
         this.defaultSerializer = getSerializers().get("application/json");
         this.defaultEventBusCodecFactory = new DefaultEventBusMessageCodecFactory();
         this.payloadSerializationStrategy = new SingleSerializerStrategy(getDefaultSerializer());
         this.httpServerOptions = new HttpServerOptions().setPort(9000);
-        this.exceptionHandler = new PredicateExceptionHandler();
+        this.exceptionHandler = createDefaultExceptionHandler();
         this.defaultValidation = new DefaultValidation();
         this.stringConverter = new StringConverter.DefaultStringConverter();
         this.defaultRestClientSerializer = getRestClientSerializers().get("application/json");
     }
 
+    private static ExceptionHandler createDefaultExceptionHandler() {
+        val exceptionHandler = new PredicateExceptionHandler();
+        exceptionHandler.add(t -> t instanceof ContentNegotiationException, new ContentNegotiationExceptionHandler());
+        return exceptionHandler;
+    }
+
     public ConfigRetriever getConfigRetriever() {
         if (configRetriever == null)
             configRetriever = loadConfigRetriever();
@@ -111,7 +133,7 @@ public class MutableKosContext implements KosContext
     }
 
     private Map<String, Serializer> loadSerializers() {
-        val serializers = new HashMap<String, Serializer>();
+        val serializers = new LinkedHashMap<String, Serializer>();
 
         val json = new Serializer.JsonSerializer();
         serializers.put(json.contentType(), json);
@@ -119,14 +141,27 @@ public class MutableKosContext implements KosContext
         val plainText = new Serializer.PlainTextSerializer(this);
         serializers.put(plainText.contentType(), plainText);
 
+        for (val dataFormat : BINARY_DATA_FORMATS.entrySet()) {
+            val binary = Serializer.JacksonDataFormatSerializer.createIfAvailable(dataFormat.getKey(), dataFormat.getValue());
+            if (binary != null)
+                serializers.put(binary.contentType(), binary);
+        }
+
         return serializers;
     }
 
     private Map<String, RestClientSerializer> loadRestClientSerializers() {
-        val serializers = new HashMap<String, RestClientSerializer>();
+        val serializers = new LinkedHashMap<String, RestClientSerializer>();
 
         val json = new RestClientSerializer.JsonRestClientSerializer();
         serializers.put(json.contentType(), json);
+
+        for (val serializer : getSerializers().values())
+            if (serializer instanceof Serializer.JacksonDataFormatSerializer) {
+                val binary = new RestClientSerializer.JacksonDataFormatRestClientSerializer((Serializer.JacksonDataFormatSerializer) serializer);
+                serializers.put(binary.contentType(), binary);
+            }
+
         return serializers;
     }
 
@@ -136,42 +171,64 @@ public class MutableKosContext implements KosContext
 
     public JsonObject getApplicationConfig() {
         if (applicationConfig != null) return applicationConfig;
+        return Lang.waitFor(readApplicationConfig());
+    }
 
-        Future<JsonObject> future = Future.future(getConfigRetriever()::getConfig);
-        future.onComplete(obj -> {
-            if (obj.succeeded())
-                applicationConfig = obj.result();
-        });
+    @Override
+    public Future<JsonObject> readApplicationConfig() {
+        if (applicationConfig != null)
+            return Future.succeededFuture(applicationConfig);
+
+        return getConfigRetriever().getConfig()
+            .onSuccess(config -> applicationConfig = config);
+    }
+
+    public WebClientRegistry getWebClientRegistry() {
+        // web server instances are deployed concurrently, and must share the same registry
+        if (webClientRegistry == null)
+            synchronized (this) {
+                if (webClientRegistry == null)
+                    webClientRegistry = new WebClientRegistry(this::getDefaultVertx);
+            }
+        return webClientRegistry;
+    }
 
-        return Lang.waitFor(future);
+    public WorkerPools getWorkerPools() {
+        if (workerPools == null)
+            synchronized (this) {
+                if (workerPools == null)
+                    workerPools = new WorkerPools(this::getDefaultVertx, () -> applicationConfig);
+            }
+        return workerPools;
     }
 
     @Override public <T> Future<T> computeBlocking(SupplierThatMightFail<T> supplier)
     {
-        val promise = Promise.<T>promise();
-        getDefaultVertx().executeBlocking(future -> {
-            try {
-                val result = supplier.get();
-                future.complete(result);
-            } catch (Throwable cause) {
-                future.fail(cause);
-            }
-        }, promise);
-        return promise.future();
+        return computeBlocking(WorkerPools.DEFAULT_POOL, supplier);
     }
 
     @Override public Future<Void> runBlocking(RunnerThatMightFail runner)
     {
-        val promise = Promise.<Void>promise();
-        getDefaultVertx().executeBlocking(future -> {
-            try {
-                runner.run();
-                future.complete();
-            } catch (Throwable cause) {
-                future.fail(cause);
-            }
-        }, promise);
-        return promise.future();
+        return runBlocking(WorkerPools.DEFAULT_POOL, runner);
+    }
+
+    @Override public <T> Future<T> computeBlocking(String workerPool, SupplierThatMightFail<T> supplier)
+    {
+        final WorkerPools.WorkerPool pool;
+        try {
+            pool = getWorkerPools().get(workerPool);
+        } catch (KosException cause) {
+            return Future.failedFuture(cause);
+        }
+        return pool.compute(supplier);
+    }
+
+    @Override public Future<Void> runBlocking(String workerPool, RunnerThatMightFail runner)
+    {
+        return computeBlocking(workerPool, () -> {
+            runner.run();
+            return null;
+        });
     }
 
     @Override
@@ -227,5 +284,20 @@ public class MutableKosContext implements KosContext
             val strategy = new HeaderParserStrategy(kosConfiguration, HttpHeaders.CONTENT_TYPE, defaultContentType);
             setPayloadSerializationStrategy(strategy);
         }
+
+        /**
+         * Creates an strategy that negotiates the response serializer through the
+         * {@code Accept} header sent by the client, honouring its q-values. Clients
+         * that doesn't send an {@code Accept} header will receive responses serialized
+         * as {@code defaultContentType}. Requests whose {@code Accept} header matches none
+         * of the available serializers are rejected with a {@code 406 Not Acceptable}
+         * response, through a {@link ContentNegotiationException}.
+         * Request payloads will be deserialized according to its {@code Content-Type} header,
+         * being rejected with {@code 415 Unsupported Media Type} if no serializer is available for it.
+         */
+        public void negotiateSerializerFromAcceptHeader(String defaultContentType) {
+            val strategy = new AcceptHeaderNegotiationStrategy(MutableKosContext.this, defaultContentType);
+            setPayloadSerializationStrategy(strategy);
+        }
     }
 }
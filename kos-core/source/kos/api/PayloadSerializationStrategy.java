@@ -18,9 +18,17 @@ package kos.api;
 
 import io.vertx.core.*;
 import io.vertx.core.http.*;
+import kos.core.exception.ContentNegotiationException;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 /**
  * Defines how Kos will handle the serialization and deserialization
  * for every received request.
@@ -31,6 +39,12 @@ public interface PayloadSerializationStrategy {
 
     Serializer serializerFor(HttpServerRequest request);
 
+    /**
+     * Negotiates the format of the response before the request is handled.
+     * Strategies that doesn't take the request into account to pick the
+     * response serializer don't need to override this method.
+     */
+    default void negotiate(HttpServerRequest request) {}
 }
 
 @RequiredArgsConstructor
@@ -49,33 +63,229 @@ class SingleSerializerStrategy implements PayloadSerializationStrategy {
     }
 }
 
+/**
+ * Picks serializers from the media type defined by {@link #header}. As the very same
+ * header values are sent on every request, the resolved serializers are cached by
+ * the raw header value, avoiding parsing them over and over again.
+ */
 @RequiredArgsConstructor
 class HeaderParserStrategy implements PayloadSerializationStrategy {
 
+    final NegotiationCache resolved = new NegotiationCache();
+
     final KosContext kosContext;
     final CharSequence header;
     final String defaultContentType;
 
+    /**
+     * @throws ContentNegotiationException (406) if no serializer is available for the response media type.
+     */
     @Override
     public Serializer serializerFor(HttpServerResponse response) {
-        val contentType = parseContentTypeHeader(response.headers());
-        return kosContext.getSerializerForContentType(contentType);
+        return resolve(response.headers().get(header), ContentNegotiationException::notAcceptable);
     }
 
+    /**
+     * @throws ContentNegotiationException (415) if no serializer is available for the request media type.
+     */
     @Override
     public Serializer serializerFor(HttpServerRequest request) {
-        val contentType = parseContentTypeHeader(request.headers());
-        return kosContext.getSerializerForContentType(contentType);
+        return resolve(request.headers().get(header), ContentNegotiationException::unsupportedMediaType);
+    }
+
+    private Serializer resolve(String headerValue, Function<String, ContentNegotiationException> onUnknownMediaType) {
+        if (headerValue == null)
+            return kosContext.getSerializerForContentType(defaultContentType);
+
+        var serializer = resolved.get(headerValue);
+        if (serializer == null) {
+            val contentType = parseMediaType(headerValue);
+            serializer = kosContext.getSerializers().get(contentType);
+            if (serializer == null)
+                throw onUnknownMediaType.apply(contentType);
+            resolved.put(headerValue, serializer);
+        }
+        return serializer;
     }
 
     String parseContentTypeHeader(MultiMap headers) {
-        var value = headers.get(header);
+        val value = headers.get(header);
         if (value == null)
-            value = defaultContentType;
-        else {
-            var pos = value.indexOf(';');
-            value = value.substring(0, pos > -1 ? pos : value.length());
+            return defaultContentType;
+        return parseMediaType(value);
+    }
+
+    /**
+     * @return the media type, with no parameters, defined in {@code headerValue}.
+     */
+    static String parseMediaType(String headerValue) {
+        val pos = headerValue.indexOf(';');
+        val mediaType = pos > -1 ? headerValue.substring(0, pos) : headerValue;
+        return mediaType.trim().toLowerCase(Locale.ROOT);
+    }
+}
+
+/**
+ * A bounded cache of negotiation results, indexed by the raw header value. Clients
+ * usually send a handful of distinct header values, thus the cache is simply emptied
+ * once it gets full, avoiding the bookkeeping required by an LRU policy.
+ */
+class NegotiationCache {
+
+    static final int MAX_ENTRIES = 256;
+
+    final Map<String, Serializer> entries = new ConcurrentHashMap<>();
+
+    Serializer get(String headerValue) {
+        return entries.get(headerValue);
+    }
+
+    void put(String headerValue, Serializer serializer) {
+        if (entries.size() >= MAX_ENTRIES)
+            entries.clear();
+        entries.put(headerValue, serializer);
+    }
+}
+
+/**
+ * Picks the response serializer from the {@code Accept} header, honouring
+ * the preference defined by its q-values. As clients usually send the very
+ * same {@code Accept} header on every request, negotiation results are
+ * cached by the raw header value. Request payloads are deserialized
+ * according to its {@code Content-Type} header.
+ */
+class AcceptHeaderNegotiationStrategy implements PayloadSerializationStrategy {
+
+    final NegotiationCache negotiated = new NegotiationCache();
+
+    final KosContext kosContext;
+    final String defaultContentType;
+    final HeaderParserStrategy contentTypeParser;
+
+    AcceptHeaderNegotiationStrategy(KosContext kosContext, String defaultContentType) {
+        this.kosContext = kosContext;
+        this.defaultContentType = defaultContentType;
+        this.contentTypeParser = new HeaderParserStrategy(kosContext, HttpHeaders.CONTENT_TYPE, defaultContentType);
+    }
+
+    @Override
+    public void negotiate(HttpServerRequest request) {
+        val serializer = serializerForAcceptHeader(request.getHeader(HttpHeaders.ACCEPT));
+        request.response().putHeader(HttpHeaders.CONTENT_TYPE, serializer.contentType());
+    }
+
+    /**
+     * @return the serializer negotiated by {@link #negotiate(HttpServerRequest)}.
+     */
+    @Override
+    public Serializer serializerFor(HttpServerResponse response) {
+        return contentTypeParser.serializerFor(response);
+    }
+
+    @Override
+    public Serializer serializerFor(HttpServerRequest request) {
+        return contentTypeParser.serializerFor(request);
+    }
+
+    Serializer serializerForAcceptHeader(String acceptHeader) {
+        if (acceptHeader == null)
+            return kosContext.getSerializerForContentType(defaultContentType);
+
+        var serializer = negotiated.get(acceptHeader);
+        if (serializer == null) {
+            serializer = negotiateSerializer(acceptHeader);
+            negotiated.put(acceptHeader, serializer);
+        }
+        return serializer;
+    }
+
+    /**
+     * @throws ContentNegotiationException (406) if none of the acceptable media types are available.
+     */
+    private Serializer negotiateSerializer(String acceptHeader) {
+        for (val mediaRange : MediaRange.parse(acceptHeader)) {
+            val serializer = findSerializerMatching(mediaRange);
+            if (serializer != null)
+                return serializer;
+        }
+        throw ContentNegotiationException.notAcceptable(acceptHeader);
+    }
+
+    /**
+     * Wildcard media ranges (e.g. {@code application/*}) pick the default serializer when it
+     * matches. Otherwise, the first matching serializer in registration order is picked
+     * (see {@link KosContext#getSerializers()}).
+     */
+    private Serializer findSerializerMatching(MediaRange mediaRange) {
+        val serializers = kosContext.getSerializers();
+        if (mediaRange.isWildcard() && mediaRange.matches(defaultContentType))
+            return serializers.get(defaultContentType);
+        if (!mediaRange.isWildcard())
+            return serializers.get(mediaRange.mediaType);
+
+        for (val serializer : serializers.values())
+            if (mediaRange.matches(serializer.contentType()))
+                return serializer;
+        return null;
+    }
+
+    /**
+     * A media range (and its q-value) sent in the {@code Accept} header.
+     */
+    @RequiredArgsConstructor
+    static class MediaRange {
+
+        final String mediaType;
+        final double quality;
+
+        boolean isWildcard(){
+            return mediaType.endsWith("/*");
+        }
+
+        boolean matches(String contentType) {
+            if (mediaType.equals("*/*"))
+                return true;
+            if (isWildcard())
+                return contentType.startsWith(mediaType.substring(0, mediaType.length() - 1));
+            return mediaType.equals(contentType);
+        }
+
+        /**
+         * @return the acceptable media ranges sorted by its preference. Media ranges
+         * with the same q-value keep the order they have been sent.
+         */
+        static Iterable<MediaRange> parse(String acceptHeader) {
+            val ranges = new ArrayList<MediaRange>();
+            for (val entry : acceptHeader.split(",")) {
+                val range = parseMediaRange(entry);
+                if (range != null && range.quality > 0)
+                    ranges.add(range);
+            }
+            ranges.sort(Comparator.comparingDouble((MediaRange range) -> range.quality).reversed());
+            return ranges;
+        }
+
+        private static MediaRange parseMediaRange(String entry) {
+            val params = entry.split(";");
+            val mediaType = params[0].trim().toLowerCase(Locale.ROOT);
+            if (mediaType.isEmpty())
+                return null;
+
+            var quality = 1.0;
+            for (int i = 1; i < params.length; i++) {
+                val param = params[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q="))
+                    quality = parseQuality(param.substring(2));
+            }
+            return new MediaRange(mediaType, quality);
+        }
+
+        private static double parseQuality(String value) {
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException cause) {
+                return 0;
+            }
         }
-        return value;
     }
 }
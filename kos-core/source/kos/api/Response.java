@@ -16,6 +16,7 @@
 
 package kos.api;
 
+import io.netty.util.AsciiString;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
@@ -23,37 +24,83 @@ import io.vertx.ext.web.RoutingContext;
 import lombok.*;
 import lombok.experimental.Accessors;
 
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 
 /**
- * Represents a (mutable object) response to be sent to the http client.
+ * Represents an (immutable object) response to be sent to the http client.
+ * Methods that modify the response, like {@link #addHeader(CharSequence, CharSequence)},
+ * return a modified copy, allowing responses to be pre-built once and
+ * shared as constants across requests. Callers must always use the returned
+ * response, as the original one is left untouched.
  */
 public interface Response {
 
     int statusCode();
+
+    /**
+     * @deprecated responses are immutable, thus this method no longer changes
+     * the status code in place. It behaves exactly as {@link #withStatusCode(int)},
+     * which should be used instead to make it clear the returned response must be used.
+     */
+    @Deprecated
     Response statusCode(int value);
 
+    /**
+     * @return a copy of this response with the given status code.
+     */
+    default Response withStatusCode(int value) {
+        return statusCode(value);
+    }
+
+    /**
+     * @return a read-only view of the response headers. Attempts to modify it will
+     * fail with {@link UnsupportedOperationException}. Use {@link #addHeader(CharSequence, CharSequence)}
+     * or {@link #withHeaders(Map)} instead.
+     */
     Map<CharSequence, CharSequence> headers();
+
+    /**
+     * @return a copy of this response including the given header.
+     */
     Response addHeader(CharSequence key, CharSequence value);
+
+    /**
+     * @deprecated responses are immutable, thus this method no longer changes
+     * the headers in place. It behaves exactly as {@link #withHeaders(Map)},
+     * which should be used instead to make it clear the returned response must be used.
+     */
+    @Deprecated
     Response headers(Map<CharSequence, CharSequence> value);
 
+    /**
+     * @return a copy of this response with the given headers, replacing the previous ones.
+     */
+    default Response withHeaders(Map<CharSequence, CharSequence> value) {
+        return headers(value);
+    }
+
     void send(KosContext kosContext, HttpServerResponse response );
 
     /**
      * Creates an empty response (defaults to 204 HTTP Status).
      */
     static Response empty(){
-        return new EmptyResponse().statusCode(204);
+        return new EmptyResponse(204, ResponseHeaders.EMPTY);
     }
 
     /**
      * Creates an empty response for a given {@code statusCode}.
      */
     static Response empty(int statusCode){
-        return new EmptyResponse().statusCode(statusCode);
+        return new EmptyResponse(statusCode, ResponseHeaders.EMPTY);
     }
 
     /**
@@ -119,10 +166,9 @@ public interface Response {
      */
     static void send(KosContext kosContext, HttpServerResponse httpResponse, Object payload) {
         val serializer = kosContext.getPayloadSerializationStrategy().serializerFor(httpResponse);
-        val buffer = serializer.serialize(payload);
         httpResponse.setStatusCode(200);
         httpResponse.putHeader(CONTENT_TYPE, serializer.contentType());
-        httpResponse.end(buffer);
+        serializer.serializeAndSend(payload, httpResponse);
     }
 
     /**
@@ -169,13 +215,64 @@ public interface Response {
     }
 }
 
-@Getter @Setter
+/**
+ * Base class for the built-in (immutable) responses. Every method that changes
+ * the response (e.g. {@link #addHeader(CharSequence, CharSequence)}) returns a new
+ * instance, allowing responses to be safely shared as constants across requests.
+ */
 @Accessors(fluent = true)
-@AllArgsConstructor
 abstract class AbstractResponse implements Response {
 
-    int statusCode;
-    @NonNull Map<CharSequence, CharSequence> headers;
+    @Getter
+    final int statusCode;
+    final ResponseHeaders compactHeaders;
+
+    AbstractResponse(int statusCode, @NonNull ResponseHeaders compactHeaders) {
+        this.statusCode = statusCode;
+        this.compactHeaders = compactHeaders;
+    }
+
+    /**
+     * Creates a copy of this response with the given status and headers.
+     */
+    abstract AbstractResponse copy(int statusCode, ResponseHeaders headers);
+
+    @Override
+    public Response withStatusCode(int value) {
+        if (value == statusCode)
+            return this;
+        return copy(value, compactHeaders);
+    }
+
+    @Override
+    @Deprecated
+    public Response statusCode(int value) {
+        return withStatusCode(value);
+    }
+
+    /**
+     * @return a read-only view of the headers defined in this response.
+     */
+    @Override
+    public Map<CharSequence, CharSequence> headers() {
+        return compactHeaders.asMap();
+    }
+
+    @Override
+    public Response withHeaders(@NonNull Map<CharSequence, CharSequence> value) {
+        return copy(statusCode, ResponseHeaders.from(value));
+    }
+
+    @Override
+    @Deprecated
+    public Response headers(@NonNull Map<CharSequence, CharSequence> value) {
+        return withHeaders(value);
+    }
+
+    @Override
+    public Response addHeader(CharSequence key, CharSequence value) {
+        return copy(statusCode, compactHeaders.with(key, value));
+    }
 
     @Override
     public void send(KosContext kosContext, HttpServerResponse response) {
@@ -185,8 +282,145 @@ abstract class AbstractResponse implements Response {
 
     protected void sendStatusAndHeader(HttpServerResponse response) {
         response.setStatusCode(this.statusCode);
-        for ( val header : headers().entrySet() )
-            response.putHeader(header.getKey(), header.getValue());
+        compactHeaders.writeTo(response);
+    }
+}
+
+/**
+ * Compact and immutable representation of the response headers. Headers are
+ * kept in small arrays, sent with no allocation at all, and its names are
+ * interned as {@link AsciiString}s, being encoded only once.
+ */
+final class ResponseHeaders {
+
+    static final ResponseHeaders EMPTY = new ResponseHeaders(new AsciiString[0], new CharSequence[0]);
+
+    /**
+     * Header names are usually a small set of constants. The limit guards the application
+     * against dynamically generated header names, which won't be interned beyond it.
+     */
+    static final int MAX_INTERNED_NAMES = 1024;
+    private static final Map<String, AsciiString> internedNames = new ConcurrentHashMap<>();
+
+    private final AsciiString[] names;
+    private final CharSequence[] values;
+
+    private ResponseHeaders(AsciiString[] names, CharSequence[] values) {
+        this.names = names;
+        this.values = values;
+    }
+
+    static ResponseHeaders from(Map<CharSequence, CharSequence> headers) {
+        var compact = EMPTY;
+        for (val header : headers.entrySet())
+            compact = compact.with(header.getKey(), header.getValue());
+        return compact;
+    }
+
+    /**
+     * @return a copy of these headers including {@code name}. Previously defined
+     * headers with the same name (ignoring its case) are replaced.
+     */
+    ResponseHeaders with(@NonNull CharSequence name, @NonNull CharSequence value) {
+        val internedName = intern(name);
+        for (int i = 0; i < names.length; i++)
+            if (names[i].contentEqualsIgnoreCase(internedName)) {
+                val newValues = values.clone();
+                newValues[i] = value;
+                return new ResponseHeaders(names, newValues);
+            }
+
+        val newNames = Arrays.copyOf(names, names.length + 1);
+        val newValues = Arrays.copyOf(values, values.length + 1);
+        newNames[names.length] = internedName;
+        newValues[values.length] = value;
+        return new ResponseHeaders(newNames, newValues);
+    }
+
+    void writeTo(HttpServerResponse response) {
+        for (int i = 0; i < names.length; i++)
+            response.putHeader(names[i], values[i]);
+    }
+
+    /**
+     * @return a read-only map with the headers. Its keys are case-insensitive.
+     */
+    Map<CharSequence, CharSequence> asMap() {
+        val map = new TreeMap<CharSequence, CharSequence>(ResponseHeaders::compareIgnoringCase);
+        for (int i = 0; i < names.length; i++)
+            map.put(names[i], values[i]);
+        return new ReadOnlyView(map);
+    }
+
+    static AsciiString intern(CharSequence name) {
+        if (name instanceof AsciiString)
+            return (AsciiString) name;
+
+        val key = name.toString();
+        var interned = internedNames.get(key);
+        if (interned == null) {
+            interned = AsciiString.cached(key);
+            if (internedNames.size() < MAX_INTERNED_NAMES)
+                internedNames.putIfAbsent(key, interned);
+        }
+        return interned;
+    }
+
+    private static int compareIgnoringCase(CharSequence first, CharSequence second) {
+        return first.toString().compareToIgnoreCase(second.toString());
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+
+    /**
+     * Read-only map that explains why it can't be modified. Before responses were
+     * immutable, headers were usually added by modifying this map in place.
+     */
+    @RequiredArgsConstructor
+    private static class ReadOnlyView extends AbstractMap<CharSequence, CharSequence> {
+
+        static final String MSG_IMMUTABLE_HEADERS = "Response headers are immutable. " +
+            "Use Response.addHeader() or Response.withHeaders() and send the returned response instead.";
+
+        final Map<CharSequence, CharSequence> headers;
+
+        @Override
+        public Set<Entry<CharSequence, CharSequence>> entrySet() {
+            return Collections.unmodifiableMap(headers).entrySet();
+        }
+
+        @Override
+        public CharSequence get(Object key) {
+            return headers.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return headers.containsKey(key);
+        }
+
+        @Override
+        public CharSequence put(CharSequence key, CharSequence value) {
+            throw new UnsupportedOperationException(MSG_IMMUTABLE_HEADERS);
+        }
+
+        @Override
+        public void putAll(Map<? extends CharSequence, ? extends CharSequence> m) {
+            throw new UnsupportedOperationException(MSG_IMMUTABLE_HEADERS);
+        }
+
+        @Override
+        public CharSequence remove(Object key) {
+            throw new UnsupportedOperationException(MSG_IMMUTABLE_HEADERS);
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException(MSG_IMMUTABLE_HEADERS);
+        }
     }
 }
 
@@ -194,18 +428,21 @@ abstract class AbstractResponse implements Response {
 class EmptyResponse extends AbstractResponse {
 
     public EmptyResponse() {
-        this(200, new HashMap<>());
+        this(200, ResponseHeaders.EMPTY);
     }
 
-    private EmptyResponse(int statusCode, @NonNull Map<CharSequence, CharSequence> headers) {
+    EmptyResponse(int statusCode, @NonNull ResponseHeaders headers) {
         super(statusCode, headers);
     }
 
-    public Response addHeader(CharSequence key, CharSequence value) {
-        val newHeaders = new HashMap<>(headers);
-        newHeaders.put(key, value);
+    @Override
+    AbstractResponse copy(int statusCode, ResponseHeaders headers) {
+        return new EmptyResponse(statusCode, headers);
+    }
 
-        return new EmptyResponse(statusCode, newHeaders);
+    @Override
+    public String toString() {
+        return "EmptyResponse(statusCode=" + statusCode + ", headers=" + compactHeaders + ")";
     }
 }
 
@@ -216,19 +453,17 @@ class RawResponse extends AbstractResponse {
     final Buffer buffer;
 
     public RawResponse(Buffer buffer) {
-        this(200, new HashMap<>(), buffer);
+        this(200, ResponseHeaders.EMPTY, buffer);
     }
 
-    private RawResponse(int statusCode, @NonNull Map<CharSequence, CharSequence> headers, Buffer buffer) {
+    private RawResponse(int statusCode, @NonNull ResponseHeaders headers, Buffer buffer) {
         super(statusCode, headers);
         this.buffer = buffer;
     }
 
-    public Response addHeader(CharSequence key, CharSequence value) {
-        val newHeaders = new HashMap<>(headers);
-        newHeaders.put(key, value);
-
-        return new RawResponse(statusCode, newHeaders, buffer);
+    @Override
+    AbstractResponse copy(int statusCode, ResponseHeaders headers) {
+        return new RawResponse(statusCode, headers, buffer);
     }
 
     @Override
@@ -245,27 +480,24 @@ class SerializableResponse<T> extends AbstractResponse {
     final T payload;
 
     public SerializableResponse(T payload) {
-        this(200, new HashMap<>(), payload);
+        this(200, ResponseHeaders.EMPTY, payload);
     }
 
-    private SerializableResponse(int statusCode, @NonNull Map<CharSequence, CharSequence> headers, T payload) {
+    private SerializableResponse(int statusCode, @NonNull ResponseHeaders headers, T payload) {
         super(statusCode, headers);
         this.payload = payload;
     }
 
-    public Response addHeader(CharSequence key, CharSequence value) {
-        val newHeaders = new HashMap<>(headers);
-        newHeaders.put(key, value);
-
-        return new SerializableResponse<>(statusCode, newHeaders, payload);
+    @Override
+    AbstractResponse copy(int statusCode, ResponseHeaders headers) {
+        return new SerializableResponse<>(statusCode, headers, payload);
     }
 
     @Override
     public void send(KosContext kosContext, HttpServerResponse response) {
         val serializer = kosContext.getPayloadSerializationStrategy().serializerFor(response);
-        val buffer = serializer.serialize(payload);
         this.sendStatusAndHeader(response);
         response.putHeader(CONTENT_TYPE, serializer.contentType());
-        response.end(buffer);
+        serializer.serializeAndSend(payload, response);
     }
-}
\ No newline at end of file
+}
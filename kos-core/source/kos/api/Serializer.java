@@ -16,11 +16,26 @@
 
 package kos.api;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.vertx.core.buffer.*;
-import io.vertx.core.json.*;
+import io.vertx.core.http.HttpServerResponse;
+import kos.core.JacksonDataFormat;
+import kos.core.JacksonTypeCache;
 import kos.core.exception.KosException;
 import lombok.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 public interface Serializer {
@@ -35,6 +50,51 @@ public interface Serializer {
 
     String contentType();
 
+    /**
+     * Serializes {@code target} and sends it as the last chunk of {@code response}.
+     * Implementations might override this method to avoid intermediate copies
+     * of the serialized payload.
+     */
+    default void serializeAndSend(Object target, HttpServerResponse response) {
+        response.end(serialize(target));
+    }
+
+    /**
+     * Writes {@code target} directly into a pooled (direct) buffer and sends it as the
+     * last chunk of {@code response}. The buffer is given back to the pool once the
+     * response has been written, or as soon as either the serialization or the
+     * write fails. It is released only once, even if the write fails synchronously
+     * after the completion handler was registered.
+     */
+    private static void sendUsingPooledBuffer(
+        HttpServerResponse response, ObjectWriter writer, Object target, String format)
+    {
+        final ByteBuf byteBuf = PooledByteBufAllocator.DEFAULT.directBuffer();
+        final AtomicBoolean released = new AtomicBoolean(false);
+        final Runnable release = () -> {
+            if (released.compareAndSet(false, true))
+                releaseIfStillReferenced(byteBuf);
+        };
+
+        try {
+            try (val output = new ByteBufOutputStream(byteBuf)) {
+                writer.writeValue((OutputStream) output, target);
+            }
+            response.end(Buffer.buffer(byteBuf), ignored -> release.run());
+        } catch (IOException cause) {
+            release.run();
+            throw new KosException(cause, "Failed to encode as %s: %s", format, cause.getMessage());
+        } catch (Throwable cause) {
+            release.run();
+            throw cause;
+        }
+    }
+
+    private static void releaseIfStillReferenced(ByteBuf byteBuf) {
+        if (byteBuf.refCnt() > 0)
+            byteBuf.release();
+    }
+
     class JsonSerializer implements Serializer {
 
         @Override
@@ -44,12 +104,97 @@ public interface Serializer {
 
         @Override
         public Buffer serialize(Object target) {
-            return Json.encodeToBuffer(target);
+            return JacksonTypeCache.encode(target);
+        }
+
+        /**
+         * Streams the serialized payload directly into a pooled (direct) buffer, which is
+         * given back to the pool once the response has been written. It avoids the
+         * intermediate byte arrays otherwise allocated on every response.
+         */
+        @Override
+        public void serializeAndSend(Object target, HttpServerResponse response) {
+            sendUsingPooledBuffer(response, JacksonTypeCache.writerForValue(target), target, "JSON");
         }
 
         @Override
         public <T> T deserialize(@NonNull Buffer buffer, @NonNull Class<T> type) {
-            return Json.decodeValue( buffer, type );
+            return JacksonTypeCache.decode( buffer, type );
+        }
+    }
+
+    /**
+     * Serializes payloads with a binary Jackson data format (e.g. CBOR, Smile or MessagePack),
+     * allowing services to exchange more compact payloads than JSON. As data formats are
+     * optional dependencies, instances are usually created through {@link #createIfAvailable}.
+     */
+    class JacksonDataFormatSerializer implements Serializer {
+
+        private final String contentType;
+        private final JacksonDataFormat dataFormat;
+
+        public JacksonDataFormatSerializer(@NonNull String contentType, @NonNull ObjectMapper mapper) {
+            this(contentType, new JacksonDataFormat(mapper));
+        }
+
+        public JacksonDataFormatSerializer(@NonNull String contentType, @NonNull JacksonDataFormat dataFormat) {
+            this.contentType = contentType;
+            this.dataFormat = dataFormat;
+        }
+
+        /**
+         * Creates a serializer for the given Jackson data format.
+         *
+         * @param contentType the Content-Type handled by the serializer
+         * @param jsonFactoryClassName the canonical name of the data format's {@link JsonFactory}
+         * @return the serializer, or {@code null} if the data format is not available in the class path.
+         */
+        public static JacksonDataFormatSerializer createIfAvailable(String contentType, String jsonFactoryClassName) {
+            val dataFormat = JacksonDataFormat.loadIfAvailable(jsonFactoryClassName);
+            if (dataFormat == null)
+                return null;
+            return new JacksonDataFormatSerializer(contentType, dataFormat);
+        }
+
+        @Override
+        public String contentType() {
+            return contentType;
+        }
+
+        @Override
+        public Buffer serialize(Object target) {
+            try {
+                return Buffer.buffer(dataFormat.writerForValue(target).writeValueAsBytes(target));
+            } catch (IOException cause) {
+                throw new KosException(cause, "Failed to encode as %s: %s", contentType, cause.getMessage());
+            }
+        }
+
+        @Override
+        public void serializeAndSend(Object target, HttpServerResponse response) {
+            sendUsingPooledBuffer(response, dataFormat.writerForValue(target), target, contentType);
+        }
+
+        @Override
+        public <T> T deserialize(@NonNull Buffer buffer, @NonNull Class<T> type) {
+            return decode(dataFormat.readerFor(type), buffer);
+        }
+
+        public <T> T deserialize(@NonNull Buffer buffer, @NonNull TypeReference<T> type) {
+            return decode(dataFormat.readerFor(type), buffer);
+        }
+
+        private <T> T decode(ObjectReader reader, Buffer buffer) {
+            try {
+                return reader.readValue((InputStream) new ByteBufInputStream(buffer.getByteBuf()));
+            } catch (IOException cause) {
+                throw new KosException(cause, "Failed to decode %s: %s", contentType, cause.getMessage());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "(" + contentType + ")";
         }
     }
 
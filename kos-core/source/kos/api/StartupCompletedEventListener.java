@@ -0,0 +1,36 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.api;
+
+import kos.core.StartupTrace;
+import lombok.Value;
+
+/**
+ * A listener for "Startup Completed" event, triggered once every verticle
+ * (including the web server) is deployed. It can be used to export the time
+ * spent by each phase of the boot sequence to a metrics system.
+ */
+public interface StartupCompletedEventListener {
+
+    void on(StartupCompletedEvent startupCompletedEvent);
+
+    @Value class StartupCompletedEvent {
+        KosContext kosContext;
+        StartupTrace trace;
+    }
+}
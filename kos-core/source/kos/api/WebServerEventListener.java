@@ -27,6 +27,13 @@ import lombok.experimental.*;
  * Called by {@link VertxWebServer}, implementations of
  * this interface will have the opportunity to enhance or change
  * the web server configuration before it is started.
+ *
+ * As one web server instance is deployed per event loop, listeners are notified in two phases:
+ * {@link #on(BeforeDeployWebServersEvent)} runs once per application, before any instance is
+ * deployed, and is the place to change state shared by every instance (e.g. the
+ * {@link KosContext#getHttpServerOptions()} or jobs that should run only once).
+ * {@link #on(BeforeDeployWebServerEvent)} runs once per instance - concurrently, on each instance's
+ * event loop - and should only configure the router it receives.
  */
 public interface WebServerEventListener {
 
@@ -35,10 +42,27 @@ public interface WebServerEventListener {
     }
 
     /**
-     * Called before deploy {@link VertxWebServer} verticle.
+     * Called once, before the {@link VertxWebServer} instances are deployed.
+     * Listeners are notified sequentially, ordered by {@link #priority()}.
+     *
+     * @param event the deployment data
+     */
+    default void on( BeforeDeployWebServersEvent event ) {}
+
+    /**
+     * Called before deploy each {@link VertxWebServer} instance.
      * @param event
      */
-    void on( BeforeDeployWebServerEvent event );
+    default void on( BeforeDeployWebServerEvent event ) {}
+
+    /**
+     * Data available before the web server instances are deployed.
+     */
+    @Value class BeforeDeployWebServersEvent {
+        Vertx vertx;
+        JsonObject applicationConfig;
+        KosContext kosContext;
+    }
 
     /**
      * Data available before deploy the web server.
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import injector.Singleton;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import kos.api.KosContext;
+import kos.api.KosContext.RunnerThatMightFail;
+import kos.api.KosContext.SupplierThatMightFail;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs blocking code (e.g. routes annotated with {@code @Blocking}) off the event loop.
+ * Whenever the JVM supports virtual threads, each task runs on its own virtual thread,
+ * otherwise tasks are dispatched to the Vert.x worker pool (unless a named
+ * {@link WorkerPools worker pool} is given). In both cases, the returned
+ * {@link Future} is completed on the Vert.x context that submitted the task.
+ */
+@Slf4j
+@Singleton
+public class BlockingExecutor {
+
+    /**
+     * System property that, when set to {@code false}, disables the usage of virtual threads.
+     */
+    public static final String VIRTUAL_THREADS_PROPERTY = "kos.blocking.virtual-threads";
+
+    private final Vertx vertx;
+    private final WorkerPools workerPools;
+    private final ExecutorService virtualThreads;
+
+    public BlockingExecutor(@NonNull KosContext kosContext) {
+        this.vertx = kosContext.getDefaultVertx();
+        this.workerPools = kosContext.getWorkerPools();
+        this.virtualThreads = VirtualThreads.EXECUTOR;
+    }
+
+    /**
+     * @return {@code true} if tasks are run on virtual threads.
+     */
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads != null;
+    }
+
+    public <T> Future<T> compute(SupplierThatMightFail<T> supplier) {
+        if (virtualThreads == null)
+            return computeOnWorkerPool(supplier);
+
+        val context = vertx.getOrCreateContext();
+        val promise = Promise.<T>promise();
+        virtualThreads.execute(() -> {
+            try {
+                val result = supplier.get();
+                context.runOnContext(ignored -> promise.complete(result));
+            } catch (Throwable cause) {
+                context.runOnContext(ignored -> promise.fail(cause));
+            }
+        });
+        return promise.future();
+    }
+
+    /**
+     * Computes {@code supplier} on the worker pool named {@code workerPool}. Named pools
+     * are bounded by definition, thus they are used even if virtual threads are available.
+     *
+     * @param workerPool the worker pool name, or {@code null} to use a virtual thread
+     */
+    public <T> Future<T> compute(String workerPool, SupplierThatMightFail<T> supplier) {
+        if (workerPool == null)
+            return compute(supplier);
+        return workerPools.get(workerPool).compute(supplier);
+    }
+
+    public Future<Void> run(RunnerThatMightFail runner) {
+        return compute(() -> {
+            runner.run();
+            return null;
+        });
+    }
+
+    /**
+     * Unlike {@link KosContext#computeBlocking(SupplierThatMightFail)}, tasks are not
+     * ordered, allowing several requests received by the same event loop to be
+     * handled at the same time.
+     */
+    private <T> Future<T> computeOnWorkerPool(SupplierThatMightFail<T> supplier) {
+        return vertx.executeBlocking(promise -> {
+            try {
+                promise.complete(supplier.get());
+            } catch (Throwable cause) {
+                promise.fail(cause);
+            }
+        }, false);
+    }
+
+    /**
+     * Lazily creates the virtual thread executor. It is resolved through reflection,
+     * as Kos is still compatible with JDKs that have no virtual threads.
+     */
+    static class VirtualThreads {
+
+        static final ExecutorService EXECUTOR = createExecutor();
+
+        static ExecutorService createExecutor() {
+            if (!Boolean.parseBoolean(System.getProperty(VIRTUAL_THREADS_PROPERTY, "true")))
+                return null;
+
+            try {
+                val factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                val executor = (ExecutorService) factory.invoke(null);
+                log.debug("Blocking tasks will run on virtual threads");
+                return executor;
+            } catch (ReflectiveOperationException | RuntimeException cause) {
+                log.debug("Virtual threads are not available. Blocking tasks will run on the worker pool");
+                return null;
+            }
+        }
+    }
+}
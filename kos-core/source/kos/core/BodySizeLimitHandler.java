@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Rejects requests which declared Content-Length exceeds the maximum body
+ * size accepted by a route that reads its body as a stream. The limit is also
+ * memorized in the {@link RoutingContext}, allowing the streamed byte count to
+ * be verified as the body is read.
+ */
+@RequiredArgsConstructor
+class BodySizeLimitHandler implements Handler<RoutingContext> {
+
+    static final String MAX_BODY_SIZE = "kos.maxBodySize";
+    static final int PAYLOAD_TOO_LARGE = 413;
+
+    final long maxBodySize;
+
+    @Override
+    public void handle(RoutingContext context) {
+        if (maxBodySize >= 0) {
+            val contentLength = context.request().getHeader(HttpHeaders.CONTENT_LENGTH);
+            if (contentLength != null && exceedsMaxBodySize(contentLength)) {
+                context.fail(PAYLOAD_TOO_LARGE);
+                return;
+            }
+            context.put(MAX_BODY_SIZE, maxBodySize);
+        }
+        context.next();
+    }
+
+    private boolean exceedsMaxBodySize(String contentLength) {
+        try {
+            return Long.parseLong(contentLength) > maxBodySize;
+        } catch (NumberFormatException cause) {
+            return false;
+        }
+    }
+
+    /**
+     * @return the maximum body size defined for the current route,
+     * or a negative number if there is no limit.
+     */
+    static long maxBodySizeOf(RoutingContext context) {
+        final Long maxBodySize = context.get(MAX_BODY_SIZE);
+        return maxBodySize == null ? -1 : maxBodySize;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+import kos.api.KosContext;
+import kos.api.PayloadSerializationStrategy;
+import kos.api.Response;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Allows the defined {@link PayloadSerializationStrategy} to negotiate
+ * the response format before the request is handled. Requests which
+ * response format could not be negotiated won't reach its route.
+ */
+@RequiredArgsConstructor
+class ContentNegotiationHandler implements Handler<RoutingContext> {
+
+    final KosContext kosContext;
+
+    @Override
+    public void handle(RoutingContext event) {
+        try {
+            kosContext.getPayloadSerializationStrategy().negotiate(event.request());
+        } catch (Throwable cause) {
+            Response.sendError(kosContext, event.request(), cause);
+            return;
+        }
+        event.next();
+    }
+}
@@ -21,10 +21,20 @@ public class DefaultConfigurationLoader
         return Integer.MAX_VALUE;
     }
 
+    /**
+     * The {@link io.vertx.core.http.HttpServerOptions} are shared by every web server instance,
+     * thus they are configured only once.
+     */
     @Override
-    public void on(BeforeDeployWebServerEvent event) {
+    public void on(BeforeDeployWebServersEvent event) {
         val config = event.getApplicationConfig();
         val httpServerOptions = event.getKosContext().getHttpServerOptions();
         httpServerOptions.setPort( config.getInteger("web.server.port", 9000) );
     }
+
+    @Override
+    public void on(BeforeDeployWebServerEvent event) {
+        val config = event.getApplicationConfig();
+        event.getRouter().defaultMaxBodySize( config.getLong("web.server.max-body-size", -1L) );
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import kos.api.BootstrapIndex;
+import kos.api.BootstrapIndex.Implementation;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementations known by the {@link BootstrapIndex}es found in the class path.
+ * Instances are created through the indexed constructors and shared among all the
+ * SPI types the implementation is exposed as.
+ */
+@Slf4j
+@SuppressWarnings("unchecked")
+public class IndexedImplementations {
+
+    /**
+     * When set to {@code true}, SPI types found in the indexes won't be looked up
+     * through {@link ServiceLoader}, avoiding the class path scanning entirely.
+     * Hand-written implementations of such types won't be loaded, though.
+     */
+    public static final String INDEX_ONLY_PROPERTY = "kos.spi.index-only";
+
+    private final Map<Class<?>, List<Implementation>> implementations = new HashMap<>();
+    private final Map<Class<?>, Object> instances = new ConcurrentHashMap<>();
+    private final boolean indexOnly;
+
+    public IndexedImplementations(Iterable<BootstrapIndex> indexes, boolean indexOnly) {
+        this.indexOnly = indexOnly;
+        for (val index : indexes) {
+            log.debug("Loading bootstrap index " + index.getClass().getCanonicalName());
+            for (val entry : index.getImplementations().entrySet())
+                implementations.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).addAll(entry.getValue());
+        }
+    }
+
+    /**
+     * Loads the {@link BootstrapIndex}es exposed in the class path.
+     */
+    public static IndexedImplementations load() {
+        return new IndexedImplementations(
+            ServiceLoader.load(BootstrapIndex.class),
+            Boolean.getBoolean(INDEX_ONLY_PROPERTY)
+        );
+    }
+
+    /**
+     * @return {@code true} if {@code type} can be loaded from the indexes alone.
+     */
+    public boolean isSufficientFor(Class<?> type) {
+        return indexOnly && implementations.containsKey(type);
+    }
+
+    public boolean isIndexed(Class<?> type, Class<?> implementation) {
+        for (val indexed : implementations.getOrDefault(type, Collections.emptyList()))
+            if (indexed.getType().equals(implementation))
+                return true;
+        return false;
+    }
+
+    public <T> List<T> instancesOf(Class<T> type) {
+        val indexed = implementations.get(type);
+        if (indexed == null)
+            return Collections.emptyList();
+
+        val found = new ArrayList<T>(indexed.size());
+        for (val implementation : indexed)
+            found.add((T) instanceOf(implementation));
+        return found;
+    }
+
+    private Object instanceOf(Implementation implementation) {
+        var instance = instances.get(implementation.getType());
+        if (instance == null) {
+            instance = implementation.getConstructor().get();
+            val previous = instances.putIfAbsent(implementation.getType(), instance);
+            if (previous != null)
+                instance = previous;
+        }
+        return instance;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package kos.core;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.vertx.core.json.jackson.VertxModule;
+import kos.core.exception.KosException;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A Jackson data format (e.g. Smile, CBOR or MessagePack) loaded from the class path,
+ * keeping pre-resolved {@link ObjectWriter}s and {@link ObjectReader}s per type - as
+ * {@link JacksonTypeCache} does for JSON. It is shared by the HTTP serializers and
+ * the EventBus codecs backed by binary data formats.
+ *
+ * <b>Note</b>: As these methods have been mainly created for internal API use, we strongly
+ * discourage developers to use these methods as it may change without further notice.
+ */
+@RequiredArgsConstructor
+public class JacksonDataFormat {
+
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<java.lang.reflect.Type, ObjectReader> genericReaders = new ConcurrentHashMap<>();
+
+    @NonNull @Getter private final ObjectMapper mapper;
+
+    /**
+     * @param jsonFactoryClassName the canonical name of the data format's {@link JsonFactory}
+     * @return the data format, or {@code null} if it is not available in the class path.
+     */
+    public static JacksonDataFormat loadIfAvailable(@NonNull String jsonFactoryClassName) {
+        val factoryClass = Lang.classForOrNull(jsonFactoryClassName);
+        if (factoryClass == null)
+            return null;
+
+        try {
+            val factory = (JsonFactory) factoryClass.getConstructor().newInstance();
+            val mapper = new ObjectMapper(factory)
+                .registerModule(new VertxModule())
+                .findAndRegisterModules();
+            return new JacksonDataFormat(mapper);
+        } catch (ReflectiveOperationException cause) {
+            throw new KosException(cause, "Could not create the data format %s", jsonFactoryClassName);
+        }
+    }
+
+    /**
+     * @param format the name of the data format, used in the failure message
+     * @param jsonFactoryClassName the canonical name of the data format's {@link JsonFactory}
+     * @return the data format
+     * @throws KosException if the data format is not available in the class path
+     */
+    public static JacksonDataFormat load(@NonNull String format, @NonNull String jsonFactoryClassName) {
+        val dataFormat = loadIfAvailable(jsonFactoryClassName);
+        if (dataFormat == null)
+            throw new KosException("Data format %s is not available in the class path: %s", format, jsonFactoryClassName);
+        return dataFormat;
+    }
+
+    /**
+     * @return the writer for the runtime type of {@code target}.
+     */
+    public ObjectWriter writerForValue(Object target) {
+        if (target == null)
+            return mapper.writer();
+        return writers.computeIfAbsent(target.getClass(), mapper::writerFor);
+    }
+
+    public ObjectReader readerFor(@NonNull Class<?> type) {
+        return readers.computeIfAbsent(type, mapper::readerFor);
+    }
+
+    public ObjectReader readerFor(@NonNull TypeReference<?> type) {
+        return genericReaders.computeIfAbsent(type.getType(), t -> mapper.readerFor(mapper.constructType(t)));
+    }
+}
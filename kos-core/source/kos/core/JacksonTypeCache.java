@@ -0,0 +1,208 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.impl.UnknownSerializer;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.jackson.DatabindCodec;
+import lombok.*;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps pre-resolved Jackson {@link ObjectWriter}s and {@link ObjectReader}s per type,
+ * avoiding resolving (de)serializers every time a payload is encoded or decoded.
+ *
+ * Types known at compile time (e.g. request bodies, route responses and event
+ * listener messages) are registered by the generated classes and warmed up
+ * by {@link #warmUp()} before the web server starts. Types not registered
+ * beforehand are resolved (and cached) on their first usage.
+ *
+ * <b>Note</b>: As these methods have been mainly created for internal API use, we strongly
+ * discourage developers to use these methods as it may change without further notice.
+ */
+@Slf4j
+@UtilityClass
+public class JacksonTypeCache {
+
+    private final Set<Class<?>> readableTypes = ConcurrentHashMap.newKeySet();
+    private final Set<Class<?>> writableTypes = ConcurrentHashMap.newKeySet();
+
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<java.lang.reflect.Type, ObjectReader> genericReaders = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a type that will be read from incoming payloads.
+     */
+    public void registerReadable(@NonNull Class<?> type) {
+        readableTypes.add(type);
+    }
+
+    /**
+     * Registers a type that will be written into outgoing payloads.
+     */
+    public void registerWritable(@NonNull Class<?> type) {
+        writableTypes.add(type);
+    }
+
+    public ObjectWriter writerFor(@NonNull Class<?> type) {
+        return writers.computeIfAbsent(type, t -> DatabindCodec.mapper().writerFor(t));
+    }
+
+    /**
+     * @return the writer for the runtime type of {@code target}.
+     */
+    public ObjectWriter writerForValue(Object target) {
+        if (target == null)
+            return DatabindCodec.mapper().writer();
+        return writerFor(target.getClass());
+    }
+
+    public ObjectReader readerFor(@NonNull Class<?> type) {
+        return readers.computeIfAbsent(type, t -> DatabindCodec.mapper().readerFor(t));
+    }
+
+    public ObjectReader readerFor(@NonNull TypeReference<?> type) {
+        return genericReaders.computeIfAbsent(type.getType(), t -> {
+            val mapper = DatabindCodec.mapper();
+            return mapper.readerFor(mapper.constructType(t));
+        });
+    }
+
+    public Buffer encode(Object target) {
+        try {
+            return Buffer.buffer(writerForValue(target).writeValueAsBytes(target));
+        } catch (Exception cause) {
+            throw new EncodeException("Failed to encode as JSON: " + cause.getMessage());
+        }
+    }
+
+    public <T> T decode(Buffer buffer, Class<T> type) {
+        try {
+            return readerFor(type).readValue((InputStream) new ByteBufInputStream(buffer.getByteBuf()));
+        } catch (Exception cause) {
+            throw new DecodeException("Failed to decode:" + cause.getMessage(), cause);
+        }
+    }
+
+    public <T> T decode(Buffer buffer, TypeReference<T> type) {
+        try {
+            return readerFor(type).readValue((InputStream) new ByteBufInputStream(buffer.getByteBuf()));
+        } catch (Exception cause) {
+            throw new DecodeException("Failed to decode:" + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Resolves the readers and writers of every registered type. Previously
+     * resolved instances are discarded, as they won't reflect modules registered
+     * in the {@link ObjectMapper} after they have been created.
+     *
+     * @return the registered types that Jackson won't be able to handle.
+     */
+    public synchronized List<UnsupportedType> warmUp() {
+        writers.clear();
+        readers.clear();
+        genericReaders.clear();
+
+        val mapper = DatabindCodec.mapper();
+        val unsupportedTypes = new ArrayList<UnsupportedType>();
+
+        for (val type : writableTypes) {
+            val reason = checkIfCanBeSerialized(mapper, type);
+            if (reason != null)
+                unsupportedTypes.add(new UnsupportedType(type, "serialized", reason));
+            else
+                writerFor(type);
+        }
+
+        for (val type : readableTypes) {
+            val reason = checkIfCanBeDeserialized(mapper, type);
+            if (reason != null)
+                unsupportedTypes.add(new UnsupportedType(type, "deserialized", reason));
+            else
+                readerFor(type);
+        }
+
+        log.debug("Jackson readers and writers warmed up: {} readable and {} writable types",
+            readers.size(), writers.size());
+        return unsupportedTypes;
+    }
+
+    private String checkIfCanBeSerialized(ObjectMapper mapper, Class<?> type) {
+        try {
+            val serializer = mapper.getSerializerProviderInstance().findValueSerializer(type, null);
+            if (serializer instanceof UnknownSerializer && mapper.isEnabled(SerializationFeature.FAIL_ON_EMPTY_BEANS))
+                return "no serializable properties were found";
+            return null;
+        } catch (Exception cause) {
+            return cause.getMessage();
+        }
+    }
+
+    @SuppressWarnings("deprecation")
+    private String checkIfCanBeDeserialized(ObjectMapper mapper, Class<?> type) {
+        val cause = new AtomicReference<Throwable>();
+        if (mapper.canDeserialize(mapper.constructType(type), cause))
+            return null;
+        return cause.get() != null ? cause.get().getMessage() : "no deserializer was found";
+    }
+
+    /**
+     * Forgets every registered type and resolved reader/writer.
+     */
+    public void reset() {
+        readableTypes.clear();
+        writableTypes.clear();
+        writers.clear();
+        readers.clear();
+        genericReaders.clear();
+    }
+
+    /**
+     * A registered type that cannot be handled by Jackson.
+     */
+    @Value
+    public static class UnsupportedType {
+        Class<?> type;
+        String operation;
+        String reason;
+
+        @Override
+        public String toString() {
+            return type.getCanonicalName() + " cannot be " + operation + ": " + reason;
+        }
+    }
+}
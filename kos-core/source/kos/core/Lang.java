@@ -16,6 +16,7 @@
 
 package kos.core;
 
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import kos.api.ImplementationLoader;
 import kos.core.exception.KosException;
@@ -23,6 +24,8 @@ import lombok.*;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiFunction;
@@ -36,6 +39,9 @@ import java.util.function.Predicate;
 @SuppressWarnings("unchecked")
 public final class Lang {
 
+    private static final long MIN_BACK_OFF_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long MAX_BACK_OFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
     private Lang(){}
 
     public static <T> T instantiate( String canonicalName ) {
@@ -140,28 +146,86 @@ public final class Lang {
      * This method has been place here for the sake of convenience.
      * It should avoided by developers as it is quite dangerous and
      * might introduce slowness into the system.
+     *
+     * @throws KosException if the future has failed or if it is not completed yet
+     *         and the current thread is a Vert.x event loop (blocking an event loop
+     *         would prevent the future from ever being completed).
      */
     public static <T> T waitFor(Future<T> future) {
+        return waitFor(future, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Blocks the current thread until the {@code future} is completed, or the
+     * {@code timeout} is reached. See {@link #waitFor(Future)}.
+     *
+     * @throws KosException if the future has failed, if the timeout has been
+     *         reached, or if the current thread is a Vert.x event loop.
+     */
+    public static <T> T waitFor(Future<T> future, long timeout, TimeUnit unit) {
         val parent = Thread.currentThread().getStackTrace()[1];
         if (!parent.getClassName().startsWith("kos."))
             throw new UnsupportedOperationException("Await was not designed for production usage");
 
-        while (!future.succeeded() && !future.failed())
-            LockSupport.parkNanos(2);
+        if (!future.isComplete()) {
+            ensureNotOnEventLoop();
+            val latch = new CountDownLatch(1);
+            future.onComplete(ignored -> latch.countDown());
+            await(latch, timeout, unit);
+        }
 
         if (future.succeeded())
             return future.result();
         else
-            throw new KosException(future.cause().getMessage(), future.cause());
+            throw new KosException(future.cause(), "%s", future.cause().getMessage());
     }
 
     public static <T> T waitFor(AtomicReference<T> reference ) {
-        T result = null;
-        while ( (result = reference.get()) == null )
-            LockSupport.parkNanos(1L);
+        return waitFor(reference, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Blocks the current thread until {@code reference} holds a value, or the
+     * {@code timeout} is reached. As there is no way to be notified when it is
+     * filled, the reference is polled with an exponential back-off.
+     *
+     * @throws KosException if the timeout has been reached, or if the
+     *         current thread is a Vert.x event loop.
+     */
+    public static <T> T waitFor(AtomicReference<T> reference, long timeout, TimeUnit unit) {
+        T result = reference.get();
+        if (result != null) return result;
+
+        ensureNotOnEventLoop();
+        // tracks the remaining time, as a deadline (start + timeout) would overflow for large timeouts
+        val timeoutNanos = unit.toNanos(timeout);
+        val start = System.nanoTime();
+        long backOff = MIN_BACK_OFF_NANOS;
+        while ( (result = reference.get()) == null ) {
+            val remaining = timeoutNanos - (System.nanoTime() - start);
+            if (remaining <= 0)
+                throw new KosException("Timed out after %d %s", timeout, unit);
+            LockSupport.parkNanos(Math.min(backOff, remaining));
+            backOff = Math.min(backOff * 2, MAX_BACK_OFF_NANOS);
+        }
         return result;
     }
 
+    private static void await(CountDownLatch latch, long timeout, TimeUnit unit) {
+        try {
+            if (!latch.await(timeout, unit))
+                throw new KosException("Timed out after %d %s", timeout, unit);
+        } catch (InterruptedException cause) {
+            Thread.currentThread().interrupt();
+            throw new KosException(cause, "Interrupted while waiting for a result");
+        }
+    }
+
+    private static void ensureNotOnEventLoop() {
+        if (Context.isOnEventLoopThread())
+            throw new KosException("Cannot block the event loop thread '%s' while waiting for a result", Thread.currentThread().getName());
+    }
+
     /**
      * Convenient HashMap builder.
      *
@@ -170,7 +234,7 @@ public final class Lang {
      */
     @NoArgsConstructor(access = AccessLevel.PRIVATE)
     public static class MapBuilder<K,V> {
-        final Map<K,V> data = new HashMap<>();
+        final Map<K,V> data = new LinkedHashMap<>();
 
         public MapBuilder<K,V> and( K key, V value ) {
             data.put(key, value);
@@ -16,16 +16,19 @@
 
 package kos.core;
 
-import io.vertx.core.DeploymentOptions;
-import io.vertx.core.Handler;
-import io.vertx.core.Verticle;
+import io.vertx.core.*;
+import io.vertx.core.impl.VertxInternal;
 import kos.api.*;
 import kos.api.ConfigurationLoadedEventListener.ConfigurationLoadedEvent;
+import kos.api.StartupCompletedEventListener.StartupCompletedEvent;
 import kos.core.exception.KosException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
 /**
  * Simplified launcher wrapping Vert.x deployment of {@link Verticle}s.
  *
@@ -36,6 +39,7 @@ import lombok.val;
 public class Launcher {
 
     private final MutableKosContext conf;
+    private final StartupTrace trace = new StartupTrace();
 
     public Launcher(){
         this(new MutableKosContext());
@@ -47,26 +51,46 @@ public class Launcher {
 
     public void run(){
         runPluginsAndConfigureKos();
+        val configurationRequestedAt = System.nanoTime();
         readDeploymentConfig( loadedConfiguration -> {
+            trace.recordSince("deployment-config", configurationRequestedAt);
             trigger( loadedConfiguration );
-            deployWebServer( loadedConfiguration );
-            deployVerticles( loadedConfiguration );
+            val webServer = deployWebServer( loadedConfiguration );
+            val verticles = deployVerticles( loadedConfiguration );
+            completeStartup( loadedConfiguration, webServer, verticles );
         });
     }
 
+    /**
+     * Notifies the {@link StartupCompletedEventListener}s once both the web server and
+     * the verticles are deployed. Failed deployments are logged instead, and no listener
+     * is notified.
+     */
+    CompositeFuture completeStartup(ConfigurationLoadedEvent event, Future<?> webServer, Future<?> verticles) {
+        return CompositeFuture.join( webServer, verticles )
+            .onSuccess( ignored -> notifyStartupCompleted( event ) )
+            .onFailure( cause -> log.error("Startup failed", cause) );
+    }
+
+    /**
+     * Plugins are always configured sequentially, as they modify the (non thread-safe)
+     * {@link MutableKosContext}. Only the {@link ConfigurationLoadedEventListener}s
+     * can be notified concurrently.
+     */
     private void runPluginsAndConfigureKos() {
         log.info("Initializing plugins...");
-        val plugins = Lang.sorted(
-            conf.getSpi().instancesExposedAs(Plugin.class),
-            (p1, p2) -> Integer.compare(p2.priority(), p1.priority())
-        );
-
-        for (val plugin : plugins) {
-            log.debug(" -> " + plugin.getClass().getCanonicalName());
-            plugin.configure(conf);
-        }
+        val plugins = conf.getSpi().instancesExposedAs(Plugin.class);
+
+        val report = new PrioritizedStartup("plugins", 1)
+            .run(plugins, Plugin::priority, plugin -> {
+                log.debug(" -> " + plugin.getClass().getCanonicalName());
+                plugin.configure(conf);
+            });
+        report.log();
+        trace.record(report);
 
         conf.getImplementationLoader().register(KosContext.class, conf);
+        conf.getImplementationLoader().register(StartupTrace.class, trace);
     }
 
     void readDeploymentConfig(Handler<ConfigurationLoadedEvent> handler) {
@@ -85,31 +109,102 @@ public class Launcher {
         val listeners = event.getKosContext().getImplementationLoader().instancesExposedAs(ConfigurationLoadedEventListener.class);
 
         log.info("Configuration loaded.");
-        for (ConfigurationLoadedEventListener listener : listeners) {
-            log.debug("Notifying " + listener.getClass().getCanonicalName() + "...");
-            listener.on(event);
-        }
+        val report = new PrioritizedStartup("configuration-listeners", PrioritizedStartup.parallelism(event.getApplicationConfig()))
+            .run(listeners, ConfigurationLoadedEventListener::priority, listener -> {
+                log.debug("Notifying " + listener.getClass().getCanonicalName() + "...");
+                listener.on(event);
+            });
+        report.log();
+        trace.record(report);
     }
 
-    void deployWebServer(ConfigurationLoadedEvent event) {
+    /**
+     * Deploys one {@link VertxWebServer} per event loop of the default Vert.x instance
+     * (or as many as defined by the {@code web.server.instances} configuration entry).
+     * Each instance has its own router, but all of them share the same listening port.
+     * The application-wide {@link WebServerEventListener}s are notified only once, before
+     * the instances are deployed.
+     */
+    Future<?> deployWebServer(ConfigurationLoadedEvent event) {
         if (event.getApplicationConfig().getBoolean( "auto-config", true )) {
-            log.info("Deploying Vert.x WebServer...");
-            val server = new VertxWebServer(event.getKosContext());
-            deploy(event, server);
+            val vertx = event.getKosContext().getDefaultVertx();
+            val instances = event.getApplicationConfig().getInteger( "web.server.instances", eventLoopsOf(vertx) );
+            log.info("Deploying Vert.x WebServer (" + instances + " instances)...");
+            val deployingAt = System.nanoTime();
+
+            val deployment = new WebServerDeployment(event.getKosContext());
+            try {
+                trace.record(deployment.prepare(vertx, event.getApplicationConfig()));
+            } catch (RuntimeException cause) {
+                return Future.failedFuture(cause);
+            }
+
+            return deploy(event, () -> new VertxWebServer(event.getKosContext()).deployment(deployment), instances)
+                .onComplete( ignored -> trace.recordSince("web-server", deployingAt) );
         }
+        return Future.succeededFuture();
     }
 
-    void deployVerticles(ConfigurationLoadedEvent event) {
+    /**
+     * @return the number of event loops the given Vert.x instance was created with.
+     */
+    static int eventLoopsOf(Vertx vertx) {
+        if (!(vertx instanceof VertxInternal))
+            return VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE;
+
+        int eventLoops = 0;
+        for (val ignored : ((VertxInternal) vertx).getEventLoopGroup())
+            eventLoops++;
+        return Math.max(1, eventLoops);
+    }
+
+    Future<?> deployVerticles(ConfigurationLoadedEvent event) {
         log.info("Looking for verticles...");
 
+        val deployingAt = System.nanoTime();
         val verticles = event.getKosContext().getImplementationLoader().instancesExposedAs(Verticle.class);
+        val deployments = new ArrayList<Future>();
         for (val verticle : verticles)
-            deploy(event, verticle);
+            deployments.add(deploy(event, verticle));
+
+        return CompositeFuture.join(deployments)
+            .onComplete( ignored -> trace.recordSince("verticles", deployingAt) );
     }
 
-    public void deploy(ConfigurationLoadedEvent event, Verticle verticle) {
+    public Future<String> deploy(ConfigurationLoadedEvent event, Verticle verticle) {
         val options = new DeploymentOptions().setConfig(event.getApplicationConfig());
         log.debug("Deploying " + verticle.getClass().getCanonicalName() + "...");
-        event.getKosContext().getDefaultVertx().deployVerticle(verticle, options);
+        return event.getKosContext().getDefaultVertx().deployVerticle(verticle, options);
+    }
+
+    public Future<String> deploy(ConfigurationLoadedEvent event, Supplier<Verticle> verticleFactory, int instances) {
+        val options = new DeploymentOptions().setConfig(event.getApplicationConfig()).setInstances(instances);
+        return event.getKosContext().getDefaultVertx().deployVerticle(verticleFactory, options);
+    }
+
+    /**
+     * Reports the time spent by each phase of the boot sequence: it is logged as
+     * a single line, optionally written as JSON into the file defined by the
+     * {@code startup.trace-file} configuration entry, and sent to every
+     * {@link StartupCompletedEventListener}.
+     *
+     * @return a future that completes once the trace file is written (if any)
+     */
+    Future<Void> notifyStartupCompleted(ConfigurationLoadedEvent event) {
+        trace.finish();
+        log.info("Startup completed: " + trace.toLogLine());
+
+        val startupCompleted = new StartupCompletedEvent(event.getKosContext(), trace);
+        val listeners = event.getKosContext().getImplementationLoader().instancesExposedAs(StartupCompletedEventListener.class);
+        for (val listener : listeners)
+            listener.on(startupCompleted);
+
+        val traceFile = event.getApplicationConfig().getString( "startup.trace-file" );
+        if (traceFile == null)
+            return Future.succeededFuture();
+
+        return event.getKosContext().getDefaultVertx().fileSystem()
+            .writeFile(traceFile, trace.toJson().toBuffer())
+            .onFailure( cause -> log.warn("Could not write the startup trace into " + traceFile, cause) );
     }
 }
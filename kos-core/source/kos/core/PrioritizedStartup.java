@@ -0,0 +1,213 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.json.JsonObject;
+import kos.core.exception.KosException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Runs startup tasks (plugins and listeners) according to their priorities.
+ * Each priority acts as a barrier: tasks with higher priorities are finished
+ * before the ones with lower priorities are started. Tasks sharing the same
+ * priority are considered independent of each other and, when a parallelism
+ * greater than 1 is configured, they run concurrently on a bounded pool.
+ * The time spent by each task is measured and reported once all of them are done.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PrioritizedStartup {
+
+    /**
+     * System property that defines how many tasks of the same priority can run at once.
+     */
+    public static final String PARALLELISM_PROPERTY = "kos.startup.parallelism";
+
+    /**
+     * Configuration entry that defines how many tasks of the same priority can run at once.
+     */
+    public static final String PARALLELISM_CONFIG = "startup.parallelism";
+
+    @NonNull private final String phase;
+    private final int parallelism;
+
+    /**
+     * Resolves the parallelism defined either by the {@link #PARALLELISM_PROPERTY}
+     * system property or by the {@link #PARALLELISM_CONFIG} configuration entry,
+     * in that order. Defaults to 1, meaning tasks will run sequentially.
+     *
+     * @param applicationConfig the application configuration (may be null)
+     * @return the maximum number of tasks that can run at once
+     */
+    public static int parallelism(JsonObject applicationConfig) {
+        Integer parallelism = Integer.getInteger(PARALLELISM_PROPERTY);
+        if (parallelism == null && applicationConfig != null)
+            parallelism = applicationConfig.getInteger(PARALLELISM_CONFIG);
+        return parallelism == null ? 1 : Math.max(1, parallelism);
+    }
+
+    /**
+     * Runs {@code action} for every task, respecting their priorities.
+     *
+     * @param tasks the tasks to be executed
+     * @param priority retrieves the priority of a task (the bigger, the sooner)
+     * @param action the action to be performed on each task
+     * @param <T> the type of the tasks
+     * @return the time spent by each task
+     * @throws RuntimeException the first failure found on a priority group, after
+     *         all the tasks of that group are finished.
+     */
+    public <T> Report run(Iterable<T> tasks, ToIntFunction<T> priority, Consumer<T> action) {
+        val groups = groupByPriority(tasks, priority);
+        val timings = new ArrayList<Timing>();
+        val startedAt = System.nanoTime();
+
+        ExecutorService executor = null;
+        try {
+            for (val group : groups.entrySet()) {
+                val items = group.getValue();
+                if (parallelism <= 1 || items.size() <= 1) {
+                    for (val item : items)
+                        timings.add(measure(group.getKey(), item, action));
+                } else {
+                    if (executor == null)
+                        executor = createExecutor();
+                    timings.addAll(runConcurrently(executor, group.getKey(), items, action));
+                }
+            }
+        } finally {
+            if (executor != null)
+                executor.shutdownNow();
+        }
+
+        return new Report(phase, System.nanoTime() - startedAt, sortedBySlowest(timings));
+    }
+
+    private <T> List<Timing> runConcurrently(
+        ExecutorService executor, int priority, List<T> items, Consumer<T> action)
+    {
+        val futures = new ArrayList<Future<Timing>>(items.size());
+        for (val item : items)
+            futures.add(executor.submit(() -> measure(priority, item, action)));
+
+        val timings = new ArrayList<Timing>(items.size());
+        RuntimeException failure = null;
+        for (val future : futures) {
+            try {
+                timings.add(future.get());
+            } catch (ExecutionException cause) {
+                if (failure == null)
+                    failure = unwrap(cause.getCause());
+            } catch (InterruptedException cause) {
+                Thread.currentThread().interrupt();
+                throw new KosException(cause, "Interrupted while running the %s startup phase", phase);
+            }
+        }
+
+        if (failure != null)
+            throw failure;
+        return timings;
+    }
+
+    private static <T> Timing measure(int priority, T item, Consumer<T> action) {
+        val startedAt = System.nanoTime();
+        action.accept(item);
+        return new Timing(nameOf(item), priority, System.nanoTime() - startedAt, Thread.currentThread().getName());
+    }
+
+    private ExecutorService createExecutor() {
+        val counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(parallelism, runnable -> {
+            val thread = new Thread(runnable, "kos-startup-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static <T> SortedMap<Integer, List<T>> groupByPriority(Iterable<T> tasks, ToIntFunction<T> priority) {
+        val groups = new TreeMap<Integer, List<T>>(Comparator.reverseOrder());
+        for (val task : tasks)
+            groups.computeIfAbsent(priority.applyAsInt(task), p -> new ArrayList<>()).add(task);
+        return groups;
+    }
+
+    private static List<Timing> sortedBySlowest(List<Timing> timings) {
+        timings.sort(Comparator.comparingLong(Timing::getElapsedNanos).reversed());
+        return Collections.unmodifiableList(timings);
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        if (cause instanceof RuntimeException)
+            return (RuntimeException) cause;
+        return new KosException(cause);
+    }
+
+    private static String nameOf(Object item) {
+        val name = item.getClass().getCanonicalName();
+        return name != null ? name : item.getClass().getName();
+    }
+
+    /**
+     * The time spent by a single startup task.
+     */
+    @Value public static class Timing {
+        String name;
+        int priority;
+        long elapsedNanos;
+        String thread;
+
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+    }
+
+    /**
+     * The time spent by a startup phase, and by each of its tasks (slowest first).
+     */
+    @Value public static class Report {
+        String phase;
+        long elapsedNanos;
+        List<Timing> timings;
+
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        /**
+         * Logs a summary of this report, listing the slowest tasks first.
+         */
+        public void log() {
+            if (timings.isEmpty()) return;
+
+            val summary = new StringJoiner(", ");
+            for (val timing : timings)
+                summary.add(timing.getName() + "=" + timing.getElapsedMillis() + "ms");
+            PrioritizedStartup.log.info("Startup phase '" + phase + "' finished in " + getElapsedMillis() + "ms: " + summary);
+        }
+    }
+}
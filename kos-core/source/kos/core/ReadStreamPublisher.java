@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.streams.ReadStream;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exposes a {@link ReadStream} as a {@link Flow.Publisher}. Items are only read
+ * from the wrapped stream when requested by the subscriber, which means
+ * the back-pressure signals are propagated to the wrapped stream.
+ *
+ * As a {@link ReadStream} can be consumed only once, only a single
+ * subscriber is allowed.
+ */
+@RequiredArgsConstructor
+class ReadStreamPublisher<T> implements Flow.Publisher<T> {
+
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+    private final ReadStream<T> stream;
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new CancelledSubscription());
+            subscriber.onError(new IllegalStateException("This publisher allows only one subscriber"));
+            return;
+        }
+
+        val subscription = new ReadStreamSubscription<T>(stream, subscriber);
+        stream.pause();
+        stream.exceptionHandler(subscription::onError);
+        stream.endHandler(ignored -> subscription.onComplete());
+        stream.handler(subscription::onNext);
+        subscriber.onSubscribe(subscription);
+    }
+
+    @RequiredArgsConstructor
+    static class ReadStreamSubscription<T> implements Flow.Subscription {
+
+        final ReadStream<T> stream;
+        final Flow.Subscriber<? super T> subscriber;
+        boolean done = false;
+
+        @Override
+        public void request(long amount) {
+            if (done)
+                return;
+            if (amount <= 0)
+                onError(new IllegalArgumentException("Subscribers should request a positive number of items"));
+            else
+                stream.fetch(amount);
+        }
+
+        @Override
+        public void cancel() {
+            if (!done) {
+                done = true;
+                stream.pause();
+                stream.handler(null);
+            }
+        }
+
+        void onNext(T item) {
+            if (!done)
+                subscriber.onNext(item);
+        }
+
+        void onError(Throwable cause) {
+            if (!done) {
+                done = true;
+                stream.pause();
+                subscriber.onError(cause);
+            }
+        }
+
+        void onComplete() {
+            if (!done) {
+                done = true;
+                subscriber.onComplete();
+            }
+        }
+    }
+
+    static class CancelledSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(long n) {}
+
+        @Override
+        public void cancel() {}
+    }
+}
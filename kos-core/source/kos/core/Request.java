@@ -17,12 +17,18 @@
 package kos.core;
 
 import io.vertx.core.buffer.*;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.web.*;
 import kos.api.KosContext;
+import kos.api.Serializer;
 import kos.core.exception.KosException;
 import lombok.*;
 import lombok.experimental.*;
 
+import java.util.concurrent.Flow;
+
 /**
  * Methods to read and parse data from the incoming request.
  *
@@ -43,6 +49,78 @@ public class Request {
         return kosContext.getStringConverter().convertTo(type, header);
     }
 
+    /*
+     * Specialized readers for the most common parameter types. They are used by the
+     * generated route handlers, parsing values straight into primitives, avoiding
+     * both the boxing and the converter lookup made by the StringConverter.
+     */
+
+    public String readParamAsString(KosContext kosContext, RoutingContext context, String name) {
+        return context.request().getParam(name);
+    }
+
+    public int readParamAsInt(KosContext kosContext, RoutingContext context, String name) {
+        return parseInt(name, context.request().getParam(name));
+    }
+
+    public long readParamAsLong(KosContext kosContext, RoutingContext context, String name) {
+        return parseLong(name, context.request().getParam(name));
+    }
+
+    public double readParamAsDouble(KosContext kosContext, RoutingContext context, String name) {
+        return parseDouble(name, context.request().getParam(name));
+    }
+
+    public boolean readParamAsBoolean(KosContext kosContext, RoutingContext context, String name) {
+        return Boolean.parseBoolean(context.request().getParam(name));
+    }
+
+    public String readHeaderAsString(KosContext kosContext, RoutingContext context, String name) {
+        return context.request().getHeader(name);
+    }
+
+    public int readHeaderAsInt(KosContext kosContext, RoutingContext context, String name) {
+        return parseInt(name, context.request().getHeader(name));
+    }
+
+    public long readHeaderAsLong(KosContext kosContext, RoutingContext context, String name) {
+        return parseLong(name, context.request().getHeader(name));
+    }
+
+    public double readHeaderAsDouble(KosContext kosContext, RoutingContext context, String name) {
+        return parseDouble(name, context.request().getHeader(name));
+    }
+
+    public boolean readHeaderAsBoolean(KosContext kosContext, RoutingContext context, String name) {
+        return Boolean.parseBoolean(context.request().getHeader(name));
+    }
+
+    private int parseInt(String name, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException cause) {
+            throw new BadRequestException("Cannot read '%s': '%s' is not a valid int", name, value);
+        }
+    }
+
+    private long parseLong(String name, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException cause) {
+            throw new BadRequestException("Cannot read '%s': '%s' is not a valid long", name, value);
+        }
+    }
+
+    private double parseDouble(String name, String value) {
+        if (value == null)
+            throw new BadRequestException("Cannot read '%s': no value was informed", name);
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException cause) {
+            throw new BadRequestException("Cannot read '%s': '%s' is not a valid double", name, value);
+        }
+    }
+
     public <T> T readBody(KosContext kosContext, RoutingContext context, String name, Class<T> type) {
         val buffer = context.getBody();
         if (buffer == null)
@@ -53,14 +131,62 @@ public class Request {
         return serializer.deserialize(buffer, type);
     }
 
+    /**
+     * Reads the request body as a stream. When {@code type} is {@link Buffer}, the received
+     * chunks will be forwarded as they arrive. Otherwise, the body will be handled as
+     * new-line delimited entries (NDJSON), each one deserialized into {@code type}.
+     * Requests are paused until the returned stream has a handler and demand for entries.
+     */
+    public <T> ReadStream<T> readBodyAsReadStream(KosContext kosContext, RoutingContext context, String name, Class<T> type) {
+        val request = context.request();
+        request.pause();
+
+        val maxBodySize = BodySizeLimitHandler.maxBodySizeOf(context);
+        if (Buffer.class.equals(type))
+            return (ReadStream<T>) RequestBodyReadStream.chunks(request)
+                .limitedTo(maxBodySize, () -> context.fail(BodySizeLimitHandler.PAYLOAD_TOO_LARGE));
+
+        val serializer = serializerForStreamedBody(kosContext, request);
+        return RequestBodyReadStream.lines(request, line -> serializer.deserialize(line, type))
+                .limitedTo(maxBodySize, () -> context.fail(BodySizeLimitHandler.PAYLOAD_TOO_LARGE));
+    }
+
+    /**
+     * Reads the request body as a {@link Flow.Publisher}. It has the same semantics
+     * as {@link #readBodyAsReadStream(KosContext, RoutingContext, String, Class)}.
+     */
+    public <T> Flow.Publisher<T> readBodyAsPublisher(KosContext kosContext, RoutingContext context, String name, Class<T> type) {
+        val stream = readBodyAsReadStream(kosContext, context, name, type);
+        return new ReadStreamPublisher<>(stream);
+    }
+
+    private Serializer serializerForStreamedBody(KosContext kosContext, HttpServerRequest request) {
+        val contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+        if (contentType != null && isNewLineDelimitedJson(contentType))
+            return kosContext.getSerializerForContentType("application/json");
+        return kosContext.getPayloadSerializationStrategy().serializerFor(request);
+    }
+
+    private boolean isNewLineDelimitedJson(String contentType) {
+        return contentType.startsWith("application/x-ndjson")
+            || contentType.startsWith("application/jsonl");
+    }
+
     public <T> T readContext(KosContext kosContext, RoutingContext context, String name, Class<T> type) {
         return (T) context.get(name);
     }
 
     public static class BadRequestException extends KosException {
 
-        private BadRequestException(String message) {
-            super(message);
+        private BadRequestException(String message, Object...params) {
+            super(message, params);
+        }
+    }
+
+    public static class PayloadTooLargeException extends KosException {
+
+        PayloadTooLargeException(long maxBodySize) {
+            super("Request body exceeds the maximum allowed size of %d bytes", maxBodySize);
         }
     }
 }
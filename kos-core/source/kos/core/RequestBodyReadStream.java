@@ -0,0 +1,236 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import lombok.val;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Function;
+
+/**
+ * A {@link ReadStream} that reads the request body on demand. It can either
+ * forward the received chunks as they arrive, or split them into new-line
+ * delimited entries (NDJSON), decoding each entry into an object.
+ *
+ * The wrapped stream is expected to be paused when this object is created.
+ * It will only be resumed once a handler is defined and there is demand
+ * for more entries, allowing the consumer to control the back-pressure.
+ */
+@SuppressWarnings("unchecked")
+class RequestBodyReadStream<T> implements ReadStream<T> {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final Deque<T> pending = new ArrayDeque<>();
+    private final ReadStream<Buffer> upstream;
+    private final Function<Buffer, T> decoder;
+    private final boolean splitLines;
+
+    private Buffer remaining = Buffer.buffer();
+    private int scannedBytes = 0;
+    private long maxBodySize = -1;
+    private long receivedBytes = 0;
+    private Runnable onMaxBodySizeExceeded;
+    private long demand = Long.MAX_VALUE;
+    private boolean upstreamEnded = false;
+    private boolean ended = false;
+
+    private Handler<T> handler;
+    private Handler<Void> endHandler;
+    private Handler<Throwable> exceptionHandler;
+
+    private RequestBodyReadStream(ReadStream<Buffer> upstream, Function<Buffer, T> decoder, boolean splitLines) {
+        this.upstream = upstream;
+        this.decoder = decoder;
+        this.splitLines = splitLines;
+    }
+
+    /**
+     * Creates a stream that forwards the received chunks untouched.
+     */
+    static RequestBodyReadStream<Buffer> chunks(ReadStream<Buffer> upstream) {
+        return new RequestBodyReadStream<>(upstream, Function.identity(), false);
+    }
+
+    /**
+     * Creates a stream that decodes each new-line delimited entry with {@code decoder}.
+     */
+    static <T> RequestBodyReadStream<T> lines(ReadStream<Buffer> upstream, Function<Buffer, T> decoder) {
+        return new RequestBodyReadStream<>(upstream, decoder, true);
+    }
+
+    /**
+     * Limits the amount of bytes that might be read from the wrapped stream. Once it
+     * is exceeded, {@code onMaxBodySizeExceeded} will be called and the stream will fail.
+     * Negative values means there is no limit at all.
+     */
+    RequestBodyReadStream<T> limitedTo(long maxBodySize, Runnable onMaxBodySizeExceeded) {
+        this.maxBodySize = maxBodySize;
+        this.onMaxBodySizeExceeded = onMaxBodySizeExceeded;
+        return this;
+    }
+
+    @Override
+    public RequestBodyReadStream<T> exceptionHandler(Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public RequestBodyReadStream<T> handler(Handler<T> handler) {
+        this.handler = handler;
+        if (handler == null) {
+            upstream.pause();
+            upstream.handler(null);
+        } else {
+            upstream.handler(this::onChunk);
+            upstream.endHandler(ignored -> onUpstreamEnd());
+            upstream.exceptionHandler(this::onFailure);
+            drain();
+        }
+        return this;
+    }
+
+    @Override
+    public RequestBodyReadStream<T> pause() {
+        demand = 0;
+        upstream.pause();
+        return this;
+    }
+
+    @Override
+    public RequestBodyReadStream<T> resume() {
+        return fetch(Long.MAX_VALUE);
+    }
+
+    @Override
+    public RequestBodyReadStream<T> fetch(long amount) {
+        if (amount > 0) {
+            demand += amount;
+            if (demand < 0)
+                demand = Long.MAX_VALUE;
+            drain();
+        }
+        return this;
+    }
+
+    @Override
+    public RequestBodyReadStream<T> endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    private void onChunk(Buffer chunk) {
+        receivedBytes += chunk.length();
+        if (maxBodySize >= 0 && receivedBytes > maxBodySize) {
+            onMaxBodySizeExceeded.run();
+            onFailure(new Request.PayloadTooLargeException(maxBodySize));
+            return;
+        }
+
+        try {
+            if (!splitLines)
+                pending.add((T) chunk);
+            else
+                splitIntoLines(chunk);
+            drain();
+        } catch (Throwable cause) {
+            onFailure(cause);
+        }
+    }
+
+    /**
+     * Only the bytes received since the last new line found are kept. As they were
+     * already scanned, only the newly received chunk is scanned, keeping lines that span
+     * across several chunks from being scanned over and over again.
+     */
+    private void splitIntoLines(Buffer chunk) {
+        val buffer = remaining.appendBuffer(chunk);
+        var lineStart = 0;
+
+        for (int i = scannedBytes; i < buffer.length(); i++) {
+            if (buffer.getByte(i) == NEW_LINE) {
+                decodeLine(buffer.slice(lineStart, i));
+                lineStart = i + 1;
+            }
+        }
+
+        if (lineStart > 0)
+            remaining = buffer.getBuffer(lineStart, buffer.length());
+        scannedBytes = remaining.length();
+    }
+
+    private void decodeLine(Buffer line) {
+        if (!isBlank(line))
+            pending.add(decoder.apply(line));
+    }
+
+    private void onUpstreamEnd() {
+        try {
+            if (splitLines)
+                decodeLine(remaining);
+            remaining = Buffer.buffer();
+            scannedBytes = 0;
+            upstreamEnded = true;
+            drain();
+        } catch (Throwable cause) {
+            onFailure(cause);
+        }
+    }
+
+    private void onFailure(Throwable cause) {
+        pending.clear();
+        upstream.pause();
+        if (exceptionHandler != null)
+            exceptionHandler.handle(cause);
+    }
+
+    private void drain() {
+        if (handler == null)
+            return;
+
+        while (demand > 0 && !pending.isEmpty()) {
+            if (demand != Long.MAX_VALUE)
+                demand--;
+            handler.handle(pending.poll());
+        }
+
+        if (upstreamEnded) {
+            if (pending.isEmpty() && !ended) {
+                ended = true;
+                if (endHandler != null)
+                    endHandler.handle(null);
+            }
+        } else if (demand > 0 && pending.isEmpty())
+            upstream.resume();
+        else
+            upstream.pause();
+    }
+
+    private static boolean isBlank(Buffer line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.getByte(i)))
+                return false;
+        }
+        return true;
+    }
+}
@@ -36,11 +36,26 @@ import static kos.core.Lang.mapOf;
  * Small layer that wraps {@link Router} aiming to simplify a few common
  * aspects regarding route configuration, like intercepting requests
  * and the reading body requests in a POST, PUT and PATCH requests.
+ * The request body is read on a per-route basis, allowing routes that
+ * consume it as a stream to skip the body buffering entirely.
  */
 @Slf4j
 @Accessors(fluent = true)
 public class SimplifiedRouter implements Handler<HttpServerRequest> {
 
+    /**
+     * Identifies routes that have no maximum body size defined, thus falling
+     * back to the router's {@link #defaultMaxBodySize()}.
+     */
+    public static final long DEFAULT_MAX_BODY_SIZE = -1;
+
+    /**
+     * The maximum body size (in bytes) accepted by routes with no maximum size
+     * defined. Negative values means there is no limit at all.
+     */
+    @Getter @Setter
+    private long defaultMaxBodySize = -1;
+
     private final Router router;
     private final RequestInterceptorHandler interceptorHandler;
     private final Map<HttpMethod, Boolean> httpMethodsThatMayReadBody;
@@ -58,7 +73,11 @@ public class SimplifiedRouter implements Handler<HttpServerRequest> {
     }
 
     /**
-     * Returns the wrapped Vert.x {@link Router}.
+     * Returns the wrapped Vert.x {@link Router}. The request body is read per route,
+     * thus routes registered directly on it won't have the request body read for them:
+     * they should either be registered through {@link #route(HttpMethod, String, Handler)}
+     * or attach a {@link BodyHandler} themselves.
+     *
      * @return the wrapped Vert.x {@link Router}
      */
     public Router unwrap(){
@@ -121,18 +140,96 @@ public class SimplifiedRouter implements Handler<HttpServerRequest> {
      * @param handler request handler
      */
     public void route( HttpMethod method, String path, Handler<RoutingContext> handler ){
+        if (httpMethodsThatMayReadBody.containsKey( method ))
+            route( method, path, DEFAULT_MAX_BODY_SIZE, handler );
+        else
+            routeWithNoBody( method, path, handler );
+    }
+
+    /**
+     * Routes requests made to {@code path} to a particular handler that reads
+     * the request body. The body will be fully read before the handler is called,
+     * unless its size exceeds {@code maxBodySize}. In such case, the request will
+     * be rejected with {@code 413 Payload Too Large}.
+     *
+     * @param method Http Method used by this endpoint
+     * @param path relative URI used by this endpoint
+     * @param maxBodySize maximum body size (in bytes). Use {@link #DEFAULT_MAX_BODY_SIZE}
+     *                    to fall back to {@link #defaultMaxBodySize()}.
+     * @param handler request handler
+     */
+    public void route( HttpMethod method, String path, long maxBodySize, Handler<RoutingContext> handler ){
+        if (httpMethodsThatMayReadBody.isEmpty()) {
+            routeWithNoBody( method, path, handler );
+            return;
+        }
+
+        log.info("Registering router "+method+" "+path );
+        val bodyLimit = bodyLimitFor( maxBodySize );
+        router.route( method, path )
+            .handler( BodyHandler.create().setBodyLimit( bodyLimit ) )
+            .handler( new SafeRoutingContextHandler(handler, kosContext) );
+
+        log.debug( "Registered " + handler.getClass() );
+    }
+
+    /**
+     * Routes requests made to {@code path} to a particular handler that won't
+     * read the request body. No body handling will be performed for this route.
+     *
+     * @param method Http Method used by this endpoint
+     * @param path relative URI used by this endpoint
+     * @param handler request handler
+     */
+    public void routeWithNoBody( HttpMethod method, String path, Handler<RoutingContext> handler ){
         log.info("Registering router "+method+" "+path );
-        val isFirstTimeThisMethodIsUsed = httpMethodsThatMayReadBody.replace( method, false, true );
+        router.route( method, path )
+            .handler( new SafeRoutingContextHandler(handler, kosContext) );
 
-        if (isFirstTimeThisMethodIsUsed)
-            router.route().method(method).handler( BodyHandler.create() );
+        log.debug( "Registered " + handler.getClass() );
+    }
 
+    /**
+     * Routes requests made to {@code path} to a particular handler that will
+     * consume the request body as a stream. The body won't be read (buffered)
+     * before the handler is called, leaving the handler in charge of reading
+     * it, respecting the back-pressure signals.
+     *
+     * @param method Http Method used by this endpoint
+     * @param path relative URI used by this endpoint
+     * @param handler request handler
+     */
+    public void routeWithStreamedBody( HttpMethod method, String path, Handler<RoutingContext> handler ){
+        routeWithStreamedBody( method, path, DEFAULT_MAX_BODY_SIZE, handler );
+    }
+
+    /**
+     * Routes requests made to {@code path} to a particular handler that will
+     * consume the request body as a stream. The body won't be read (buffered)
+     * before the handler is called, leaving the handler in charge of reading
+     * it, respecting the back-pressure signals. Requests which Content-Length,
+     * or the amount of streamed bytes, exceeds {@code maxBodySize} will be
+     * rejected with {@code 413 Payload Too Large}.
+     *
+     * @param method Http Method used by this endpoint
+     * @param path relative URI used by this endpoint
+     * @param maxBodySize maximum body size (in bytes). Use {@link #DEFAULT_MAX_BODY_SIZE}
+     *                    to fall back to {@link #defaultMaxBodySize()}.
+     * @param handler request handler
+     */
+    public void routeWithStreamedBody( HttpMethod method, String path, long maxBodySize, Handler<RoutingContext> handler ){
+        log.info("Registering router "+method+" "+path+" (streamed body)" );
         router.route( method, path )
+            .handler( new BodySizeLimitHandler( bodyLimitFor( maxBodySize ) ) )
             .handler( new SafeRoutingContextHandler(handler, kosContext) );
 
         log.debug( "Registered " + handler.getClass() );
     }
 
+    private long bodyLimitFor( long maxBodySize ) {
+        return maxBodySize < 0 ? defaultMaxBodySize : maxBodySize;
+    }
+
     /**
      * Creates an instance of {@link SimplifiedRouter} that will automatically read the
      * request body payload for PATCH, POST and PUT.
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Keeps track of the time spent by each phase of the Kos boot sequence
+ * (and by each component of those phases). It is populated by the {@link Launcher}
+ * and the {@link VertxWebServer}, being safe to be populated by several threads at once.
+ */
+public class StartupTrace {
+
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final long startedAt;
+    private volatile long finishedAt = -1;
+
+    public StartupTrace() {
+        this(System.nanoTime());
+    }
+
+    StartupTrace(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    /**
+     * Measures the time spent by {@code phase}.
+     *
+     * @param phase the phase name
+     * @param runnable the phase itself
+     */
+    public void measure(@NonNull String phase, @NonNull Runnable runnable) {
+        measure(phase, () -> { runnable.run(); return null; });
+    }
+
+    /**
+     * Measures the time spent by {@code phase}.
+     *
+     * @param phase the phase name
+     * @param supplier the phase itself
+     * @param <T> the type of the phase result
+     * @return the phase result
+     */
+    public <T> T measure(@NonNull String phase, @NonNull Supplier<T> supplier) {
+        val phaseStartedAt = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            record(phase, null, phaseStartedAt, System.nanoTime() - phaseStartedAt);
+        }
+    }
+
+    /**
+     * Records the time spent by a phase whose beginning was previously
+     * marked by {@link System#nanoTime()} (e.g. a phase finished asynchronously).
+     *
+     * @param phase the phase name
+     * @param phaseStartedAt when the phase started
+     */
+    public void recordSince(@NonNull String phase, long phaseStartedAt) {
+        record(phase, null, phaseStartedAt, System.nanoTime() - phaseStartedAt);
+    }
+
+    /**
+     * Records the time spent by a phase run by {@link PrioritizedStartup}, including
+     * the time spent by each one of its tasks.
+     *
+     * @param report the report generated by {@link PrioritizedStartup}
+     */
+    public void record(@NonNull PrioritizedStartup.Report report) {
+        val phaseStartedAt = System.nanoTime() - report.getElapsedNanos();
+        record(report.getPhase(), null, phaseStartedAt, report.getElapsedNanos());
+        for (val timing : report.getTimings())
+            spans.add(new Span(report.getPhase(), timing.getName(), -1, timing.getElapsedNanos(), timing.getThread()));
+    }
+
+    private void record(String phase, String component, long phaseStartedAt, long elapsed) {
+        spans.add(new Span(phase, component, phaseStartedAt - startedAt, elapsed, Thread.currentThread().getName()));
+    }
+
+    /**
+     * Marks the boot sequence as finished.
+     *
+     * @return this trace
+     */
+    public StartupTrace finish() {
+        finishedAt = System.nanoTime();
+        return this;
+    }
+
+    /**
+     * @return the time elapsed since the boot sequence started (until it is finished)
+     */
+    public long getElapsedMillis() {
+        val end = finishedAt < 0 ? System.nanoTime() : finishedAt;
+        return TimeUnit.NANOSECONDS.toMillis(end - startedAt);
+    }
+
+    /**
+     * @return every recorded phase and component, in the order they were recorded
+     */
+    public List<Span> getSpans() {
+        return Collections.unmodifiableList(new ArrayList<>(spans));
+    }
+
+    /**
+     * Computes the wall-clock time spent by each phase. Phases recorded more than once
+     * (e.g. when several web server instances are deployed) are measured from the
+     * first start until the last end.
+     *
+     * @return the time spent by each phase (in milliseconds), in the order they were started
+     */
+    public Map<String, Long> getPhases() {
+        val boundaries = new HashMap<String, long[]>();
+        for (val span : spans) {
+            if (span.getComponent() != null) continue;
+            val end = span.getStartedAtNanos() + span.getElapsedNanos();
+            val current = boundaries.get(span.getPhase());
+            if (current == null)
+                boundaries.put(span.getPhase(), new long[]{ span.getStartedAtNanos(), end });
+            else {
+                current[0] = Math.min(current[0], span.getStartedAtNanos());
+                current[1] = Math.max(current[1], end);
+            }
+        }
+
+        val sorted = new ArrayList<>(boundaries.entrySet());
+        sorted.sort(Comparator.comparingLong(e -> e.getValue()[0]));
+
+        val phases = new LinkedHashMap<String, Long>();
+        for (val entry : sorted)
+            phases.put(entry.getKey(), TimeUnit.NANOSECONDS.toMillis(entry.getValue()[1] - entry.getValue()[0]));
+        return phases;
+    }
+
+    /**
+     * @return a single (key=value formatted) line summarising the time spent by each phase
+     */
+    public String toLogLine() {
+        val line = new StringJoiner(" ");
+        line.add("startup.total=" + getElapsedMillis() + "ms");
+        for (val phase : getPhases().entrySet())
+            line.add("startup." + phase.getKey() + "=" + phase.getValue() + "ms");
+        return line.toString();
+    }
+
+    /**
+     * @return this trace as a JSON object
+     */
+    public JsonObject toJson() {
+        val json = new JsonObject()
+            .put("totalMillis", getElapsedMillis())
+            .put("phases", new JsonObject(new LinkedHashMap<>(getPhases())));
+
+        val spansAsJson = new JsonArray();
+        for (val span : spans) {
+            val spanAsJson = new JsonObject()
+                .put("phase", span.getPhase())
+                .put("elapsedMillis", span.getElapsedMillis())
+                .put("thread", span.getThread());
+            if (span.getComponent() != null)
+                spanAsJson.put("component", span.getComponent());
+            if (span.getStartedAtNanos() >= 0)
+                spanAsJson.put("startedAtMillis", TimeUnit.NANOSECONDS.toMillis(span.getStartedAtNanos()));
+            spansAsJson.add(spanAsJson);
+        }
+
+        return json.put("spans", spansAsJson);
+    }
+
+    /**
+     * The time spent by a phase, or by one of its components.
+     */
+    @Value public static class Span {
+        String phase;
+        /** The component name, or {@code null} if this span represents the whole phase. */
+        String component;
+        /** When it started, relative to the beginning of the boot sequence ({@code -1} if unknown). */
+        long startedAtNanos;
+        long elapsedNanos;
+        String thread;
+
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+    }
+}
@@ -27,8 +27,6 @@ import lombok.*;
 import lombok.experimental.*;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.Comparator;
-
 /**
  * Abstracts the creation of a Vert.x web server, automating a few
  * repetitive tasks, automatically loading routes if available,
@@ -41,11 +39,20 @@ import java.util.Comparator;
 @Accessors(fluent = true)
 public class VertxWebServer extends AbstractVerticle {
 
+    private static boolean jacksonModulesRegistered = false;
+
     private final KosContext kosContext;
 
     @NonNull
     private SimplifiedRouter router;
 
+    /**
+     * Shared by the instances deployed at once, ensuring the application-wide
+     * listeners are notified only once.
+     */
+    @NonNull
+    private WebServerDeployment deployment;
+
     /**
      * Constructs a VertxWebServer. This constructor will automatically
      * run and configure all option flags.
@@ -74,6 +81,7 @@ public class VertxWebServer extends AbstractVerticle {
 
         if (autoConfigOptionals) {
             defaultRouter.route().handler(new DefaultContextAttributesMemorizer());
+            defaultRouter.route().handler(new ContentNegotiationHandler(kosContext));
 
             kosContext.getImplementationLoader()
                 .instancesExposedAs(RequestInterceptor.class)
@@ -92,6 +100,7 @@ public class VertxWebServer extends AbstractVerticle {
     public VertxWebServer(KosContext kosContext, SimplifiedRouter router) {
         this.kosContext = kosContext;
         this.router = router;
+        this.deployment = new WebServerDeployment(kosContext);
     }
 
     @Override
@@ -131,7 +140,7 @@ public class VertxWebServer extends AbstractVerticle {
         return startFuture.future();
     }
 
-    private void notifyWebServerDeploymentListeners() {
+    private PrioritizedStartup.Report notifyWebServerDeploymentListeners() {
         val deploymentListenerContext = new WebServerEventListener.BeforeDeployWebServerEvent(
             vertx, router(), this.config(), kosContext
         );
@@ -139,19 +148,41 @@ public class VertxWebServer extends AbstractVerticle {
         val listeners = kosContext.getImplementationLoader()
             .instancesExposedAs( WebServerEventListener.class );
 
-        Lang.sorted(listeners, Comparator.comparingInt(WebServerEventListener::priority).reversed())
-            .forEach( cnf -> cnf.on(deploymentListenerContext) );
+        // Listeners register routes on the (non thread-safe) router, thus they are notified sequentially
+        val report = new PrioritizedStartup("web-server-listeners", 1)
+            .run(listeners, WebServerEventListener::priority, cnf -> cnf.on(deploymentListenerContext));
+        report.log();
+        return report;
     }
 
     /**
      * Executes before the server is started.
      */
     protected void beforeStart() {
-        notifyWebServerDeploymentListeners();
+        val trace = kosContext.getImplementationLoader().instanceOf(StartupTrace.class).orElse(new StartupTrace());
+        val deploymentReport = deployment.prepare(vertx, config());
+        if (deploymentReport != null)
+            trace.record(deploymentReport);
+        trace.record(notifyWebServerDeploymentListeners());
         log.debug("Initializing Web Service verticle with the following configurations: " + kosContext);
+        trace.measure("jackson-modules", VertxWebServer::registerJacksonModules);
+    }
 
-        DatabindCodec.mapper().findAndRegisterModules();
-        DatabindCodec.prettyMapper().findAndRegisterModules();
+    /**
+     * Registers the Jackson modules available in the class path. As several
+     * instances of this verticle might be deployed at once, this is made
+     * only once, avoiding concurrent changes on the (shared) object mappers.
+     * Once the modules are registered, readers and writers of the types known
+     * by the generated classes are resolved beforehand.
+     */
+    private static synchronized void registerJacksonModules() {
+        if (!jacksonModulesRegistered) {
+            DatabindCodec.mapper().findAndRegisterModules();
+            DatabindCodec.prettyMapper().findAndRegisterModules();
+            JacksonTypeCache.warmUp()
+                .forEach( unsupported -> log.warn("Unsupported payload type: " + unsupported) );
+            jacksonModulesRegistered = true;
+        }
     }
 
     /**
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import kos.api.KosContext;
+import kos.api.WebServerEventListener;
+import kos.api.WebServerEventListener.BeforeDeployWebServersEvent;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Shared by every {@link VertxWebServer} instance of a single deployment, it ensures
+ * that the application-wide phase of the {@link WebServerEventListener}s runs only once,
+ * before any instance configures its own router.
+ */
+@RequiredArgsConstructor
+public class WebServerDeployment {
+
+    @NonNull private final KosContext kosContext;
+    private PrioritizedStartup.Report report;
+
+    /**
+     * Notifies {@link WebServerEventListener#on(BeforeDeployWebServersEvent)}, sequentially
+     * and ordered by priority. Further calls are ignored.
+     *
+     * @param vertx the Vert.x instance the web servers will be deployed at
+     * @param applicationConfig the application configuration
+     * @return the report of the notified listeners, or {@code null} if they were already notified.
+     */
+    public synchronized PrioritizedStartup.Report prepare(Vertx vertx, JsonObject applicationConfig) {
+        if (report != null)
+            return null;
+
+        val event = new BeforeDeployWebServersEvent(vertx, applicationConfig, kosContext);
+        val listeners = kosContext.getImplementationLoader().instancesExposedAs(WebServerEventListener.class);
+        report = new PrioritizedStartup("web-server-deployment", 1)
+            .run(listeners, WebServerEventListener::priority, listener -> listener.on(event));
+        report.log();
+        return report;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.*;
+import io.vertx.core.json.JsonObject;
+import kos.api.KosContext.SupplierThatMightFail;
+import kos.core.exception.KosException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Named, bounded worker pools used to run blocking code. Pools are defined
+ * by the {@code worker-pools} configuration entry, and lazily created on their
+ * first usage. Each pool keeps track of how many tasks are waiting for a thread,
+ * and for how long they waited, so a slow dependency can be spotted before it
+ * starves unrelated blocking work.
+ *
+ * <pre>
+ * worker-pools:
+ *   jdbc:
+ *     size: 32
+ *     max-execute-time: 30000
+ *     ordered: false
+ * </pre>
+ *
+ * The {@code default} pool is used whenever no pool name is given. Unless configured,
+ * it is the Vert.x worker pool, running tasks submitted by the same context in order.
+ * Requesting any other pool absent from the configuration fails with {@link KosException}.
+ * Pools requested before the configuration is loaded are not kept, as their definition
+ * might not be known yet.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class WorkerPools {
+
+    public static final String CONFIG_ENTRY = "worker-pools";
+    public static final String DEFAULT_POOL = "default";
+
+    private final Map<String, WorkerPool> pools = new ConcurrentHashMap<>();
+
+    @NonNull private final Supplier<Vertx> vertx;
+    @NonNull private final Supplier<JsonObject> applicationConfig;
+
+    /**
+     * Retrieves the pool named {@code name}, creating it if needed.
+     *
+     * @param name the pool name
+     * @return the worker pool
+     * @throws KosException if the pool is neither the {@code default} one nor defined
+     *         in the configuration, or if it is requested before the configuration is loaded.
+     */
+    public WorkerPool get(@NonNull String name) {
+        WorkerPool pool = pools.get(name);
+        if (pool == null) {
+            val config = applicationConfig.get();
+            if (config == null)
+                return createBeforeConfigurationIsLoaded(name);
+
+            pool = create(name, configurationFor(config, name));
+            val previous = pools.putIfAbsent(name, pool);
+            if (previous != null) {
+                pool.close();
+                pool = previous;
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * @return the statistics of every pool created so far
+     */
+    public List<Stats> getStats() {
+        val stats = new ArrayList<Stats>();
+        for (val pool : pools.values())
+            stats.add(pool.getStats());
+        return stats;
+    }
+
+    /**
+     * Only the {@code default} pool can be used before the configuration is loaded. As its
+     * definition is still unknown, tasks run on the Vert.x worker pool, in order.
+     */
+    private WorkerPool createBeforeConfigurationIsLoaded(String name) {
+        if (!DEFAULT_POOL.equals(name))
+            throw new KosException("Worker pool '%s' requested before the configuration was loaded", name);
+        return new WorkerPool(name, vertx.get(), null, true);
+    }
+
+    private WorkerPool create(String name, JsonObject config) {
+        val isDefault = DEFAULT_POOL.equals(name);
+        val ordered = config.getBoolean("ordered", isDefault);
+
+        if (isDefault && config.isEmpty())
+            return new WorkerPool(name, vertx.get(), null, ordered);
+
+        val size = config.getInteger("size", VertxOptions.DEFAULT_WORKER_POOL_SIZE);
+        val maxExecuteTime = config.getLong("max-execute-time",
+            TimeUnit.NANOSECONDS.toMillis(VertxOptions.DEFAULT_MAX_WORKER_EXECUTE_TIME));
+
+        log.debug("Creating worker pool '" + name + "' (size=" + size + ", max-execute-time=" + maxExecuteTime + "ms, ordered=" + ordered + ")");
+        val executor = vertx.get().createSharedWorkerExecutor("kos-" + name, size, maxExecuteTime, TimeUnit.MILLISECONDS);
+        return new WorkerPool(name, vertx.get(), executor, ordered);
+    }
+
+    private static JsonObject configurationFor(JsonObject config, String name) {
+        val pools = config.getJsonObject(CONFIG_ENTRY);
+        val pool = pools == null ? null : pools.getJsonObject(name);
+        if (pool != null)
+            return pool;
+        if (DEFAULT_POOL.equals(name))
+            return new JsonObject();
+        throw new KosException("Unknown worker pool '%s'. Pools should be defined at the '%s' configuration entry", name, CONFIG_ENTRY);
+    }
+
+    /**
+     * A worker pool. Tasks are run on its own (shared) worker executor,
+     * or on the Vert.x worker pool if it has none.
+     */
+    @RequiredArgsConstructor
+    public static class WorkerPool {
+
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        private final String name;
+        private final Vertx vertx;
+        private final WorkerExecutor executor;
+        private final boolean ordered;
+
+        public <T> Future<T> compute(SupplierThatMightFail<T> supplier) {
+            val submittedAt = System.nanoTime();
+            queued.incrementAndGet();
+
+            final Handler<Promise<T>> task = promise -> {
+                recordWait(System.nanoTime() - submittedAt);
+                active.incrementAndGet();
+                try {
+                    promise.complete(supplier.get());
+                } catch (Throwable cause) {
+                    promise.fail(cause);
+                } finally {
+                    active.decrementAndGet();
+                    completed.increment();
+                }
+            };
+
+            if (executor == null)
+                return vertx.executeBlocking(task, ordered);
+            return executor.executeBlocking(task, ordered);
+        }
+
+        private void recordWait(long waitNanos) {
+            queued.decrementAndGet();
+            totalWaitNanos.add(waitNanos);
+            maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        public Stats getStats() {
+            val completedTasks = completed.sum();
+            val averageWait = completedTasks == 0 ? 0 : totalWaitNanos.sum() / completedTasks;
+            return new Stats(
+                name, queued.get(), active.get(), completedTasks,
+                TimeUnit.NANOSECONDS.toMillis(averageWait),
+                TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get())
+            );
+        }
+
+        void close() {
+            if (executor != null)
+                executor.close();
+        }
+    }
+
+    /**
+     * A snapshot of a worker pool usage.
+     */
+    @Value public static class Stats {
+        String name;
+        /** Tasks waiting for a thread. */
+        int queued;
+        /** Tasks being executed. */
+        int active;
+        long completed;
+        long averageWaitMillis;
+        long maxWaitMillis;
+    }
+}
@@ -19,18 +19,29 @@ package kos.core.client;
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.vertx.core.Future;
 import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.client.HttpRequest;
 import lombok.val;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * Abstract class used as base class for generated rest clients.
  */
 public class AutoGeneratedRestClient {
 
     protected final RestClientConfiguration configuration;
+    private final Map<String, RestClientPolicyEnforcer> enforcers = new ConcurrentHashMap<>();
 
     public AutoGeneratedRestClient(RestClientConfiguration configuration) {
         this.configuration = configuration;
+        // misconfigured policies should fail once the client is created, not on every request
+        configuration.getPolicy().validate();
+        for (val policy : configuration.getMethodPolicies().values())
+            policy.validate();
     }
 
     protected MultiMap createEmptyHeaders(){
@@ -43,8 +54,7 @@ public class AutoGeneratedRestClient {
         MultiMap headers,
         Class<T> expectedResponseType
     ){
-        val handler = ResponseHandler.<T>create(configuration.getRestClientSerializer(), expectedResponseType);
-        return execute(httpMethod, uri, headers, handler);
+        return execute(null, httpMethod, uri, headers, expectedResponseType);
     }
 
     public <T> Future<T> execute(
@@ -52,23 +62,92 @@ public class AutoGeneratedRestClient {
         MultiMap headers,
         TypeReference<T> expectedResponseType
     ){
-        val handler = ResponseHandler.<T>create(configuration.getRestClientSerializer(), expectedResponseType);
-        return execute(httpMethod, uri, headers, handler);
+        return execute(null, httpMethod, uri, headers, expectedResponseType);
+    }
+
+    public <T> Future<T> execute(
+        String methodName, HttpMethod httpMethod, String uri,
+        MultiMap headers,
+        Class<T> expectedResponseType
+    ){
+        val serializer = configuration.getRestClientSerializer();
+        return execute(methodName, httpMethod, uri, headers, expectedResponseType,
+            () -> ResponseHandler.create(serializer, expectedResponseType));
+    }
+
+    public <T> Future<T> execute(
+        String methodName, HttpMethod httpMethod, String uri,
+        MultiMap headers,
+        TypeReference<T> expectedResponseType
+    ){
+        val serializer = configuration.getRestClientSerializer();
+        return execute(methodName, httpMethod, uri, headers, expectedResponseType.getType(),
+            () -> ResponseHandler.create(serializer, expectedResponseType));
     }
 
+    /**
+     * @param responseType the type the response is decoded into. Shared responses (cached
+     *                     or coalesced) are only delivered to callers expecting the same type.
+     */
     private <T> Future<T> execute(
-            HttpMethod httpMethod, String uri,
-            MultiMap headers,
-            ResponseHandler<T> handler
+            String methodName, HttpMethod httpMethod, String uri,
+            MultiMap headers, Type responseType,
+            Supplier<ResponseHandler<T>> handlers
     ){
+        // asks for the format the response will be decoded from, before the request keys are computed
+        if (!headers.contains("accept"))
+            headers.add("accept", configuration.getRestClientSerializer().contentType());
+
         val baseUri = configuration.computeValidRelativeUrlTo(uri);
-        configuration.getClient()
-            .request(httpMethod, configuration.getPort(), configuration.getHost(), baseUri)
-            .ssl(configuration.isHttps())
-            .putHeaders(headers)
-                .send(handler);
+        val cache = configuration.getCache();
+        val enforcer = enforcerFor(methodName);
+        val singleFlight = enforcer.getPolicy().isSingleFlight();
+        if (!HttpMethod.GET.equals(httpMethod) || (cache == null && !singleFlight))
+            return dispatch(methodName, httpMethod, baseUri, headers, handlers);
+
+        if (!singleFlight)
+            return fetch(methodName, baseUri, headers, responseType, handlers);
 
-        return handler.future();
+        // unlike the cache key, every header is considered: any of them (e.g. a tenant id) might change the response
+        val key = RestClientCache.keyFor(
+            configuration.getHost(), configuration.getPort(), baseUri, responseType, headers, header -> true);
+        return enforcer.coalesce(key, () -> fetch(methodName, baseUri, headers, responseType, handlers));
+    }
+
+    /**
+     * Retrieves the response of a GET request, from the cache if possible.
+     */
+    private <T> Future<T> fetch(
+            String methodName, String baseUri,
+            MultiMap headers, Type responseType,
+            Supplier<ResponseHandler<T>> handlers
+    ){
+        val cache = configuration.getCache();
+        if (cache == null)
+            return dispatch(methodName, HttpMethod.GET, baseUri, headers, handlers);
+
+        val key = cache.keyFor(configuration.getHost(), configuration.getPort(), baseUri, responseType, headers);
+        return cache.execute(key, headers, handlers,
+            (requestHeaders, cacheableHandlers) -> dispatch(methodName, HttpMethod.GET, baseUri, requestHeaders, cacheableHandlers));
+    }
+
+    /**
+     * Sends a request without payload, applying the policy of the given method.
+     */
+    private <T> Future<T> dispatch(
+            String methodName, HttpMethod httpMethod, String baseUri,
+            MultiMap headers,
+            Supplier<ResponseHandler<T>> handlers
+    ){
+        val enforcer = enforcerFor(methodName);
+        return enforcer.execute(enforcer.isRetryable(httpMethod), () -> {
+            final ResponseHandler<T> handler = handlers.get();
+            final Future<T> future = tracked(handler);
+            request(enforcer, httpMethod, baseUri)
+                .putHeaders(headers)
+                    .send(handler);
+            return future;
+        });
     }
 
     public <T> Future<T> send(
@@ -76,8 +155,7 @@ public class AutoGeneratedRestClient {
         MultiMap headers, Object payload,
         TypeReference<T> expectedResponseType
     ){
-        val handler = ResponseHandler.<T>create(configuration.getRestClientSerializer(), expectedResponseType);
-        return send(httpMethod, uri, headers, payload, handler);
+        return send(null, httpMethod, uri, headers, payload, expectedResponseType);
     }
 
     public <T> Future<T> send(
@@ -85,25 +163,90 @@ public class AutoGeneratedRestClient {
         MultiMap headers, Object payload,
         Class<T> expectedResponseType
     ){
-        val handler = ResponseHandler.<T>create(configuration.getRestClientSerializer(), expectedResponseType);
-        return send(httpMethod, uri, headers, payload, handler);
+        return send(null, httpMethod, uri, headers, payload, expectedResponseType);
+    }
+
+    public <T> Future<T> send(
+        String methodName, HttpMethod httpMethod, String uri,
+        MultiMap headers, Object payload,
+        TypeReference<T> expectedResponseType
+    ){
+        val serializer = configuration.getRestClientSerializer();
+        return send(methodName, httpMethod, uri, headers, payload, () -> ResponseHandler.create(serializer, expectedResponseType), true);
+    }
+
+    public <T> Future<T> send(
+        String methodName, HttpMethod httpMethod, String uri,
+        MultiMap headers, Object payload,
+        Class<T> expectedResponseType
+    ){
+        val serializer = configuration.getRestClientSerializer();
+        return send(methodName, httpMethod, uri, headers, payload, () -> ResponseHandler.create(serializer, expectedResponseType), true);
     }
 
     protected <T> Future<T> send(
         HttpMethod httpMethod, String uri,
         MultiMap headers, Object payload,
         ResponseHandler<T> handler
+    ){
+        // a handler can't be reused, thus the request is never retried
+        return send(null, httpMethod, uri, headers, payload, () -> handler, false);
+    }
+
+    private <T> Future<T> send(
+        String methodName, HttpMethod httpMethod, String uri,
+        MultiMap headers, Object payload,
+        Supplier<ResponseHandler<T>> handlers, boolean reusableHandlers
     ){
         val serializer = configuration.getRestClientSerializer();
         headers.add("content-type", serializer.contentType());
+        if (!headers.contains("accept"))
+            headers.add("accept", serializer.contentType());
 
         val baseUri = configuration.computeValidRelativeUrlTo(uri);
-        configuration.getClient()
+        val body = serializer.serialize(payload);
+        val enforcer = enforcerFor(methodName);
+        val retryable = reusableHandlers && enforcer.isRetryable(httpMethod);
+        return enforcer.execute(retryable, () -> {
+            final ResponseHandler<T> handler = handlers.get();
+            final Future<T> future = tracked(handler);
+            request(enforcer, httpMethod, baseUri)
+                .putHeaders(headers)
+                .sendBuffer(body, handler);
+            return future;
+        });
+    }
+
+    private HttpRequest<Buffer> request(RestClientPolicyEnforcer enforcer, HttpMethod httpMethod, String baseUri) {
+        val request = configuration.getClient()
             .request(httpMethod, configuration.getPort(), configuration.getHost(), baseUri)
-            .ssl(configuration.isHttps())
-            .putHeaders(headers)
-            .sendBuffer(serializer.serialize(payload), handler);
+            .ssl(configuration.isHttps());
+
+        val timeout = enforcer.getPolicy().getTimeout();
+        if (timeout > 0)
+            request.timeout(timeout);
+        return request;
+    }
+
+    /**
+     * Retrieves the (stateful) policy enforcer of a given method. Requests
+     * sent without a method name share the policy defined for the client.
+     */
+    private RestClientPolicyEnforcer enforcerFor(String methodName) {
+        val key = methodName == null ? "" : methodName;
+        return enforcers.computeIfAbsent(key,
+            name -> new RestClientPolicyEnforcer(getClass().getSimpleName() + "." + name, configuration.policyFor(name)));
+    }
+
+    /**
+     * Marks the request as in-flight until its response is handled.
+     */
+    private <T> Future<T> tracked(ResponseHandler<T> handler) {
+        val pool = configuration.getPool();
+        if (pool == null)
+            return handler.future();
 
-        return handler.future();
+        pool.requestStarted();
+        return handler.future().onComplete( ignored -> pool.requestFinished() );
     }
 }
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.client;
+
+import kos.core.exception.KosException;
+
+/**
+ * Exception thrown whenever a request is not sent because the {@link RestClientPolicy}
+ * forbids it (e.g. the circuit breaker is open or the max concurrency was reached).
+ */
+public final class RejectedRestClientRequest extends KosException {
+
+    RejectedRestClientRequest(String reason, Object...args) {
+        super(reason, args);
+    }
+}
@@ -23,6 +23,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.ext.web.client.HttpResponse;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.val;
 
@@ -43,6 +44,12 @@ public abstract class ResponseHandler<T>
     private final Promise<T> promise = Promise.promise();
     protected final RestClientSerializer restClientSerializer;
 
+    /**
+     * The received response, available once the handler future is completed.
+     */
+    @Getter
+    private volatile HttpResponse<Buffer> response;
+
     @Override
     public void handle(AsyncResult<HttpResponse<Buffer>> event) {
         try {
@@ -55,6 +62,7 @@ public abstract class ResponseHandler<T>
 
     private void tryHandle(AsyncResult<HttpResponse<Buffer>> event){
         val response = event.result();
+        this.response = response;
         if (response.statusCode() > 299) {
             val msg = MSG_UNEXPECTED_RESPONSE + ", received " + response.statusCode();
             promise.fail(new UnexpectedRestClientResponse(msg, response));
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.client;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpResponse;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Client-side cache for the GET requests sent by Rest Clients. It stores the already deserialized
+ * responses, honouring the {@code Cache-Control} and {@code ETag} headers sent by the server: fresh
+ * entries are served without reaching the network, while stale entries with an {@code ETag} are
+ * revalidated with {@code If-None-Match}. Entries are evicted in LRU order once {@code maxEntries}
+ * is reached. Responses are cached per host, URI and the values of the {@code keyHeaders}
+ * (by default, {@link #DEFAULT_KEY_HEADERS}). A cache might be shared by several Rest Clients.<br>
+ * <br>
+ * As cached objects are shared by every caller, they should be treated as immutable.
+ *
+ * @see RestClientConfiguration#getCache()
+ */
+public class RestClientCache {
+
+    private static final String IF_NONE_MATCH = "if-none-match";
+
+    /**
+     * Request headers that usually change the response sent by the server. Other headers
+     * (e.g. tracing ones) are ignored, otherwise each request would have its own entry.
+     */
+    public static final List<String> DEFAULT_KEY_HEADERS = Collections.unmodifiableList(Arrays.asList(
+        "accept", "accept-language", "authorization", "cookie"
+    ));
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final Map<String, Entry> entries;
+    private final Set<String> keyHeaders;
+    private final long defaultTtlNanos;
+    private final long maxTtlNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * @param maxEntries maximum number of cached responses
+     * @param defaultTtl time (in milliseconds) a response without {@code Cache-Control: max-age} is considered fresh
+     * @param maxTtl maximum time (in milliseconds) a response is considered fresh, regardless its {@code Cache-Control}
+     */
+    public RestClientCache(int maxEntries, long defaultTtl, long maxTtl) {
+        this(maxEntries, defaultTtl, maxTtl, DEFAULT_KEY_HEADERS);
+    }
+
+    /**
+     * @param maxEntries maximum number of cached responses
+     * @param defaultTtl time (in milliseconds) a response without {@code Cache-Control: max-age} is considered fresh
+     * @param maxTtl maximum time (in milliseconds) a response is considered fresh, regardless its {@code Cache-Control}
+     * @param keyHeaders request headers (case-insensitive) that are part of the cache key
+     */
+    public RestClientCache(int maxEntries, long defaultTtl, long maxTtl, @NonNull Collection<String> keyHeaders) {
+        this(maxEntries, defaultTtl, maxTtl, keyHeaders, System::nanoTime);
+    }
+
+    RestClientCache(int maxEntries, long defaultTtl, long maxTtl, Collection<String> keyHeaders, LongSupplier nanoClock) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= maxEntries) return false;
+                evictions.increment();
+                return true;
+            }
+        };
+        this.keyHeaders = lowerCased(keyHeaders);
+        this.defaultTtlNanos = TimeUnit.MILLISECONDS.toNanos(defaultTtl);
+        this.maxTtlNanos = TimeUnit.MILLISECONDS.toNanos(maxTtl);
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Computes the cache key of a request: the target host, the URI, the type the response
+     * is decoded into and the key headers of this cache. As decoded responses are cached,
+     * callers expecting another type (e.g. a {@code JsonObject} instead of a DTO) have their own entry.
+     */
+    String keyFor(String host, int port, String uri, Type responseType, MultiMap headers) {
+        return keyFor(host, port, uri, responseType, headers, keyHeaders::contains);
+    }
+
+    /**
+     * Computes the key of a request: the target host, the URI, the type the response is
+     * decoded into and the headers accepted by {@code isKeyHeader} (which receives lower-cased names).
+     */
+    static String keyFor(String host, int port, String uri, Type responseType, MultiMap headers, Predicate<String> isKeyHeader) {
+        val relevantHeaders = new ArrayList<String>();
+        for (val header : headers) {
+            val name = header.getKey().toLowerCase();
+            if (isKeyHeader.test(name))
+                relevantHeaders.add(name + "=" + header.getValue());
+        }
+        relevantHeaders.sort(null);
+        return host + ":" + port + uri + " " + responseType.getTypeName() + " " + relevantHeaders;
+    }
+
+    private static Set<String> lowerCased(Collection<String> headers) {
+        val lowerCased = new HashSet<String>();
+        for (val header : headers)
+            lowerCased.add(header.toLowerCase());
+        return lowerCased;
+    }
+
+    /**
+     * Serves a cached response, if fresh. Otherwise, sends the request (revalidating
+     * the stale response, if possible) and caches the received response.
+     *
+     * @param key the cache key, computed by {@link #keyFor(String, int, String, Type, MultiMap)}
+     * @param headers the request headers, which are never modified
+     * @param handlers creates the response handler of each attempt
+     * @param sender sends the request with the given headers (including {@code If-None-Match}
+     *               when revalidating a response)
+     * @param <T> the response type
+     * @return the cached or received response
+     */
+    @SuppressWarnings("unchecked")
+    <T> Future<T> execute(
+        String key, MultiMap headers, Supplier<ResponseHandler<T>> handlers,
+        BiFunction<MultiMap, Supplier<ResponseHandler<T>>, Future<T>> sender
+    ) {
+        val cached = get(key);
+        if (cached != null && cached.expiresAt - nanoClock.getAsLong() > 0) {
+            hits.increment();
+            return Future.succeededFuture((T) cached.value);
+        }
+
+        misses.increment();
+        var requestHeaders = headers;
+        if (cached != null)
+            requestHeaders = MultiMap.caseInsensitiveMultiMap().addAll(headers).set(IF_NONE_MATCH, cached.etag);
+
+        Supplier<ResponseHandler<T>> storingHandlers = () -> {
+            final ResponseHandler<T> handler = handlers.get();
+            handler.future().onSuccess(value -> store(key, handler.getResponse(), value, null));
+            return handler;
+        };
+
+        return sender.apply(requestHeaders, storingHandlers).recover(cause -> {
+            if (cached == null || !isNotModified(cause))
+                return Future.failedFuture(cause);
+
+            // servers might omit the ETag on 304 responses, thus the cached one is kept
+            revalidations.increment();
+            store(key, ((UnexpectedRestClientResponse) cause).getResponse(), cached.value, cached.etag);
+            return Future.succeededFuture((T) cached.value);
+        });
+    }
+
+    private static boolean isNotModified(Throwable cause) {
+        return cause instanceof UnexpectedRestClientResponse
+            && ((UnexpectedRestClientResponse) cause).getResponse().statusCode() == 304;
+    }
+
+    private synchronized Entry get(String key) {
+        val entry = entries.get(key);
+        if (entry != null && entry.etag == null && entry.expiresAt - nanoClock.getAsLong() <= 0) {
+            // expired entries can only be kept if they might be revalidated
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private void store(String key, HttpResponse<Buffer> response, Object value, String knownEtag) {
+        if (value == null || response == null)
+            return;
+
+        val cacheControl = response.getHeader("cache-control");
+        val receivedEtag = response.getHeader("etag");
+        val etag = receivedEtag != null ? receivedEtag : knownEtag;
+        val ttl = ttlOf(cacheControl);
+        if (ttl < 0 || (ttl == 0 && etag == null)) {
+            synchronized (this) { entries.remove(key); }
+            return;
+        }
+
+        val entry = new Entry(value, etag, nanoClock.getAsLong() + ttl);
+        synchronized (this) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * Computes how long (in nanoseconds) a response is fresh, from its {@code Cache-Control} header.
+     * Returns a negative number if the response should not be stored.
+     */
+    long ttlOf(String cacheControl) {
+        if (cacheControl == null)
+            return Math.min(defaultTtlNanos, maxTtlNanos);
+
+        long ttl = defaultTtlNanos;
+        for (val rawDirective : cacheControl.split(",")) {
+            val directive = rawDirective.trim().toLowerCase();
+            if (directive.equals("no-store"))
+                return -1;
+            else if (directive.equals("no-cache"))
+                return 0;
+            else if (directive.startsWith("max-age="))
+                ttl = parseSeconds(directive.substring("max-age=".length()));
+        }
+        return Math.min(ttl, maxTtlNanos);
+    }
+
+    private static long parseSeconds(String seconds) {
+        try {
+            return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(seconds.trim())));
+        } catch (NumberFormatException cause) {
+            return 0;
+        }
+    }
+
+    /**
+     * Removes every cached response.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return a snapshot of the cache usage
+     */
+    public Stats getStats() {
+        final int size;
+        synchronized (this) { size = entries.size(); }
+        return new Stats(size, hits.sum(), misses.sum(), revalidations.sum(), evictions.sum());
+    }
+
+    @Value
+    static class Entry {
+        Object value;
+        String etag;
+        long expiresAt;
+    }
+
+    /**
+     * Usage of a {@link RestClientCache}. Revalidated responses (304) are counted as misses,
+     * as they required a request to be sent.
+     */
+    @Value
+    public static class Stats {
+        int size;
+        long hits;
+        long misses;
+        long revalidations;
+        long evictions;
+
+        public double getHitRatio() {
+            val total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
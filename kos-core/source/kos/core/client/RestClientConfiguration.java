@@ -17,7 +17,9 @@
 package kos.core.client;
 
 import io.vertx.core.MultiMap;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
 import kos.api.KosContext;
 import kos.core.exception.KosException;
 import kos.api.StringConverter;
@@ -25,6 +27,9 @@ import lombok.*;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import static kos.core.Lang.firstNotNull;
 
@@ -38,12 +43,43 @@ public class RestClientConfiguration {
     public static final RestClientConfiguration EMPTY =
             RestClientConfiguration.withUrl("http://empty.url").build();
 
+    private static final WebClientOptions DEFAULT_CLIENT_OPTIONS = new WebClientOptions();
+
     @NonNull final URL url;
     @Builder.Default @NonNull final MultiMap headers = MultiMap.caseInsensitiveMultiMap();
     final RestClientSerializer restClientSerializer;
     final WebClient client;
     final StringConverter stringConverter;
 
+    /**
+     * Options (e.g. pool size, keep-alive, pipelining or HTTP/2 multiplexing) used to create
+     * a dedicated {@link WebClient} for this Rest Client. Ignored if {@link #client} is defined.
+     * Clients created with the same options are shared by every Rest Client targeting the same host.
+     */
+    final WebClientOptions clientOptions;
+
+    /**
+     * Keeps track of the requests sent to the configured host.
+     */
+    final WebClientRegistry.HostPool pool;
+
+    /**
+     * Resilience policy (timeouts, retries, circuit breaker and bulkhead) applied to
+     * every request sent by this Rest Client.
+     */
+    @Builder.Default @NonNull final RestClientPolicy policy = RestClientPolicy.NONE;
+
+    /**
+     * Resilience policies that replace {@link #policy} for specific methods,
+     * identified by the name of the Rest Client method.
+     */
+    @Builder.Default @NonNull final Map<String, RestClientPolicy> methodPolicies = Collections.emptyMap();
+
+    /**
+     * Caches the responses of GET requests. Responses are not cached if it is not defined.
+     */
+    final RestClientCache cache;
+
     public boolean isEmpty() {
         return url == null
             || restClientSerializer == null
@@ -52,16 +88,31 @@ public class RestClientConfiguration {
     }
 
     public RestClientConfiguration useDefaultsForNullProperties(KosContext kosContext) {
-        if (!isEmpty()) return this;
+        if (!isEmpty() && pool != null) return this;
 
+        val registry = kosContext.getWebClientRegistry();
+        val options = firstNotNull(clientOptions, DEFAULT_CLIENT_OPTIONS);
         return new RestClientConfiguration(
             url, headers,
             firstNotNull(restClientSerializer, kosContext.getDefaultRestClientSerializer()),
-            firstNotNull(client, kosContext.getDefaultVertxWebClient()),
-            firstNotNull(stringConverter, kosContext.getStringConverter())
+            client != null ? client : clientOptions == null
+                ? kosContext.getDefaultVertxWebClient()
+                : registry.clientFor(getHost(), getPort(), clientOptions),
+            firstNotNull(stringConverter, kosContext.getStringConverter()),
+            clientOptions,
+            firstNotNull(pool, registry.poolFor(getHost(), getPort(), options)),
+            policy, methodPolicies, cache
         );
     }
 
+    /**
+     * @param methodName the name of the Rest Client method
+     * @return the resilience policy that should be applied to the requests sent by the method
+     */
+    public RestClientPolicy policyFor(String methodName) {
+        return methodPolicies.getOrDefault(methodName, policy);
+    }
+
     @Getter(lazy = true)
     private final boolean isHttps = getUrl().getProtocol().equals("https");
 
@@ -106,4 +157,23 @@ public class RestClientConfiguration {
             throw new KosException(e);
         }
     }
-}
\ No newline at end of file
+
+    public static class MutableRestClientConfiguration {
+
+        /**
+         * Reads the resilience policies from the configuration file. Entries placed
+         * under {@code methods.<method-name>} override the client policy for that method.
+         *
+         * @param config the configuration entry that holds the policies
+         * @return this builder
+         */
+        public MutableRestClientConfiguration policies(@NonNull JsonObject config) {
+            val clientPolicy = RestClientPolicy.from(config, RestClientPolicy.NONE);
+            val methods = config.getJsonObject("methods", new JsonObject());
+            val policies = new HashMap<String, RestClientPolicy>();
+            for (val methodName : methods.fieldNames())
+                policies.put(methodName, RestClientPolicy.from(methods.getJsonObject(methodName), clientPolicy));
+            return policy(clientPolicy).methodPolicies(policies);
+        }
+    }
+}
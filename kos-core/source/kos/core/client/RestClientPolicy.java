@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.client;
+
+import io.vertx.core.json.JsonObject;
+import kos.core.exception.KosException;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.val;
+
+/**
+ * Defines how resilient the requests sent by a Rest Client (or by one of its methods) are.
+ * Every feature is disabled by default. It can be defined programmatically or read from
+ * the configuration file:
+ *
+ * <pre>
+ * timeout: 2000
+ * max-retries: 3
+ * retry-backoff: 100
+ * max-retry-backoff: 2000
+ * retry-jitter: 0.5
+ * retry-non-idempotent: false
+ * max-concurrency: 64
+ * circuit-breaker:
+ *   failure-threshold: 5
+ *   reset-timeout: 30000
+ * single-flight: true
+ * </pre>
+ *
+ * @see RestClientConfiguration
+ */
+@Value
+@Builder(toBuilder = true)
+public class RestClientPolicy {
+
+    public static final RestClientPolicy NONE = RestClientPolicy.builder().build();
+
+    /** Maximum time (in milliseconds) a request might take. {@code 0} means no timeout. */
+    @Builder.Default long timeout = 0;
+
+    /** How many times a failed request should be retried. */
+    @Builder.Default int maxRetries = 0;
+
+    /** Time (in milliseconds) before the first retry. It is doubled at every retry. */
+    @Builder.Default long retryBackoff = 100;
+
+    /** Maximum time (in milliseconds) between retries. */
+    @Builder.Default long maxRetryBackoff = 5000;
+
+    /** Ratio (between 0 and 1) of the backoff that is randomly subtracted, avoiding retry storms. */
+    @Builder.Default double retryJitter = 0.5;
+
+    /** Whether requests that are not idempotent (e.g. POST and PATCH) should be retried. */
+    @Builder.Default boolean retryNonIdempotent = false;
+
+    /** Maximum number of concurrent requests. Exceeding requests are rejected. {@code 0} means unlimited. */
+    @Builder.Default int maxConcurrency = 0;
+
+    /** Consecutive failures that opens the circuit. {@code 0} disables the circuit breaker. */
+    @Builder.Default int circuitBreakerFailureThreshold = 0;
+
+    /** Time (in milliseconds) the circuit stays open before a trial request is allowed. */
+    @Builder.Default long circuitBreakerResetTimeout = 30000;
+
+    /**
+     * Whether identical concurrent GET requests (same URI and headers) should share a single upstream request.
+     * It requires a {@link #timeout}, otherwise a request that never completes would block its followers forever.
+     */
+    @Builder.Default boolean singleFlight = false;
+
+    /**
+     * Reads a policy from the configuration file. Absent entries are read from {@code defaults}.
+     *
+     * @param config the configuration entry that holds the policy
+     * @param defaults the policy that provides the absent entries
+     * @return the read policy
+     * @throws KosException if the read policy is not valid (see {@link #validate()})
+     */
+    public static RestClientPolicy from(@NonNull JsonObject config, @NonNull RestClientPolicy defaults) {
+        val circuitBreaker = config.getJsonObject("circuit-breaker", new JsonObject());
+        return defaults.toBuilder()
+            .timeout(config.getLong("timeout", defaults.timeout))
+            .maxRetries(config.getInteger("max-retries", defaults.maxRetries))
+            .retryBackoff(config.getLong("retry-backoff", defaults.retryBackoff))
+            .maxRetryBackoff(config.getLong("max-retry-backoff", defaults.maxRetryBackoff))
+            .retryJitter(config.getDouble("retry-jitter", defaults.retryJitter))
+            .retryNonIdempotent(config.getBoolean("retry-non-idempotent", defaults.retryNonIdempotent))
+            .maxConcurrency(config.getInteger("max-concurrency", defaults.maxConcurrency))
+            .circuitBreakerFailureThreshold(circuitBreaker.getInteger("failure-threshold", defaults.circuitBreakerFailureThreshold))
+            .circuitBreakerResetTimeout(circuitBreaker.getLong("reset-timeout", defaults.circuitBreakerResetTimeout))
+            .singleFlight(config.getBoolean("single-flight", defaults.singleFlight))
+            .build()
+            .validate();
+    }
+
+    /**
+     * Ensures the policy can be enforced. Single-flight requires a {@link #timeout}, otherwise
+     * a request that never completes would keep every identical request waiting forever.
+     *
+     * @return this policy
+     * @throws KosException if the policy is not valid
+     */
+    public RestClientPolicy validate() {
+        if (singleFlight && timeout <= 0)
+            throw new KosException("Single-flight requires a timeout, but none was defined: %s", this);
+        return this;
+    }
+
+    /**
+     * @return {@code true} if no feature enforced on every sent request (timeout, retries,
+     *         bulkhead or circuit breaker) is enabled
+     */
+    public boolean isDisabled() {
+        return timeout <= 0 && maxRetries <= 0 && maxConcurrency <= 0 && circuitBreakerFailureThreshold <= 0;
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.client;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.VertxException;
+import io.vertx.core.http.ConnectionPoolTooBusyException;
+import io.vertx.core.http.HttpClosedException;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.impl.NoStackTraceThrowable;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.val;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Applies a {@link RestClientPolicy} to the requests sent by a Rest Client method.
+ * It holds the state (in-flight requests and circuit breaker) of that method, thus
+ * a single instance should be used for every request sent by it.
+ */
+class RestClientPolicyEnforcer {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(
+        HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS,
+        HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.TRACE
+    );
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, Future<?>> singleFlights = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    private final String name;
+    @Getter private final RestClientPolicy policy;
+    private final LongSupplier nanoClock;
+
+    private CircuitState circuitState = CircuitState.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAt = 0;
+
+    RestClientPolicyEnforcer(@NonNull String name, @NonNull RestClientPolicy policy) {
+        this(name, policy, System::nanoTime);
+    }
+
+    RestClientPolicyEnforcer(@NonNull String name, @NonNull RestClientPolicy policy, @NonNull LongSupplier nanoClock) {
+        this.name = name;
+        this.policy = policy;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @param httpMethod the method of the request
+     * @return {@code true} if requests sent with {@code httpMethod} might be retried
+     */
+    boolean isRetryable(HttpMethod httpMethod) {
+        return policy.getMaxRetries() > 0
+            && (policy.isRetryNonIdempotent() || IDEMPOTENT_METHODS.contains(httpMethod));
+    }
+
+    /**
+     * Sends a request, retrying it whenever it is allowed by the policy.
+     *
+     * @param retryable whether the request might be retried
+     * @param attempt sends the request. It is called once per attempt.
+     * @param <T> the response type
+     * @return the response of the last attempt
+     */
+    <T> Future<T> execute(boolean retryable, Supplier<Future<T>> attempt) {
+        if (policy.isDisabled())
+            return attempt.get();
+
+        val maxConcurrency = policy.getMaxConcurrency();
+        if (maxConcurrency > 0 && inFlight.incrementAndGet() > maxConcurrency) {
+            inFlight.decrementAndGet();
+            return Future.failedFuture(new RejectedRestClientRequest(
+                "Max concurrency (%d) reached by %s", maxConcurrency, name));
+        }
+
+        val promise = Promise.<T>promise();
+        send(0, retryable, attempt, promise);
+
+        if (maxConcurrency <= 0)
+            return promise.future();
+        return promise.future().onComplete(ignored -> inFlight.decrementAndGet());
+    }
+
+    /**
+     * Shares the response of an in-flight request with every identical request sent
+     * while it is not completed. Followers are notified on their own Vert.x context.
+     *
+     * @param key identifies the request
+     * @param request sends the request, if there isn't an identical one in-flight
+     * @param <T> the response type
+     * @return the response of the in-flight request
+     */
+    @SuppressWarnings("unchecked")
+    <T> Future<T> coalesce(String key, Supplier<Future<T>> request) {
+        val leader = Promise.<T>promise();
+        val leaderFuture = leader.future();
+        val inFlightRequest = (Future<T>) singleFlights.putIfAbsent(key, leaderFuture);
+        if (inFlightRequest != null) {
+            coalesced.increment();
+            return follow(inFlightRequest);
+        }
+
+        Future<T> response;
+        try {
+            response = request.get();
+        } catch (Throwable cause) {
+            response = Future.failedFuture(cause);
+        }
+
+        response.onComplete(as -> {
+            // new requests should not receive a response that was already delivered
+            singleFlights.remove(key, leaderFuture);
+            leader.handle(as);
+        });
+        return leaderFuture;
+    }
+
+    private static <T> Future<T> follow(Future<T> inFlightRequest) {
+        val context = Vertx.currentContext();
+        if (context == null)
+            return inFlightRequest;
+
+        val follower = Promise.<T>promise();
+        inFlightRequest.onComplete(as -> {
+            if (Vertx.currentContext() == context) follower.handle(as);
+            else context.runOnContext(ignored -> follower.handle(as));
+        });
+        return follower.future();
+    }
+
+    private <T> void send(int attemptNumber, boolean retryable, Supplier<Future<T>> attempt, Promise<T> promise) {
+        if (!tryAcquireCircuit()) {
+            promise.fail(new RejectedRestClientRequest("Circuit breaker is open for %s", name));
+            return;
+        }
+
+        Future<T> response;
+        try {
+            response = attempt.get();
+        } catch (Throwable cause) {
+            response = Future.failedFuture(cause);
+        }
+
+        response.onComplete(as -> {
+            if (as.succeeded()) {
+                recordSuccess();
+                promise.complete(as.result());
+                return;
+            }
+
+            final Throwable cause = as.cause();
+            final boolean transientFailure = isTransientFailure(cause);
+            if (transientFailure) recordFailure();
+            else recordSuccess();
+
+            if (retryable && transientFailure && attemptNumber < policy.getMaxRetries())
+                schedule(backoffFor(attemptNumber), () -> send(attemptNumber + 1, retryable, attempt, promise));
+            else
+                promise.fail(cause);
+        });
+    }
+
+    /**
+     * Computes the delay before the next retry: an exponential backoff, capped by
+     * {@link RestClientPolicy#getMaxRetryBackoff()}, from which a random jitter is subtracted.
+     */
+    long backoffFor(int attemptNumber) {
+        val exponential = policy.getRetryBackoff() * (1L << Math.min(attemptNumber, 30));
+        val backoff = Math.min(policy.getMaxRetryBackoff(), exponential);
+        val jitter = Math.max(0, Math.min(1, policy.getRetryJitter()));
+        val delay = backoff - (long) (backoff * jitter * ThreadLocalRandom.current().nextDouble());
+        return Math.max(1, delay);
+    }
+
+    /**
+     * Schedules the retry on the Vert.x context the request was sent from, if any.
+     */
+    private static void schedule(long delay, Runnable task) {
+        val context = Vertx.currentContext();
+        if (context != null)
+            context.owner().setTimer(delay, ignored -> task.run());
+        else
+            CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS).execute(task);
+    }
+
+    /**
+     * Failures that might not happen again if the request is retried: connection and timeout
+     * failures, server errors and throttled requests. The circuit breaker only counts those.
+     * Other failures (e.g. a response body that can't be decoded) are deterministic, thus
+     * a {@link VertxException} is not considered transient unless it comes from the transport.
+     */
+    static boolean isTransientFailure(Throwable cause) {
+        if (cause instanceof UnexpectedRestClientResponse) {
+            val response = ((UnexpectedRestClientResponse) cause).getResponse();
+            return response == null || response.statusCode() >= 500 || response.statusCode() == 429;
+        }
+        return cause instanceof IOException
+            || cause instanceof TimeoutException
+            || cause instanceof HttpClosedException
+            || cause instanceof ConnectionPoolTooBusyException
+            || cause instanceof NoStackTraceThrowable;
+    }
+
+    private synchronized boolean tryAcquireCircuit() {
+        if (policy.getCircuitBreakerFailureThreshold() <= 0)
+            return true;
+
+        switch (circuitState) {
+            case OPEN:
+                long resetTimeout = TimeUnit.MILLISECONDS.toNanos(policy.getCircuitBreakerResetTimeout());
+                if (nanoClock.getAsLong() - openedAt < resetTimeout)
+                    return false;
+                // lets a single trial request through
+                circuitState = CircuitState.HALF_OPEN;
+                return true;
+            case HALF_OPEN:
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        circuitState = CircuitState.CLOSED;
+    }
+
+    private synchronized void recordFailure() {
+        val threshold = policy.getCircuitBreakerFailureThreshold();
+        if (threshold <= 0)
+            return;
+
+        consecutiveFailures++;
+        if (circuitState == CircuitState.HALF_OPEN || consecutiveFailures >= threshold) {
+            circuitState = CircuitState.OPEN;
+            openedAt = nanoClock.getAsLong();
+        }
+    }
+
+    synchronized CircuitState getCircuitState() {
+        return circuitState;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+}
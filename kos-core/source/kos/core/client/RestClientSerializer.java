@@ -18,10 +18,11 @@ package kos.core.client;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import io.vertx.core.buffer.Buffer;
-import io.vertx.core.json.Json;
-import io.vertx.core.json.jackson.JacksonCodec;
 import io.vertx.ext.web.client.HttpResponse;
+import kos.api.Serializer;
+import kos.core.JacksonTypeCache;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.experimental.Accessors;
 
 public interface RestClientSerializer {
@@ -41,17 +42,46 @@ public interface RestClientSerializer {
 
         @Override
         public Buffer serialize(Object target) {
-            return Json.encodeToBuffer(target);
+            return JacksonTypeCache.encode(target);
         }
 
         @Override
         public <T> T deserialize(HttpResponse<Buffer> response, Class<T> type) {
-            return Json.decodeValue(response.body(), type);
+            return JacksonTypeCache.decode(response.body(), type);
         }
 
         @Override
         public <T> T deserialize(HttpResponse<Buffer> response, TypeReference<T> type) {
-            return JacksonCodec.decodeValue(response.body(), type);
+            return JacksonTypeCache.decode(response.body(), type);
+        }
+    }
+
+    /**
+     * Exchanges payloads using a binary Jackson data format (e.g. CBOR, Smile or MessagePack).
+     */
+    @RequiredArgsConstructor
+    class JacksonDataFormatRestClientSerializer implements RestClientSerializer {
+
+        final Serializer.JacksonDataFormatSerializer serializer;
+
+        @Override
+        public String contentType() {
+            return serializer.contentType();
+        }
+
+        @Override
+        public Buffer serialize(Object target) {
+            return serializer.serialize(target);
+        }
+
+        @Override
+        public <T> T deserialize(HttpResponse<Buffer> response, Class<T> type) {
+            return serializer.deserialize(response.body(), type);
+        }
+
+        @Override
+        public <T> T deserialize(HttpResponse<Buffer> response, TypeReference<T> type) {
+            return serializer.deserialize(response.body(), type);
         }
     }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.client;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the {@link WebClient}s (and their connection pools) used by Rest Clients that
+ * define their own {@link WebClientOptions}. Clients are lazily created, and reused
+ * by every Rest Client that targets the same host with the same options. It also
+ * keeps track of how many requests are in-flight per host, allowing one to detect
+ * when a connection pool is saturated.
+ */
+@RequiredArgsConstructor
+public class WebClientRegistry {
+
+    private final Map<String, WebClient> clients = new ConcurrentHashMap<>();
+    private final Map<String, HostPool> pools = new ConcurrentHashMap<>();
+
+    @NonNull private final Supplier<Vertx> vertx;
+
+    /**
+     * @return the client created for {@code host:port} with the given {@code options}.
+     */
+    public WebClient clientFor(@NonNull String host, int port, @NonNull WebClientOptions options) {
+        val key = keyOf(host, port, options);
+        WebClient client = clients.get(key);
+        if (client == null) {
+            client = WebClient.create(vertx.get(), new WebClientOptions(options));
+            val previous = clients.putIfAbsent(key, client);
+            if (previous != null) {
+                client.close();
+                client = previous;
+            }
+        }
+        return client;
+    }
+
+    /**
+     * @return the usage tracker of the connections to {@code host:port}. As each
+     *         {@link #clientFor(String, int, WebClientOptions) client} has its own connection
+     *         pool, trackers are also kept per options, and the capacity of the connection
+     *         pool is computed from them.
+     */
+    public HostPool poolFor(@NonNull String host, int port, @NonNull WebClientOptions options) {
+        val key = keyOf(host, port, options);
+        HostPool pool = pools.get(key);
+        if (pool == null) {
+            pool = new HostPool(host + ":" + port, capacityOf(options));
+            val previous = pools.putIfAbsent(key, pool);
+            if (previous != null)
+                pool = previous;
+        }
+        return pool;
+    }
+
+    /**
+     * @return the usage of every host targeted so far
+     */
+    public List<Stats> getStats() {
+        val stats = new ArrayList<Stats>();
+        for (val pool : pools.values())
+            stats.add(pool.getStats());
+        return stats;
+    }
+
+    private static String keyOf(String host, int port, WebClientOptions options) {
+        return host + ":" + port + "/" + options.toJson().encode();
+    }
+
+    /**
+     * @return how many requests can be sent to a single host at once
+     */
+    static int capacityOf(WebClientOptions options) {
+        if (options.getProtocolVersion() == HttpVersion.HTTP_2) {
+            val multiplexing = options.getHttp2MultiplexingLimit();
+            if (multiplexing <= 0) return Integer.MAX_VALUE;
+            return saturatedMultiply(options.getHttp2MaxPoolSize(), multiplexing);
+        }
+
+        val pipelining = options.isPipelining() ? options.getPipeliningLimit() : 1;
+        return saturatedMultiply(options.getMaxPoolSize(), pipelining);
+    }
+
+    private static int saturatedMultiply(int a, int b) {
+        val result = (long) a * b;
+        return result > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) result;
+    }
+
+    /**
+     * Keeps track of the requests sent to a single host.
+     */
+    @RequiredArgsConstructor
+    public static class HostPool {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder requests = new LongAdder();
+
+        private final String host;
+        private final int capacity;
+
+        public void requestStarted() {
+            inFlight.incrementAndGet();
+            requests.increment();
+        }
+
+        public void requestFinished() {
+            inFlight.decrementAndGet();
+        }
+
+        public Stats getStats() {
+            val current = inFlight.get();
+            return new Stats(host, current, capacity, Math.max(0, current - capacity), requests.sum());
+        }
+    }
+
+    /**
+     * A snapshot of the requests sent to a single host.
+     */
+    @Value public static class Stats {
+        String host;
+        int inFlight;
+        /** How many requests can be sent at once (pool size times pipelining/multiplexing limit). */
+        int capacity;
+        /** Requests waiting for a connection. */
+        int waiting;
+        long totalRequests;
+
+        public double getUtilization() {
+            return capacity == 0 ? 0 : Math.min(1.0, (double) inFlight / capacity);
+        }
+    }
+}
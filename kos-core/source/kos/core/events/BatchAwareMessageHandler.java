@@ -0,0 +1,167 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.ReplyException;
+import io.vertx.core.json.jackson.DatabindCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Unpacks {@link EventBatch} envelopes, notifying the wrapped handler once per message.
+ * The envelope is replied once every message was acknowledged. Other messages are
+ * handed over to the wrapped handler untouched.
+ */
+@RequiredArgsConstructor
+class BatchAwareMessageHandler<T> implements Handler<Message<T>> {
+
+    private final Class<T> expectedType;
+    private final Handler<Message<T>> handler;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void handle(Message<T> message) {
+        final Object body = message.body();
+        if (!(body instanceof EventBatch)) {
+            handler.handle(message);
+            return;
+        }
+
+        val messages = ((EventBatch) body).getMessages();
+        val acknowledgement = new BatchAcknowledgement((Message<Object>) message, messages.size());
+        for (int i = 0; i < messages.size(); i++)
+            handler.handle(new BatchedMessage<>(message, convert(messages.get(i)), i, acknowledgement));
+    }
+
+    /**
+     * Messages received from the wire are decoded as generic JSON structures.
+     */
+    private T convert(Object message) {
+        if (message == null || expectedType.isInstance(message))
+            return expectedType.cast(message);
+        return DatabindCodec.mapper().convertValue(message, expectedType);
+    }
+}
+
+/**
+ * Keeps track of the messages of a batch that were acknowledged.
+ */
+class BatchAcknowledgement {
+
+    private final Map<Integer, String> failures = new ConcurrentHashMap<>();
+    private final Message<Object> envelope;
+    private final AtomicInteger remaining;
+
+    BatchAcknowledgement(Message<Object> envelope, int size) {
+        this.envelope = envelope;
+        this.remaining = new AtomicInteger(size);
+        if (size == 0)
+            envelope.reply(EventBatch.replyOf(failures));
+    }
+
+    void succeeded() {
+        acknowledged();
+    }
+
+    void failed(int index, String failure) {
+        failures.put(index, failure);
+        acknowledged();
+    }
+
+    private void acknowledged() {
+        if (remaining.decrementAndGet() == 0)
+            envelope.reply(EventBatch.replyOf(failures));
+    }
+}
+
+/**
+ * A message that was shipped inside an {@link EventBatch}. Replying to it
+ * acknowledges the message, rather than sending a reply to the producer.
+ */
+@RequiredArgsConstructor
+class BatchedMessage<T> implements Message<T> {
+
+    private final AtomicBoolean acknowledged = new AtomicBoolean();
+
+    private final Message<T> envelope;
+    private final T body;
+    private final int index;
+    private final BatchAcknowledgement acknowledgement;
+
+    @Override
+    public String address() {
+        return envelope.address();
+    }
+
+    @Override
+    public MultiMap headers() {
+        return envelope.headers();
+    }
+
+    @Override
+    public T body() {
+        return body;
+    }
+
+    @Override
+    public String replyAddress() {
+        return envelope.replyAddress();
+    }
+
+    @Override
+    public boolean isSend() {
+        return envelope.isSend();
+    }
+
+    @Override
+    public void reply(Object message) {
+        reply(message, new DeliveryOptions());
+    }
+
+    @Override
+    public void reply(Object message, DeliveryOptions options) {
+        if (!acknowledged.compareAndSet(false, true))
+            return;
+
+        if (message instanceof ReplyException)
+            acknowledgement.failed(index, ((ReplyException) message).getMessage());
+        else
+            acknowledgement.succeeded();
+    }
+
+    @Override
+    public void fail(int failureCode, String message) {
+        if (acknowledged.compareAndSet(false, true))
+            acknowledgement.failed(index, message);
+    }
+
+    @Override
+    public <R> Future<Message<R>> replyAndRequest(Object message, DeliveryOptions options) {
+        throw new UnsupportedOperationException("The method 'replyAndRequest' is not available for batched messages.");
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageProducer;
+import io.vertx.core.json.JsonObject;
+import kos.core.exception.KosException;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An <i>always consistent</i> {@link MessageProducer} that accumulates messages until
+ * {@code maxBatchSize} messages are written or {@code batchWindow} milliseconds have passed,
+ * shipping them as a single {@link EventBatch}. It keeps the consistency guarantee of
+ * {@link AlwaysConsistentMessageProducer}: the future returned by {@link #write(Object)}
+ * only succeeds once the listener has successfully handled that specific message.
+ * It requires batch-aware listeners, like the ones registered by {@link EventBusSinkManager}.
+ */
+class BatchingMessageProducer<T> implements MessageProducer<T> {
+
+    private final String address;
+    private final EventBus eventBus;
+    private final Vertx vertx;
+    private final int maxBatchSize;
+    private final long batchWindow;
+
+    private final Set<Future<?>> inFlightBatches = ConcurrentHashMap.newKeySet();
+
+    private List<PendingMessage> pending = new ArrayList<>();
+    private long windowTimerId = -1;
+
+    BatchingMessageProducer(String address, Vertx vertx, int maxBatchSize, long batchWindow) {
+        this.address = address;
+        this.eventBus = vertx.eventBus();
+        this.vertx = vertx;
+        this.maxBatchSize = maxBatchSize;
+        this.batchWindow = Math.max(1, batchWindow);
+    }
+
+    @Override
+    public String address() {
+        return address;
+    }
+
+    @Override
+    public Future<Void> write(T body) {
+        val promise = Promise.<Void>promise();
+        List<PendingMessage> batch = null;
+
+        synchronized (this) {
+            pending.add(new PendingMessage(body, promise));
+            if (pending.size() >= maxBatchSize)
+                batch = drain();
+            else if (windowTimerId == -1)
+                windowTimerId = vertx.setTimer(batchWindow, ignored -> flush());
+        }
+
+        if (batch != null)
+            send(batch);
+        return promise.future();
+    }
+
+    /**
+     * Sends the accumulated messages, if any.
+     */
+    void flush() {
+        final List<PendingMessage> batch;
+        synchronized (this) {
+            batch = drain();
+        }
+        send(batch);
+    }
+
+    private List<PendingMessage> drain() {
+        if (windowTimerId != -1) {
+            vertx.cancelTimer(windowTimerId);
+            windowTimerId = -1;
+        }
+        val batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void send(List<PendingMessage> batch) {
+        if (batch.isEmpty())
+            return;
+
+        val messages = new ArrayList<Object>(batch.size());
+        for (val message : batch)
+            messages.add(message.body);
+
+        final Future<Message<Object>> request = eventBus.request(address, new EventBatch(messages));
+        inFlightBatches.add(request);
+        request.onComplete(reply -> {
+            inFlightBatches.remove(request);
+            acknowledge(batch, reply);
+        });
+    }
+
+    private static void acknowledge(List<PendingMessage> batch, AsyncResult<Message<Object>> reply) {
+        if (reply.failed()) {
+            for (val message : batch)
+                message.promise.fail(reply.cause());
+            return;
+        }
+
+        val body = reply.result().body();
+        val failures = body instanceof JsonObject
+            ? ((JsonObject) body).getJsonObject(EventBatch.FAILURES, new JsonObject())
+            : new JsonObject();
+
+        for (int i = 0; i < batch.size(); i++) {
+            final String failure = failures.getString(String.valueOf(i));
+            if (failure == null)
+                batch.get(i).promise.complete();
+            else
+                batch.get(i).promise.fail(new KosException("%s", failure));
+        }
+    }
+
+    /**
+     * Sends the accumulated messages. The returned future completes once every
+     * batch sent so far has been acknowledged (or failed), so shutting down
+     * won't drop the acknowledgements that are still on their way.
+     */
+    @Override
+    public Future<Void> close() {
+        flush();
+        final List<Future> batches = new ArrayList<>(inFlightBatches);
+        val closed = Promise.<Void>promise();
+        CompositeFuture.join(batches).onComplete(ignored -> closed.complete());
+        return closed.future();
+    }
+
+    @Override
+    public void close(Handler<AsyncResult<Void>> handler) {
+        close().onComplete(handler);
+    }
+
+    @Override
+    public MessageProducer<T> deliveryOptions(DeliveryOptions options) {
+        throw new UnsupportedOperationException("The method 'deliveryOptions' is not available in this context.");
+    }
+
+    @Override
+    public void write(T body, Handler<AsyncResult<Void>> handler) {
+        write(body).onComplete(handler);
+    }
+
+    @RequiredArgsConstructor
+    private static class PendingMessage {
+        final Object body;
+        final Promise<Void> promise;
+    }
+}
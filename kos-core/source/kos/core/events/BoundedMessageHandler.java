@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import lombok.val;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Handles messages with bounded concurrency. Once {@link ListenerOptions#getMaxInFlight()}
+ * messages are being handled, new ones are buffered. Once the buffer is full, the
+ * {@link ListenerOptions#getOverflow()} policy decides what happens to them.
+ */
+class BoundedMessageHandler<T> implements Handler<Message<T>> {
+
+    static final int OVERLOADED_FAILURE_CODE = 503;
+
+    private final Queue<Message<T>> buffer = new ArrayDeque<>();
+
+    private final String address;
+    private final ListenerOptions options;
+    private final EventHandler<T> handler;
+    private final MessageConsumer<T> consumer;
+
+    private int inFlight = 0;
+    private boolean paused = false;
+    private long dropped = 0;
+    private long rejected = 0;
+
+    BoundedMessageHandler(String address, ListenerOptions options, EventHandler<T> handler, MessageConsumer<T> consumer) {
+        this.address = address;
+        this.options = options;
+        this.handler = handler;
+        this.consumer = consumer;
+        if (options.getOverflow() == ListenerOptions.Overflow.PAUSE)
+            consumer.setMaxBufferedMessages(options.getBufferSize());
+    }
+
+    @Override
+    public void handle(Message<T> message) {
+        synchronized (this) {
+            if (inFlight >= options.getMaxInFlight()) {
+                buffer(message);
+                return;
+            }
+            inFlight++;
+        }
+        dispatch(message);
+    }
+
+    private void buffer(Message<T> message) {
+        val full = buffer.size() >= options.getBufferSize();
+        switch (options.getOverflow()) {
+            case DROP:
+                if (full) {
+                    dropped++;
+                    // senders waiting for a reply should not wait until their request times out
+                    if (message.replyAddress() != null)
+                        message.fail(OVERLOADED_FAILURE_CODE, "Listener of '" + address + "' is overloaded");
+                } else buffer.add(message);
+                break;
+            case REJECT:
+                if (full) {
+                    rejected++;
+                    message.fail(OVERLOADED_FAILURE_CODE, "Listener of '" + address + "' is overloaded");
+                } else buffer.add(message);
+                break;
+            default:
+                // batches might be unpacked while the consumer is paused, thus the buffer might grow beyond its size
+                buffer.add(message);
+                if (buffer.size() >= options.getBufferSize() && !paused) {
+                    paused = true;
+                    consumer.pause();
+                }
+        }
+    }
+
+    /**
+     * Handles the message and then the buffered ones, as long as they are handled synchronously.
+     */
+    private void dispatch(Message<T> message) {
+        while (message != null) {
+            val current = message;
+            val result = handler.tryHandle(current);
+            if (!result.isComplete()) {
+                result.onComplete(as -> {
+                    new DefaultAsyncEventReplier<>(current).handle(as);
+                    dispatch(completed());
+                });
+                return;
+            }
+
+            new DefaultAsyncEventReplier<>(current).handle(result);
+            message = completed();
+        }
+    }
+
+    /**
+     * @return the next buffered message, or {@code null} if there is none
+     */
+    private Message<T> completed() {
+        final Message<T> next;
+        boolean resume = false;
+        synchronized (this) {
+            next = buffer.poll();
+            if (next == null)
+                inFlight--;
+            if (paused && buffer.size() < options.getBufferSize()) {
+                paused = false;
+                resume = true;
+            }
+        }
+
+        if (resume)
+            consumer.resume();
+        return next;
+    }
+
+    synchronized ListenerStats getStats() {
+        return new ListenerStats(address, inFlight, buffer.size(), dropped, rejected, paused);
+    }
+}
@@ -1,24 +1,100 @@
 package kos.core.events;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import io.vertx.core.eventbus.MessageCodec;
 import kos.api.EventBusMessageCodecFactory;
+import kos.core.JacksonDataFormat;
+import kos.core.events.JacksonServiceBusCodec.LocalDelivery;
 import lombok.RequiredArgsConstructor;
+import lombok.val;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
+/**
+ * Creates (and caches) one codec per message type. By default, messages are encoded
+ * as JSON. Binary data formats can be used instead through {@link #smile()} or {@link #cbor()},
+ * shrinking the messages exchanged between the nodes of a cluster.
+ *
+ * Messages delivered to listeners of the same node are shared with the publisher, unless
+ * the factory is created with {@link LocalDelivery#COPY_MUTABLE}.
+ */
 @SuppressWarnings("all")
 @RequiredArgsConstructor
 public class DefaultEventBusMessageCodecFactory implements EventBusMessageCodecFactory {
 
     private final Map<Class, MessageCodec> codecs;
+    private final Function<Class, MessageCodec> codecCreator;
 
     public DefaultEventBusMessageCodecFactory() {
-        this.codecs = new HashMap<>();
+        this(LocalDelivery.SHARED);
+    }
+
+    public DefaultEventBusMessageCodecFactory(LocalDelivery localDelivery) {
+        this(type -> new JsonServiceBusCodec<>(type, localDelivery));
+    }
+
+    public DefaultEventBusMessageCodecFactory(Function<Class, MessageCodec> codecCreator) {
+        this(new ConcurrentHashMap<>(), codecCreator);
     }
 
     @Override
     public <T> MessageCodec<T, T> constructCodecFor(Class<T> targetClass) {
-        return codecs.computeIfAbsent(targetClass, JsonServiceBusCodec::new);
+        return codecs.computeIfAbsent(targetClass, codecCreator);
+    }
+
+    /**
+     * @return a factory that encodes messages as Smile (binary JSON).
+     * Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-smile} in the class path.
+     */
+    public static DefaultEventBusMessageCodecFactory smile() {
+        return smile(LocalDelivery.SHARED);
+    }
+
+    public static DefaultEventBusMessageCodecFactory smile(LocalDelivery localDelivery) {
+        return forDataFormat("SMILE", "com.fasterxml.jackson.dataformat.smile.SmileFactory", localDelivery);
+    }
+
+    /**
+     * @return a factory that encodes messages as CBOR.
+     * Requires {@code com.fasterxml.jackson.dataformat:jackson-dataformat-cbor} in the class path.
+     */
+    public static DefaultEventBusMessageCodecFactory cbor() {
+        return cbor(LocalDelivery.SHARED);
+    }
+
+    public static DefaultEventBusMessageCodecFactory cbor(LocalDelivery localDelivery) {
+        return forDataFormat("CBOR", "com.fasterxml.jackson.dataformat.cbor.CBORFactory", localDelivery);
+    }
+
+    /**
+     * Creates a factory that encodes messages with the given Jackson data format,
+     * sharing the messages delivered to listeners of the same node.
+     *
+     * @param format the name of the data format, used to name the codecs
+     * @param jsonFactoryClassName the canonical name of the data format's {@link JsonFactory}
+     * @return the factory
+     * @throws kos.core.exception.KosException if the data format is not available in the class path
+     */
+    public static DefaultEventBusMessageCodecFactory forDataFormat(String format, String jsonFactoryClassName) {
+        return forDataFormat(format, jsonFactoryClassName, LocalDelivery.SHARED);
+    }
+
+    /**
+     * Creates a factory that encodes messages with the given Jackson data format.
+     *
+     * @param format the name of the data format, used to name the codecs
+     * @param jsonFactoryClassName the canonical name of the data format's {@link JsonFactory}
+     * @param localDelivery how messages are delivered to listeners of the same node
+     * @return the factory
+     * @throws kos.core.exception.KosException if the data format is not available in the class path
+     */
+    public static DefaultEventBusMessageCodecFactory forDataFormat(
+        String format, String jsonFactoryClassName, LocalDelivery localDelivery)
+    {
+        val dataFormat = JacksonDataFormat.load(format, jsonFactoryClassName);
+        return new DefaultEventBusMessageCodecFactory(
+            type -> new JacksonDataFormatServiceBusCodec<>(format, dataFormat, type, localDelivery));
     }
 }
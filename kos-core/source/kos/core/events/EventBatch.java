@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.vertx.core.json.JsonObject;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Envelope that carries several messages sent at once to an <i>always consistent</i>
+ * address. Listeners unpack it and acknowledge each message individually, replying
+ * with the failures (indexed by the position of the message in the batch), if any.
+ *
+ * @see BatchingMessageProducer
+ */
+@Getter
+@ToString
+public class EventBatch {
+
+    static final String FAILURES = "failures";
+
+    private final List<Object> messages;
+
+    @JsonCreator
+    public EventBatch(@NonNull @JsonProperty("messages") List<Object> messages) {
+        this.messages = messages;
+    }
+
+    /**
+     * Creates the reply sent once every message of the batch was acknowledged.
+     *
+     * @param failures the failure message of each failed message, indexed by its position in the batch
+     * @return the reply
+     */
+    static JsonObject replyOf(Map<Integer, String> failures) {
+        final JsonObject failed = new JsonObject();
+        failures.forEach((index, failure) -> failed.put(String.valueOf(index), failure));
+        return new JsonObject().put(FAILURES, failed);
+    }
+}
@@ -12,15 +12,19 @@ import kos.api.EventBusSink;
 import kos.api.EventPublisherSink;
 import kos.api.EventSubscriptionSink;
 import kos.api.KosContext;
+import kos.core.JacksonTypeCache;
 import kos.core.exception.KosException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import lombok.val;
 
+import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static kos.core.Lang.sorted;
 
@@ -29,7 +33,8 @@ import static kos.core.Lang.sorted;
 public class EventBusSinkManager {
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
-    private final Set<Class> classesWhichCodedHaveBeenRegistered = new HashSet<>();
+    private final Set<Class> classesWhichCodedHaveBeenRegistered = ConcurrentHashMap.newKeySet();
+    private final List<BoundedMessageHandler> boundedHandlers = new CopyOnWriteArrayList<>();
 
     protected final KosContext kosContext;
     private final Iterable<EventSubscriptionSink> eventSubscriberSinks;
@@ -55,7 +60,47 @@ public class EventBusSinkManager {
      */
     public <T> void subscribe(String address, Class<T> expectedType, Handler<Message<T>> messageHandler) {
         val result = tryInitializeSink(address, expectedType, eventSubscriberSinks);
-        kosContext.getDefaultVertx().eventBus().consumer(result.rewrittenAddress, messageHandler);
+        JacksonTypeCache.registerReadable(expectedType);
+        ensureEventBusCanSerializeType(EventBatch.class);
+        kosContext.getDefaultVertx().eventBus().consumer(result.rewrittenAddress,
+            new BatchAwareMessageHandler<>(expectedType, messageHandler));
+    }
+
+    /**
+     * Registers a message consumer {@code messageHandler} that will receive messages of
+     * the type {@link T} published into the given {@code address}, handling at most
+     * {@link ListenerOptions#getMaxInFlight()} messages concurrently.
+     *
+     * @param address a free-format String. {@link EventPublisherSink} implementations might have to
+     *                parse this address to communicate with external services.
+     * @param expectedType the expected contract used when serialising messages.
+     * @param options limits the concurrency of the consumer.
+     * @throws KosException whenever it reaches a terminal, but unrecoverable state.
+     */
+    public <T> void subscribe(String address, Class<T> expectedType, ListenerOptions options, EventHandler<T> messageHandler) {
+        if (!options.isBounded()) {
+            subscribe(address, expectedType, messageHandler);
+            return;
+        }
+
+        val result = tryInitializeSink(address, expectedType, eventSubscriberSinks);
+        JacksonTypeCache.registerReadable(expectedType);
+        ensureEventBusCanSerializeType(EventBatch.class);
+
+        final MessageConsumer<T> consumer = kosContext.getDefaultVertx().eventBus().consumer(result.rewrittenAddress);
+        val boundedHandler = new BoundedMessageHandler<>(result.rewrittenAddress, options, messageHandler, consumer);
+        boundedHandlers.add(boundedHandler);
+        consumer.handler(new BatchAwareMessageHandler<>(expectedType, boundedHandler));
+    }
+
+    /**
+     * @return the usage (in-flight and queued messages, etc) of every listener subscribed with bounded concurrency
+     */
+    public List<ListenerStats> getListenerStats() {
+        val stats = new ArrayList<ListenerStats>();
+        for (val handler : boundedHandlers)
+            stats.add(handler.getStats());
+        return stats;
     }
 
     /**
@@ -67,14 +112,38 @@ public class EventBusSinkManager {
      * @throws KosException whenever it reaches a terminal, but unrecoverable state.
      */
     public <T> MessageProducer<T> createProducer(String address, Class<T> expectedType) {
-        val eventBus = kosContext.getDefaultVertx().eventBus();
+        return createBatchingProducer(address, expectedType, 0, 0);
+    }
+
+    /**
+     * Creates a {@link MessageProducer} that expects messages of type {@link T}, sending
+     * them in batches of up to {@code maxBatchSize} messages. Messages wait at most
+     * {@code batchWindow} milliseconds for the batch to be filled. Batches are only
+     * sent to <i>always consistent</i> addresses, as they would bring no benefit to
+     * <i>eventually consistent</i> ones, which don't wait for a reply.
+     *
+     * @param address a free-format String. {@link EventPublisherSink} implementations might have to
+     *                parse this address to communicate with external services.
+     * @param expectedType the expected contract used when serialising messages.
+     * @param maxBatchSize maximum number of messages sent at once.
+     * @param batchWindow maximum time (in milliseconds) a message waits for the batch to be filled.
+     * @throws KosException whenever it reaches a terminal, but unrecoverable state.
+     */
+    public <T> MessageProducer<T> createBatchingProducer(String address, Class<T> expectedType, int maxBatchSize, long batchWindow) {
+        val vertx = kosContext.getDefaultVertx();
+        val eventBus = vertx.eventBus();
         val result = tryInitializeSink(address, expectedType, eventPublisherSinks);
+        JacksonTypeCache.registerWritable(expectedType);
 
         MessageProducer<T> messageProducer;
         if (result.eventuallyConsistent)
             messageProducer = eventBus.publisher(result.rewrittenAddress);
-        else
+        else if (maxBatchSize <= 1)
             messageProducer = new AlwaysConsistentMessageProducer<>(result.rewrittenAddress, eventBus);
+        else {
+            ensureEventBusCanSerializeType(EventBatch.class);
+            messageProducer = new BatchingMessageProducer<>(result.rewrittenAddress, vertx, maxBatchSize, batchWindow);
+        }
 
         return new CodecAwareMessageProducer<>(messageProducer);
     }
@@ -129,6 +198,15 @@ public class EventBusSinkManager {
     }
 
     public <T> void ensureEventBusCanSerializeType(Class<T> targetType) {
+        if (!classesWhichCodedHaveBeenRegistered.contains(targetType))
+            registerDefaultCodec(targetType);
+    }
+
+    /**
+     * Subscriptions might be created concurrently during the startup,
+     * thus registration is guarded to avoid registering the same codec twice.
+     */
+    private synchronized <T> void registerDefaultCodec(Class<T> targetType) {
         if (!classesWhichCodedHaveBeenRegistered.contains(targetType)) {
             EventBus eventBus = kosContext.getDefaultVertx().eventBus();
             MessageCodec<T, T> codec = kosContext.getDefaultEventBusCodecFactory().constructCodecFor(targetType);
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the message types that cannot be modified once created. Those are delivered to local
+ * listeners as is, even when codecs are configured to copy messages
+ * ({@link JacksonServiceBusCodec.LocalDelivery#COPY_MUTABLE}).
+ *
+ * Message types handled by {@code @Listener} and {@code @Publisher} methods are inspected at
+ * compile time, thus records, {@code @Value} classes and classes with final (and immutable)
+ * fields are registered by the generated classes.
+ */
+@UtilityClass
+public class ImmutableMessageTypes {
+
+    private final Set<String> wellKnownTypes = new HashSet<>(Arrays.asList(
+        "java.lang.String", "java.lang.Boolean", "java.lang.Character", "java.lang.Byte",
+        "java.lang.Short", "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double",
+        "java.math.BigDecimal", "java.math.BigInteger", "java.util.UUID", "java.net.URI",
+        "java.time.Instant", "java.time.Duration", "java.time.Period", "java.time.LocalDate",
+        "java.time.LocalTime", "java.time.LocalDateTime", "java.time.OffsetDateTime",
+        "java.time.ZonedDateTime", "java.time.Year", "java.time.YearMonth"
+    ));
+
+    private final Set<Class<?>> registeredTypes = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Registers a message type that cannot be modified once created.
+     */
+    public void register(@NonNull Class<?> type) {
+        registeredTypes.add(type);
+    }
+
+    /**
+     * @return {@code true} if instances of the given type can be shared
+     * between publishers and local listeners.
+     */
+    public boolean isImmutable(@NonNull Class<?> type) {
+        return registeredTypes.contains(type)
+            || type.isEnum()
+            || wellKnownTypes.contains(type.getName());
+    }
+
+    /**
+     * @param canonicalName the canonical name of a JDK type
+     * @return {@code true} if it is a well known immutable type.
+     */
+    public boolean isWellKnownImmutable(String canonicalName) {
+        return wellKnownTypes.contains(canonicalName);
+    }
+
+    /**
+     * Forgets every registered type.
+     */
+    public void reset() {
+        registeredTypes.clear();
+    }
+}
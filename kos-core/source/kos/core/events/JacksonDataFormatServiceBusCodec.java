@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import kos.core.JacksonDataFormat;
+import lombok.NonNull;
+
+/**
+ * Encodes messages with a binary Jackson data format (e.g. Smile or CBOR), which
+ * are more compact and cheaper to encode than JSON. Usually created through
+ * {@link DefaultEventBusMessageCodecFactory#smile()} or {@link DefaultEventBusMessageCodecFactory#cbor()}.
+ */
+public class JacksonDataFormatServiceBusCodec<T> extends JacksonServiceBusCodec<T> {
+
+    private final String format;
+    private final JacksonDataFormat dataFormat;
+    private final ObjectReader reader;
+
+    public JacksonDataFormatServiceBusCodec(@NonNull String format, @NonNull ObjectMapper mapper, Class<T> targetClass) {
+        this(format, mapper, targetClass, LocalDelivery.SHARED);
+    }
+
+    public JacksonDataFormatServiceBusCodec(
+        @NonNull String format, @NonNull ObjectMapper mapper, Class<T> targetClass, LocalDelivery localDelivery)
+    {
+        this(format, new JacksonDataFormat(mapper), targetClass, localDelivery);
+    }
+
+    /**
+     * @param format the name of the data format, used to name this codec
+     * @param dataFormat the data format, whose readers and writers might be shared with other codecs
+     * @param targetClass the type of the message
+     * @param localDelivery how messages are delivered to listeners of the same node
+     */
+    public JacksonDataFormatServiceBusCodec(
+        @NonNull String format, @NonNull JacksonDataFormat dataFormat, Class<T> targetClass, LocalDelivery localDelivery)
+    {
+        super(targetClass, localDelivery);
+        this.format = format;
+        this.dataFormat = dataFormat;
+        this.reader = dataFormat.readerFor(targetClass);
+    }
+
+    @Override
+    protected String format() {
+        return format;
+    }
+
+    @Override
+    protected ObjectWriter writerFor(T message) {
+        return dataFormat.writerForValue(message);
+    }
+
+    @Override
+    protected ObjectReader reader() {
+        return reader;
+    }
+}
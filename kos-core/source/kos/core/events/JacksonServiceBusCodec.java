@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import kos.core.exception.KosException;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Base {@link MessageCodec} for codecs backed by Jackson. Each message is written
+ * straight into the wire buffer, preceded by its length (a 4 bytes integer), thus
+ * it can be read back from any position of a larger buffer - as Vert.x does when
+ * the message is sent to another node of the cluster. Nodes running versions of Kos that
+ * predate this prefix cannot decode these messages, nor be decoded by this codec.
+ *
+ * Messages delivered to listeners of the same node are not encoded at all. By default,
+ * the very same instance is delivered, thus publishers should not modify messages once they
+ * are sent. {@link LocalDelivery#COPY_MUTABLE} protects them, delivering a deep copy
+ * of every message that is not known to be immutable (see {@link ImmutableMessageTypes}).
+ *
+ * @param <T> the type of the message
+ */
+@RequiredArgsConstructor
+public abstract class JacksonServiceBusCodec<T> implements MessageCodec<T, T> {
+
+    static final int LENGTH_PREFIX_SIZE = 4;
+
+    @NonNull protected final Class<T> targetClass;
+    @NonNull protected final LocalDelivery localDelivery;
+
+    protected JacksonServiceBusCodec(Class<T> targetClass) {
+        this(targetClass, LocalDelivery.SHARED);
+    }
+
+    /**
+     * @return the name of the data format, used to name this codec.
+     */
+    protected abstract String format();
+
+    /**
+     * @param message the message that will be encoded
+     * @return the writer for the given message
+     */
+    protected abstract ObjectWriter writerFor(T message);
+
+    /**
+     * @return the reader for {@link #targetClass}.
+     */
+    protected abstract ObjectReader reader();
+
+    @Override
+    public void encodeToWire(Buffer buffer, T t) {
+        val lengthPosition = buffer.length();
+        buffer.appendInt(0);
+        try {
+            writerFor(t).writeValue(new BufferOutputStream(buffer), t);
+        } catch (IOException cause) {
+            throw new KosException(cause, "Failed to encode %s message: %s", format(), cause.getMessage());
+        }
+        buffer.setInt(lengthPosition, buffer.length() - lengthPosition - LENGTH_PREFIX_SIZE);
+    }
+
+    @Override
+    public T decodeFromWire(int pos, Buffer buffer) {
+        val length = buffer.getInt(pos);
+        val encoded = buffer.getByteBuf().slice(pos + LENGTH_PREFIX_SIZE, length);
+        try {
+            return reader().readValue((InputStream) new ByteBufInputStream(encoded));
+        } catch (IOException cause) {
+            throw new KosException(cause, "Failed to decode %s message: %s", format(), cause.getMessage());
+        }
+    }
+
+    @Override
+    public T transform(T t) {
+        if (t == null || localDelivery == LocalDelivery.SHARED || ImmutableMessageTypes.isImmutable(t.getClass()))
+            return t;
+        return deepCopy(t);
+    }
+
+    /**
+     * Copies the message through a {@link TokenBuffer}, which keeps the Jackson tokens
+     * in memory, avoiding both encoding and parsing the message.
+     */
+    T deepCopy(T t) {
+        val tokens = new TokenBuffer(null, false);
+        try {
+            writerFor(t).writeValue(tokens, t);
+            return reader().readValue(tokens.asParser());
+        } catch (IOException cause) {
+            throw new KosException(cause, "Failed to copy %s message: %s", targetClass.getCanonicalName(), cause.getMessage());
+        }
+    }
+
+    @Override
+    public String name() {
+        return format() + "::" + targetClass.getCanonicalName();
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return -1;
+    }
+
+    /**
+     * Defines how messages are delivered to listeners of the same node.
+     */
+    public enum LocalDelivery {
+        /**
+         * Delivers the very same instance sent by the publisher.
+         */
+        SHARED,
+        /**
+         * Delivers immutable messages as is, and a deep copy of the mutable ones.
+         */
+        COPY_MUTABLE
+    }
+
+    /**
+     * Appends the bytes written by Jackson (which buffers them internally)
+     * directly into the wire buffer, avoiding an intermediate byte array.
+     */
+    @RequiredArgsConstructor
+    static class BufferOutputStream extends OutputStream {
+
+        private final Buffer buffer;
+
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            buffer.appendBytes(bytes, offset, length);
+        }
+    }
+}
@@ -1,40 +1,34 @@
 package kos.core.events;
 
-import io.vertx.core.buffer.Buffer;
-import io.vertx.core.eventbus.MessageCodec;
-import io.vertx.core.json.Json;
-import kos.api.Serializer;
-import lombok.RequiredArgsConstructor;
-import lombok.val;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import kos.core.JacksonTypeCache;
 
-@RequiredArgsConstructor
-public class JsonServiceBusCodec<T> implements MessageCodec<T, T> {
+/**
+ * Encodes messages as JSON, using the readers and writers cached by {@link JacksonTypeCache}.
+ */
+public class JsonServiceBusCodec<T> extends JacksonServiceBusCodec<T> {
 
-    private final Class<T> targetClass;
-
-    @Override
-    public void encodeToWire(Buffer buffer, T t) {
-        val encoded = Json.encode(t);
-        buffer.appendString(encoded);
+    public JsonServiceBusCodec(Class<T> targetClass) {
+        super(targetClass);
     }
 
-    @Override
-    public T decodeFromWire(int i, Buffer buffer) {
-        return Json.decodeValue(buffer, targetClass);
+    public JsonServiceBusCodec(Class<T> targetClass, LocalDelivery localDelivery) {
+        super(targetClass, localDelivery);
     }
 
     @Override
-    public T transform(T t) {
-        return t;
+    protected String format() {
+        return "JSON";
     }
 
     @Override
-    public String name() {
-        return "JSON::"+ targetClass.getCanonicalName();
+    protected ObjectWriter writerFor(T message) {
+        return JacksonTypeCache.writerForValue(message);
     }
 
     @Override
-    public byte systemCodecID() {
-        return -1;
+    protected ObjectReader reader() {
+        return JacksonTypeCache.readerFor(targetClass);
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Limits how many messages a listener handles concurrently, and what happens
+ * to the messages received while it is saturated.
+ *
+ * @see EventBusSinkManager#subscribe(String, Class, ListenerOptions, EventHandler)
+ */
+@Value
+public class ListenerOptions {
+
+    /**
+     * Maximum number of messages handled concurrently. {@code 0} means unlimited.
+     */
+    int maxInFlight;
+
+    /**
+     * Maximum number of messages waiting to be handled once {@link #maxInFlight} is reached.
+     */
+    int bufferSize;
+
+    /**
+     * What happens to the messages received once the buffer is full.
+     */
+    @NonNull Overflow overflow;
+
+    public boolean isBounded() {
+        return maxInFlight > 0;
+    }
+
+    public enum Overflow {
+
+        /**
+         * Pauses the consumer until the buffer has room again. Messages sent meanwhile
+         * are kept by the EventBus consumer, which discards them beyond the buffer size.
+         * Discarded messages are not replied to, thus requests (e.g. the ones sent by
+         * always consistent publishers, including whole batches) wait until their reply
+         * timeout (30 seconds by default) is reached. Prefer {@code REJECT} or {@code DROP}
+         * for listeners of requests, as they fail overflowing requests immediately.
+         */
+        PAUSE,
+
+        /**
+         * Discards the message. Published messages are silently discarded, while
+         * requests (that expect a reply) are failed as if they were rejected.
+         */
+        DROP,
+
+        /**
+         * Fails the message, notifying the publisher that the listener is overloaded.
+         */
+        REJECT
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import lombok.Value;
+
+/**
+ * Usage of a listener subscribed with bounded concurrency.
+ *
+ * @see EventBusSinkManager#getListenerStats()
+ */
+@Value
+public class ListenerStats {
+
+    /** The (rewritten) address the listener is subscribed to. */
+    String address;
+
+    /** Messages being handled. */
+    int inFlight;
+
+    /** Messages waiting to be handled. */
+    int queued;
+
+    /** Messages discarded because the buffer was full. */
+    long dropped;
+
+    /** Messages failed because the buffer was full. */
+    long rejected;
+
+    /** Whether the consumer is paused. */
+    boolean paused;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.exception;
+
+import lombok.Getter;
+
+/**
+ * Notifies that no serializer is available for the media type sent (or accepted)
+ * by the client. It is converted into a {@code 415 Unsupported Media Type}
+ * or a {@code 406 Not Acceptable} response, respectively.
+ */
+public class ContentNegotiationException extends KosException {
+
+    public static final int UNSUPPORTED_MEDIA_TYPE = 415;
+    public static final int NOT_ACCEPTABLE = 406;
+
+    @Getter
+    private final int statusCode;
+
+    private ContentNegotiationException(int statusCode, String message, Object...params) {
+        super(message, params);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * @param contentType the Content-Type of the request payload.
+     */
+    public static ContentNegotiationException unsupportedMediaType(String contentType) {
+        return new ContentNegotiationException(UNSUPPORTED_MEDIA_TYPE, "Unsupported media type: %s", contentType);
+    }
+
+    /**
+     * @param mediaTypes the media types acceptable by the client.
+     */
+    public static ContentNegotiationException notAcceptable(String mediaTypes) {
+        return new ContentNegotiationException(NOT_ACCEPTABLE, "None of the accepted media types are available: %s", mediaTypes);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.exception;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import kos.api.ExceptionHandler;
+import kos.api.Response;
+
+import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+
+/**
+ * Converts {@link ContentNegotiationException}s into plain text responses, as
+ * the serializer expected by the client is (by definition) not available.
+ */
+public class ContentNegotiationExceptionHandler implements ExceptionHandler {
+
+    @Override
+    public Response handle(HttpServerRequest request, Throwable cause) {
+        ContentNegotiationException exception = (ContentNegotiationException) cause;
+        return Response.wrap(Buffer.buffer(exception.getMessage()))
+            .withStatusCode(exception.getStatusCode())
+            .addHeader(CONTENT_TYPE, "text/plain");
+    }
+}
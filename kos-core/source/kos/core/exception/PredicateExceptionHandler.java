@@ -73,7 +73,7 @@ public class PredicateExceptionHandler implements ExceptionHandler
         cause.printStackTrace(new PrintWriter(stackTrace));
 
         val serialized = Buffer.buffer(stackTrace.toString());
-        return Response.wrap(serialized).statusCode(500).addHeader(CONTENT_TYPE, "text/plain");
+        return Response.wrap(serialized).withStatusCode(500).addHeader(CONTENT_TYPE, "text/plain");
     }
 
     @RequiredArgsConstructor(staticName = "with")
@@ -13,9 +13,9 @@ public class ValidationExceptionHandler implements ExceptionHandler {
         val response = Response.of(validationException.getMessage());
 
         switch (validationException.getFailureType()) {
-            case UNPROCESSABLE_ENTITY: return response.statusCode(422);
-            case MALFORMED_ENTITY: return response.statusCode(400);
-            default: return response.statusCode(500);
+            case UNPROCESSABLE_ENTITY: return response.withStatusCode(422);
+            case MALFORMED_ENTITY: return response.withStatusCode(400);
+            default: return response.withStatusCode(500);
         }
     }
 }
@@ -0,0 +1,90 @@
+package kos.api;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import kos.core.exception.ContentNegotiationException;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("AcceptHeaderNegotiationStrategy: picks the response serializer from the Accept header")
+class AcceptHeaderNegotiationStrategyTest {
+
+    final MutableKosContext kosContext = new MutableKosContext();
+    final AcceptHeaderNegotiationStrategy strategy = new AcceptHeaderNegotiationStrategy(kosContext, "application/json");
+
+    @DisplayName("Should pick the default serializer WHEN no Accept header was sent")
+    @Test void scenario1(){
+        val serializer = strategy.serializerForAcceptHeader(null);
+        assertEquals("application/json", serializer.contentType());
+    }
+
+    @DisplayName("Should pick the serializer with the highest q-value")
+    @Test void scenario2(){
+        val serializer = strategy.serializerForAcceptHeader("application/json;q=0.5, application/cbor, text/plain;q=0.8");
+        assertEquals("application/cbor", serializer.contentType());
+    }
+
+    @DisplayName("Should keep the order of media ranges with the same q-value")
+    @Test void scenario3(){
+        val serializer = strategy.serializerForAcceptHeader("text/plain, application/json");
+        assertEquals("text/plain", serializer.contentType());
+    }
+
+    @DisplayName("Should ignore media ranges with no serializer available")
+    @Test void scenario4(){
+        val serializer = strategy.serializerForAcceptHeader("image/png, application/x-msgpack;q=0.1");
+        assertEquals("application/x-msgpack", serializer.contentType());
+    }
+
+    @DisplayName("Should fail with 406 WHEN none of the accepted media types are available")
+    @Test void scenario4b(){
+        val failure = assertThrows(ContentNegotiationException.class,
+            () -> strategy.serializerForAcceptHeader("image/png, application/xml;q=0.9"));
+        assertEquals(406, failure.getStatusCode());
+    }
+
+    @DisplayName("Should ignore media ranges that are not acceptable (q=0)")
+    @Test void scenario5(){
+        val serializer = strategy.serializerForAcceptHeader("application/cbor;q=0, text/plain;q=0.1");
+        assertEquals("text/plain", serializer.contentType());
+    }
+
+    @DisplayName("Should pick the default serializer WHEN any media type is accepted")
+    @Test void scenario6(){
+        assertEquals("application/json", strategy.serializerForAcceptHeader("*/*").contentType());
+        assertEquals("application/json", strategy.serializerForAcceptHeader("application/*").contentType());
+        assertEquals("text/plain", strategy.serializerForAcceptHeader("text/*").contentType());
+    }
+
+    @DisplayName("Should cache the negotiation result by the raw Accept header")
+    @Test void scenario7(){
+        val header = "application/x-jackson-smile";
+        val serializer = strategy.serializerForAcceptHeader(header);
+        assertSame(serializer, strategy.negotiated.get(header));
+        assertSame(serializer, strategy.serializerForAcceptHeader(header));
+    }
+
+    @DisplayName("Should define the response Content-Type WHEN negotiating the request")
+    @Test void scenario8(){
+        val request = mock(HttpServerRequest.class);
+        val response = mock(HttpServerResponse.class);
+        doReturn(response).when(request).response();
+        doReturn("application/cbor").when(request).getHeader(eq(HttpHeaders.ACCEPT));
+
+        strategy.negotiate(request);
+
+        verify(response).putHeader(eq(HttpHeaders.CONTENT_TYPE), eq("application/cbor"));
+    }
+
+    @DisplayName("Should pick the first registered serializer WHEN a wildcard doesn't match the default one")
+    @Test void scenario9(){
+        val plainTextByDefault = new AcceptHeaderNegotiationStrategy(kosContext, "text/plain");
+        for (int i = 0; i < 10; i++)
+            assertEquals("application/json", plainTextByDefault.serializerForAcceptHeader("application/*").contentType());
+    }
+}
@@ -18,8 +18,10 @@ package kos.api;
 
 import io.vertx.core.http.*;
 import io.vertx.core.http.impl.headers.*;
+import kos.core.exception.ContentNegotiationException;
 import lombok.*;
 import org.junit.jupiter.api.*;
+import org.mockito.Mockito;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -43,4 +45,54 @@ class HeaderParserStrategyTest {
         val parsed = strategy.parseContentTypeHeader(headers);
         assertEquals("text/plain", parsed);
     }
-}
\ No newline at end of file
+
+    @Test void basedOnContentTypeWithSpacesAndUpperCase() {
+        val headers = new HeadersMultiMap();
+        headers.set(HttpHeaders.CONTENT_TYPE, " Text/Plain ;charset=us-ascii");
+
+        val parsed = strategy.parseContentTypeHeader(headers);
+        assertEquals("text/plain", parsed);
+    }
+
+    @Test void cachesResolvedSerializersByRawHeaderValue() {
+        val request = requestWithContentType("text/plain; charset=us-ascii");
+
+        val serializer = strategy.serializerFor(request);
+        assertTrue(serializer instanceof Serializer.PlainTextSerializer);
+        assertSame(serializer, strategy.resolved.get("text/plain; charset=us-ascii"));
+        assertSame(serializer, strategy.serializerFor(request));
+    }
+
+    @Test void usesTheDefaultContentTypeWhenNoHeaderWasSent() {
+        val request = Mockito.mock(HttpServerRequest.class);
+        Mockito.doReturn(new HeadersMultiMap()).when(request).headers();
+
+        val serializer = strategy.serializerFor(request);
+        assertTrue(serializer instanceof Serializer.JsonSerializer);
+    }
+
+    @Test void failsWithUnsupportedMediaTypeForUnknownRequestContentTypes() {
+        val request = requestWithContentType("image/png");
+
+        val failure = assertThrows(ContentNegotiationException.class, () -> strategy.serializerFor(request));
+        assertEquals(415, failure.getStatusCode());
+    }
+
+    @Test void failsWithNotAcceptableForUnknownResponseContentTypes() {
+        val headers = new HeadersMultiMap();
+        headers.set(HttpHeaders.CONTENT_TYPE, "image/png");
+        val response = Mockito.mock(HttpServerResponse.class);
+        Mockito.doReturn(headers).when(response).headers();
+
+        val failure = assertThrows(ContentNegotiationException.class, () -> strategy.serializerFor(response));
+        assertEquals(406, failure.getStatusCode());
+    }
+
+    HttpServerRequest requestWithContentType(String contentType) {
+        val headers = new HeadersMultiMap();
+        headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+        val request = Mockito.mock(HttpServerRequest.class);
+        Mockito.doReturn(headers).when(request).headers();
+        return request;
+    }
+}
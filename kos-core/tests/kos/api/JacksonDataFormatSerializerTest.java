@@ -0,0 +1,80 @@
+package kos.api;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("JacksonDataFormatSerializer: binary serialization formats")
+class JacksonDataFormatSerializerTest {
+
+    final static List<String> BINARY_FORMATS = asList(
+        "application/cbor", "application/x-jackson-smile", "application/x-msgpack"
+    );
+
+    final MutableKosContext kosContext = new MutableKosContext();
+
+    @DisplayName("Should serialize and deserialize objects")
+    @Test void scenario1(){
+        for (val contentType : BINARY_FORMATS) {
+            val serializer = (Serializer.JacksonDataFormatSerializer) kosContext.getSerializerForContentType(contentType);
+            val person = new Person("Luke", 19);
+
+            val serialized = serializer.serialize(person);
+            assertEquals(person, serializer.deserialize(serialized, Person.class), contentType);
+        }
+    }
+
+    @DisplayName("Should deserialize generic types")
+    @Test void scenario2(){
+        for (val contentType : BINARY_FORMATS) {
+            val serializer = (Serializer.JacksonDataFormatSerializer) kosContext.getSerializerForContentType(contentType);
+            val people = singletonList(new Person("Leia", 19));
+
+            val serialized = serializer.serialize(people);
+            assertEquals(people, serializer.deserialize(serialized, new TypeReference<List<Person>>() {}), contentType);
+        }
+    }
+
+    @DisplayName("Should not be created WHEN the data format is not available")
+    @Test void scenario3(){
+        assertNull(Serializer.JacksonDataFormatSerializer.createIfAvailable("application/x-unknown", "unknown.DataFormatFactory"));
+    }
+
+    @DisplayName("Should give the pooled buffer back WHEN the response cannot be written")
+    @Test void scenario4(){
+        for (val contentType : asList("application/json", "application/cbor")) {
+            val serializer = kosContext.getSerializerForContentType(contentType);
+            val response = mock(HttpServerResponse.class);
+            val sent = new AtomicReference<Buffer>();
+            doAnswer(invocation -> {
+                sent.set(invocation.getArgument(0));
+                throw new IllegalStateException("Response has already been written");
+            }).when(response).end(any(Buffer.class), any());
+
+            assertThrows(IllegalStateException.class, () -> serializer.serializeAndSend(new Person("Han", 32), response));
+            assertEquals(0, sent.get().getByteBuf().refCnt(), contentType);
+        }
+    }
+
+    @Data @NoArgsConstructor @AllArgsConstructor
+    static class Person {
+        String name;
+        int age;
+    }
+}
@@ -94,9 +94,12 @@ class KosContextTest
         @DisplayName("Should discover and load all serializers from SPI")
         @Test void scenario1(){
             
-            assertEquals(2, conf.getSerializers().size());
+            assertEquals(5, conf.getSerializers().size());
             assertTrue(conf.getSerializers().get("application/json") instanceof Serializer.JsonSerializer);
             assertTrue(conf.getSerializers().get("text/plain") instanceof Serializer.PlainTextSerializer);
+            assertTrue(conf.getSerializers().get("application/cbor") instanceof Serializer.JacksonDataFormatSerializer);
+            assertTrue(conf.getSerializers().get("application/x-jackson-smile") instanceof Serializer.JacksonDataFormatSerializer);
+            assertTrue(conf.getSerializers().get("application/x-msgpack") instanceof Serializer.JacksonDataFormatSerializer);
         }
 
         @DisplayName("Should return JsonSerializer as default serializer WHEN none was defined")
@@ -121,8 +124,9 @@ class KosContextTest
         @DisplayName("Should discover and load all Rest Client Serializers from SPI")
         @Test void scenario1() {
             
-            assertEquals(1, conf.getRestClientSerializers().size());
+            assertEquals(4, conf.getRestClientSerializers().size());
             assertTrue(conf.getRestClientSerializers().get("application/json") instanceof RestClientSerializer.JsonRestClientSerializer);
+            assertTrue(conf.getRestClientSerializers().get("application/cbor") instanceof RestClientSerializer.JacksonDataFormatRestClientSerializer);
         }
 
         @DisplayName("Should return JsonRestClientSerializer as default serializer WHEN none was defined")
@@ -16,6 +16,7 @@
 
 package kos.api;
 
+import io.netty.util.AsciiString;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
@@ -98,7 +99,7 @@ class ResponseTest {
         response.send(kosContext, serverResponse);
         verify(serverResponse).setStatusCode(eq(200));
         verify(serverResponse).putHeader(eq(CONTENT_TYPE), eq((CharSequence)"application/json"));
-        verify(serverResponse).end(eq(Buffer.buffer("true")));
+        verify(serverResponse).end(eq(Buffer.buffer("true")), any());
         verifyNoMoreInteractions(serverResponse);
     }
 
@@ -110,13 +111,71 @@ class ResponseTest {
     @Test void sendRoutingContextResponse(){
         val response = Response.of("Hello World")
             .addHeader("X-Token", "123456")
-            .statusCode(201);
+            .withStatusCode(201);
 
         Response.send(kosContext, routingContext, response);
         verify(serverResponse).setStatusCode(eq(201));
-        verify(serverResponse).putHeader(eq((CharSequence)"X-Token"), eq((CharSequence)"123456"));
+        verify(serverResponse).putHeader(eq((CharSequence)AsciiString.of("X-Token")), eq((CharSequence)"123456"));
         verify(serverResponse).putHeader(eq(CONTENT_TYPE), eq((CharSequence)"application/json"));
-        verify(serverResponse).end(eq(Buffer.buffer("\"Hello World\"")));
+        verify(serverResponse).end(eq(Buffer.buffer("\"Hello World\"")), any());
+        verifyNoMoreInteractions(serverResponse);
+    }
+
+    @DisplayName("addHeader() SHOULD NOT modify the original (and possibly shared) response")
+    @Test void addHeaderIsImmutable(){
+        val original = Response.NOT_FOUND;
+        val modified = original.addHeader("X-Token", "123456").withStatusCode(410);
+
+        assertNotSame(original, modified);
+        assertTrue(original.headers().isEmpty());
+        assertEquals(404, original.statusCode());
+        assertEquals(410, modified.statusCode());
+        assertEquals("123456", modified.headers().get("X-Token"));
+    }
+
+    @DisplayName("addHeader() SHOULD replace headers with the same name, ignoring its case")
+    @Test void addHeaderReplacesExistingHeaders(){
+        val response = Response.empty()
+            .addHeader("X-Token", "123456")
+            .addHeader("x-token", "654321");
+
+        assertEquals(1, response.headers().size());
+        assertEquals("654321", response.headers().get("X-TOKEN"));
+    }
+
+    @DisplayName("headers() SHOULD fail loudly WHEN modified in place")
+    @Test void headersAreReadOnly(){
+        val response = Response.empty().addHeader("X-Token", "123456");
+
+        val failure = assertThrows(UnsupportedOperationException.class, () -> response.headers().put("X-Other", "value"));
+        assertTrue(failure.getMessage().contains("addHeader"));
+        assertThrows(UnsupportedOperationException.class, () -> response.headers().remove("X-Token"));
+        assertThrows(UnsupportedOperationException.class, () -> response.headers().entrySet().iterator().next().setValue("value"));
+        assertEquals("123456", response.headers().get("x-token"));
+    }
+
+    @DisplayName("Deprecated statusCode(int) and headers(Map) SHOULD return copies, as their with* counterparts")
+    @SuppressWarnings("deprecation")
+    @Test void deprecatedMutatorsReturnCopies(){
+        val original = Response.NOT_FOUND;
+        val modified = original.statusCode(410).headers(Lang.mapOf((CharSequence)"X-Token", (CharSequence)"123456").build());
+
+        assertEquals(404, original.statusCode());
+        assertTrue(original.headers().isEmpty());
+        assertEquals(410, modified.statusCode());
+        assertEquals("123456", modified.headers().get("X-Token"));
+    }
+
+    @DisplayName("Pre-built responses SHOULD be sent multiple times with the same interned header names")
+    @Test void preBuiltResponsesCanBeReused(){
+        val response = Response.NOT_FOUND.addHeader("X-Reason", "missing");
+
+        response.send(kosContext, serverResponse);
+        response.send(kosContext, serverResponse);
+        verify(serverResponse, times(2)).setStatusCode(eq(404));
+        verify(serverResponse, times(2)).putHeader(
+            same((CharSequence)ResponseHeaders.intern("X-Reason")), eq((CharSequence)"missing"));
+        verify(serverResponse, times(2)).end();
         verifyNoMoreInteractions(serverResponse);
     }
 
@@ -129,7 +188,7 @@ class ResponseTest {
         Response.send(kosContext, routingContext, "Hello World");
         verify(serverResponse).setStatusCode(eq(200));
         verify(serverResponse).putHeader(eq(CONTENT_TYPE), eq((CharSequence)"application/json"));
-        verify(serverResponse).end(eq(Buffer.buffer("\"Hello World\"")));
+        verify(serverResponse).end(eq(Buffer.buffer("\"Hello World\"")), any());
         verifyNoMoreInteractions(serverResponse);
     }
 
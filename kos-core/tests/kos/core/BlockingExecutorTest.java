@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import kos.api.MutableKosContext;
+import kos.core.exception.KosException;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BlockingExecutor: runs blocking code off the event loop")
+class BlockingExecutorTest {
+
+    final Vertx vertx = Vertx.vertx();
+    final BlockingExecutor executor = new BlockingExecutor(new MutableKosContext().setDefaultVertx(vertx));
+
+    @AfterEach void closeVertx(){
+        System.clearProperty(BlockingExecutor.VIRTUAL_THREADS_PROPERTY);
+        Lang.waitFor(vertx.close());
+    }
+
+    @DisplayName("Should run the task off the event loop and complete it on the caller's context")
+    @Test void scenario1(){
+        val executedOnEventLoop = new AtomicReference<Boolean>();
+        val completedOnCallerContext = new AtomicReference<Boolean>();
+
+        vertx.runOnContext(ignored -> {
+            val callerContext = Vertx.currentContext();
+            executor.compute(() -> {
+                executedOnEventLoop.set(Context.isOnEventLoopThread());
+                return "done";
+            }).onComplete(result -> completedOnCallerContext.set(
+                result.succeeded() && Vertx.currentContext() == callerContext));
+        });
+
+        assertFalse(Lang.waitFor(executedOnEventLoop, 5, TimeUnit.SECONDS));
+        assertTrue(Lang.waitFor(completedOnCallerContext, 5, TimeUnit.SECONDS));
+    }
+
+    @DisplayName("Should fail the returned future when the task fails")
+    @Test void scenario2(){
+        val future = executor.run(() -> { throw new IllegalStateException("Failed"); });
+
+        val failure = assertThrows(KosException.class, () -> Lang.waitFor(future, 5, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+    }
+
+    @DisplayName("Should not use virtual threads when disabled by system property")
+    @Test void scenario3(){
+        System.setProperty(BlockingExecutor.VIRTUAL_THREADS_PROPERTY, "false");
+        assertNull(BlockingExecutor.VirtualThreads.createExecutor());
+    }
+}
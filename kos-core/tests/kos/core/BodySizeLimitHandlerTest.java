@@ -0,0 +1,69 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.mockito.Mockito.*;
+
+@DisplayName("BodySizeLimitHandler: rejects large payloads before they are read")
+class BodySizeLimitHandlerTest {
+
+    @Mock RoutingContext context;
+    @Mock HttpServerRequest request;
+
+    @BeforeEach void setup(){
+        MockitoAnnotations.initMocks(this);
+        doReturn(request).when(context).request();
+    }
+
+    @DisplayName("SHOULD reject requests which Content-Length exceeds the maximum body size")
+    @Test void scenario1(){
+        doReturn("2048").when(request).getHeader(eq(HttpHeaders.CONTENT_LENGTH));
+
+        new BodySizeLimitHandler(1024).handle(context);
+
+        verify(context).fail(eq(413));
+        verify(context, never()).next();
+    }
+
+    @DisplayName("SHOULD memorize the maximum body size WHEN Content-Length is within the limit")
+    @Test void scenario2(){
+        doReturn("512").when(request).getHeader(eq(HttpHeaders.CONTENT_LENGTH));
+
+        new BodySizeLimitHandler(1024).handle(context);
+
+        verify(context).put(eq(BodySizeLimitHandler.MAX_BODY_SIZE), eq(1024L));
+        verify(context).next();
+    }
+
+    @DisplayName("SHOULD not verify the Content-Length WHEN there is no limit defined")
+    @Test void scenario3(){
+        new BodySizeLimitHandler(-1).handle(context);
+
+        verify(context, never()).request();
+        verify(context).next();
+    }
+}
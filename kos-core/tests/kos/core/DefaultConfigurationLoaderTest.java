@@ -5,6 +5,7 @@ import io.vertx.core.json.JsonObject;
 import kos.api.KosContext;
 import kos.api.MutableKosContext;
 import kos.api.WebServerEventListener.BeforeDeployWebServerEvent;
+import kos.api.WebServerEventListener.BeforeDeployWebServersEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class DefaultConfigurationLoaderTest {
@@ -37,8 +39,16 @@ class DefaultConfigurationLoaderTest {
     @Test void shouldLoadWebServerPortFromConfiguration() {
         doReturn(8080).when(configObject).getInteger(eq("web.server.port"), eq(9000));
 
-        confLoader.on(event);
+        confLoader.on(new BeforeDeployWebServersEvent(vertx, configObject, context));
 
         assertEquals(8080, context.getHttpServerOptions().getPort());
     }
-}
\ No newline at end of file
+
+    @Test void shouldLoadDefaultMaxBodySizeFromConfiguration() {
+        doReturn(1024L).when(configObject).getLong(eq("web.server.max-body-size"), eq(-1L));
+
+        confLoader.on(event);
+
+        verify(simplifiedRouter).defaultMaxBodySize(eq(1024L));
+    }
+}
@@ -67,4 +67,19 @@ class ImplementationLoaderTest {
             () -> spiLoader.instanceOfOrFail(Map.class));
     }
 
+    @DisplayName("instancesExposedAs SHOULD load the services only once")
+    @Test void instancesExposedAsIsCached(){
+        val first = spiLoader.instancesExposedAs(ExposedService.class);
+        val second = spiLoader.instancesExposedAs(ExposedService.class);
+        assertSame(first, second);
+        assertSame(first.iterator().next(), second.iterator().next());
+    }
+
+    @DisplayName("instanceOf SHOULD keep the instantiated classes as singletons")
+    @Test void instanceOfIsSingleton(){
+        val first = spiLoader.instanceOf(HashMap.class).get();
+        val second = spiLoader.instanceOf(HashMap.class).get();
+        assertSame(first, second);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import kos.api.BootstrapIndex;
+import kos.api.ImplementationLoader;
+import kos.core.sample.ExposedService;
+import kos.core.sample.ExposedServiceImpl;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IndexedImplementations: loads classes listed by the bootstrap index")
+class IndexedImplementationsTest {
+
+    final AtomicInteger instantiations = new AtomicInteger();
+
+    final BootstrapIndex index = () -> Collections.singletonMap(ExposedService.class, Collections.singletonList(
+        new BootstrapIndex.Implementation(ExposedServiceImpl.class, () -> {
+            instantiations.incrementAndGet();
+            return new ExposedServiceImpl();
+        })
+    ));
+
+    @DisplayName("SHOULD instantiate the indexed classes through their constructor references")
+    @Test void scenario1(){
+        val indexed = new IndexedImplementations(Collections.singletonList(index), false);
+        val instances = indexed.instancesOf(ExposedService.class);
+
+        assertEquals(1, instances.size());
+        assertEquals("Hello World", instances.get(0).sayHello());
+        assertEquals(1, instantiations.get());
+    }
+
+    @DisplayName("SHOULD NOT load, again, indexed classes also exposed through META-INF/services")
+    @Test void scenario2(){
+        val indexed = new IndexedImplementations(Collections.singletonList(index), false);
+        val loader = new ImplementationLoader.SPIImplementationLoader(indexed);
+
+        val found = new ArrayList<ExposedService>();
+        loader.instancesExposedAs(ExposedService.class).forEach(found::add);
+
+        assertEquals(1, found.size());
+        assertEquals(1, instantiations.get());
+    }
+
+    @DisplayName("SHOULD only be sufficient for indexed types WHEN index-only mode is enabled")
+    @Test void scenario3(){
+        val indexOnly = new IndexedImplementations(Collections.singletonList(index), true);
+        assertTrue(indexOnly.isSufficientFor(ExposedService.class));
+        assertFalse(indexOnly.isSufficientFor(Runnable.class));
+
+        val mergingWithSpi = new IndexedImplementations(Collections.singletonList(index), false);
+        assertFalse(mergingWithSpi.isSufficientFor(ExposedService.class));
+    }
+}
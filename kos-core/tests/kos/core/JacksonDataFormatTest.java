@@ -0,0 +1,60 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import kos.core.exception.KosException;
+import lombok.Data;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JacksonDataFormat: binary data formats loaded from the class path")
+class JacksonDataFormatTest {
+
+    final JacksonDataFormat smile = JacksonDataFormat.load("SMILE", "com.fasterxml.jackson.dataformat.smile.SmileFactory");
+
+    @DisplayName("Should create the mapper with the data format's factory")
+    @Test void scenario1(){
+        assertTrue(smile.getMapper().getFactory() instanceof SmileFactory);
+    }
+
+    @DisplayName("Should reuse the same readers and writers for a given type")
+    @Test void scenario2(){
+        assertSame(smile.writerForValue(new Person()), smile.writerForValue(new Person()));
+        assertSame(smile.readerFor(Person.class), smile.readerFor(Person.class));
+        assertSame(smile.readerFor(new TypeReference<List<Person>>() {}), smile.readerFor(new TypeReference<List<Person>>() {}));
+    }
+
+    @DisplayName("Should not load data formats that are not available in the class path")
+    @Test void scenario3(){
+        assertNull(JacksonDataFormat.loadIfAvailable("unknown.DataFormatFactory"));
+        val failure = assertThrows(KosException.class, () -> JacksonDataFormat.load("UNKNOWN", "unknown.DataFormatFactory"));
+        assertTrue(failure.getMessage().contains("UNKNOWN"));
+    }
+
+    @Data
+    static class Person {
+        String name;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.vertx.core.buffer.Buffer;
+import lombok.Data;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JacksonTypeCache: pre-resolved readers and writers")
+class JacksonTypeCacheTest {
+
+    @AfterEach void cleanUp(){
+        JacksonTypeCache.reset();
+    }
+
+    @DisplayName("Should reuse the same writer for a given type")
+    @Test void scenario1(){
+        val writer = JacksonTypeCache.writerFor(Person.class);
+        assertSame(writer, JacksonTypeCache.writerFor(Person.class));
+        assertSame(writer, JacksonTypeCache.writerForValue(new Person()));
+    }
+
+    @DisplayName("Should reuse the same reader for a given type")
+    @Test void scenario2(){
+        val reader = JacksonTypeCache.readerFor(Person.class);
+        assertSame(reader, JacksonTypeCache.readerFor(Person.class));
+    }
+
+    @DisplayName("Should encode and decode objects")
+    @Test void scenario3(){
+        val person = new Person();
+        person.setName("Luke");
+
+        val encoded = JacksonTypeCache.encode(person);
+        assertEquals("{\"name\":\"Luke\"}", encoded.toString());
+        assertEquals(person, JacksonTypeCache.decode(encoded, Person.class));
+    }
+
+    @DisplayName("Should decode generic types")
+    @Test void scenario4(){
+        val decoded = JacksonTypeCache.decode(Buffer.buffer("[{\"name\":\"Luke\"}]"), new TypeReference<List<Person>>() {});
+        assertEquals(1, decoded.size());
+        assertEquals("Luke", decoded.get(0).getName());
+    }
+
+    @DisplayName("Should resolve registered types WHEN warmed up")
+    @Test void scenario5(){
+        JacksonTypeCache.registerReadable(Person.class);
+        JacksonTypeCache.registerWritable(Person.class);
+
+        val unsupported = JacksonTypeCache.warmUp();
+        assertTrue(unsupported.isEmpty());
+    }
+
+    @DisplayName("Should report registered types that cannot be serialized")
+    @Test void scenario6(){
+        JacksonTypeCache.registerWritable(NoProperties.class);
+
+        val unsupported = JacksonTypeCache.warmUp();
+        assertEquals(1, unsupported.size());
+        assertEquals(NoProperties.class, unsupported.get(0).getType());
+        assertEquals("serialized", unsupported.get(0).getOperation());
+    }
+
+    @DisplayName("Should discard previously resolved writers WHEN warmed up")
+    @Test void scenario7(){
+        val writer = JacksonTypeCache.writerFor(Person.class);
+        JacksonTypeCache.warmUp();
+        assertNotSame(writer, JacksonTypeCache.writerFor(Person.class));
+    }
+
+    @Data
+    static class Person {
+        String name;
+    }
+
+    static class NoProperties {}
+}
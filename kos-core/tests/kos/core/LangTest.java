@@ -18,6 +18,8 @@ package kos.core;
 
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import kos.core.exception.KosException;
 import lombok.val;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +27,9 @@ import org.junit.jupiter.api.Test;
 import java.util.HashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -90,6 +95,71 @@ class LangTest {
         assertEquals(waitTime, (int)Lang.waitFor(promise.future()));
     }
 
+    @DisplayName("waitFor(Future,long,TimeUnit) SHOULD fail when the future isn't completed in time")
+    @Test void waitForFutureWithTimeout() {
+        val promise = Promise.<Integer>promise();
+        val failure = assertThrows(KosException.class, () -> Lang.waitFor(promise.future(), 10, TimeUnit.MILLISECONDS));
+        assertEquals("Timed out after 10 MILLISECONDS", failure.getMessage());
+    }
+
+    @DisplayName("waitFor(Future) SHOULD rethrow the failure cause")
+    @Test void waitForFailedFuture() {
+        val cause = new IllegalStateException("Failed");
+        val failure = assertThrows(KosException.class, () -> Lang.waitFor(Future.failedFuture(cause)));
+        assertEquals("Failed", failure.getMessage());
+        assertSame(cause, failure.getCause());
+    }
+
+    @DisplayName("waitFor(Future) SHOULD fail fast WHEN it would block an event loop")
+    @Test void waitForOnEventLoop() {
+        val vertx = Vertx.vertx();
+        try {
+            val failure = new AtomicReference<Throwable>();
+            vertx.runOnContext(ignored -> {
+                try {
+                    Lang.waitFor(Promise.promise().future());
+                    failure.set(new AssertionError("Should not block"));
+                } catch (Throwable cause) {
+                    failure.set(cause);
+                }
+            });
+
+            assertTrue(Lang.waitFor(failure, 5, TimeUnit.SECONDS) instanceof KosException);
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @DisplayName("waitFor(Future) SHOULD NOT fail on event loops WHEN the future is already completed")
+    @Test void waitForCompletedFutureOnEventLoop() {
+        val vertx = Vertx.vertx();
+        try {
+            val result = new AtomicReference<Object>();
+            vertx.runOnContext(ignored -> result.set(Lang.waitFor(Future.succeededFuture("done"))));
+            assertEquals("done", Lang.waitFor(result, 5, TimeUnit.SECONDS));
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @DisplayName("waitFor(AtomicReference,long,TimeUnit) SHOULD fail when the reference isn't filled in time")
+    @Test void waitForReferenceWithTimeout() {
+        val reference = new AtomicReference<String>();
+        assertThrows(KosException.class, () -> Lang.waitFor(reference, 10, TimeUnit.MILLISECONDS));
+    }
+
+    @DisplayName("waitFor(AtomicReference,long,TimeUnit) SHOULD wait for the reference WHEN the timeout is (virtually) infinite")
+    @Test void waitForReferenceWithLargeTimeout() {
+        val reference = new AtomicReference<String>();
+        val filler = new Thread(() -> {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+            reference.set("done");
+        });
+        filler.start();
+
+        assertEquals("done", Lang.waitFor(reference, Long.MAX_VALUE, TimeUnit.DAYS));
+    }
+
     @DisplayName("sorted(Iterable,Comparator) SHOULD sort according to the order defined by the Comparator")
     @Test void sortedIterableComparator(){
         val numbers = asList(2, 1, 3, 0);
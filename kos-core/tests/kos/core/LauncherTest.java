@@ -3,24 +3,34 @@ package kos.core;
 import io.vertx.config.ConfigRetriever;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
 import io.vertx.core.Handler;
+import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
+import io.vertx.core.VertxOptions;
 import io.vertx.core.json.JsonObject;
 import kos.api.ConfigurationLoadedEventListener.ConfigurationLoadedEvent;
 import kos.api.ImplementationLoader;
 import kos.api.MutableKosContext;
 import kos.api.Plugin;
+import kos.api.StartupCompletedEventListener;
+import kos.api.WebServerEventListener;
 import kos.core.exception.KosException;
+import lombok.SneakyThrows;
 import lombok.val;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.nio.file.Files;
+import java.util.function.Supplier;
+
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @DisplayName("Launcher")
@@ -71,7 +81,17 @@ class LauncherTest {
 
             launcher.deployWebServer(event);
 
-            verify(vertx).deployVerticle(any(VertxWebServer.class), Mockito.<DeploymentOptions>any());
+            verify(vertx).deployVerticle(Mockito.<Supplier<Verticle>>any(), argThat(opts -> opts.getInstances() == VertxOptions.DEFAULT_EVENT_LOOP_POOL_SIZE));
+        }
+
+        @DisplayName("Should deploy as many web server instances as defined by web.server.instances")
+        @Test void scenario1b(){
+            doReturn(true).when(appConf).getBoolean(eq("auto-config"), anyBoolean());
+            doReturn(2).when(appConf).getInteger(eq("web.server.instances"), anyInt());
+
+            launcher.deployWebServer(event);
+
+            verify(vertx).deployVerticle(Mockito.<Supplier<Verticle>>any(), argThat(opts -> opts.getInstances() == 2));
         }
 
         @DisplayName("Should not deploy web server WHEN auto-config flag is false")
@@ -80,7 +100,71 @@ class LauncherTest {
 
             launcher.deployWebServer(event);
 
-            verify(vertx, never()).deployVerticle(any(VertxWebServer.class), Mockito.<DeploymentOptions>any());
+            verify(vertx, never()).deployVerticle(Mockito.<Supplier<Verticle>>any(), Mockito.<DeploymentOptions>any());
+        }
+
+        @DisplayName("Should notify the application-wide web server listeners once, before the deployment")
+        @Test void scenario3(){
+            doReturn(true).when(appConf).getBoolean(eq("auto-config"), anyBoolean());
+            doReturn(2).when(appConf).getInteger(eq("web.server.instances"), anyInt());
+            val listener = mock(WebServerEventListener.class);
+            doReturn(singletonList(listener)).when(implLoader).instancesExposedAs(eq(WebServerEventListener.class));
+
+            launcher.deployWebServer(event);
+
+            val ordered = inOrder(listener, vertx);
+            ordered.verify(listener, times(1)).on(any(WebServerEventListener.BeforeDeployWebServersEvent.class));
+            ordered.verify(vertx).deployVerticle(Mockito.<Supplier<Verticle>>any(), Mockito.<DeploymentOptions>any());
+        }
+    }
+
+    @DisplayName("Scenario: Startup completed")
+    @Nested class StartupCompleted {
+
+        final JsonObject appConf = new JsonObject();
+        final ConfigurationLoadedEvent event = new ConfigurationLoadedEvent(kosConf, appConf);
+
+        @DisplayName("Should notify StartupCompletedEventListeners with the startup trace")
+        @Test void scenario1(){
+            val listener = mock(StartupCompletedEventListener.class);
+            doReturn(singletonList(listener)).when(implLoader).instancesExposedAs(eq(StartupCompletedEventListener.class));
+
+            launcher.notifyStartupCompleted(event);
+
+            verify(listener).on(argThat(e -> e.getKosContext() == kosConf && e.getTrace() != null));
+        }
+
+        @DisplayName("Should write the startup trace into the file defined by startup.trace-file")
+        @SneakyThrows
+        @Test void scenario2(){
+            val traceFile = Files.createTempFile("startup-trace", ".json");
+            appConf.put("startup.trace-file", traceFile.toString());
+
+            Lang.waitFor(launcher.notifyStartupCompleted(event));
+
+            val written = Lang.waitFor(vertx.fileSystem().readFile(traceFile.toString()));
+            assertTrue(written.toJsonObject().containsKey("totalMillis"));
+        }
+
+        @DisplayName("Should notify StartupCompletedEventListeners only once every deployment succeeds")
+        @Test void scenario3(){
+            val listener = mock(StartupCompletedEventListener.class);
+            doReturn(singletonList(listener)).when(implLoader).instancesExposedAs(eq(StartupCompletedEventListener.class));
+
+            launcher.completeStartup(event, Future.succeededFuture(), Future.succeededFuture());
+
+            verify(listener).on(any());
+        }
+
+        @DisplayName("Should not notify StartupCompletedEventListeners WHEN a deployment fails")
+        @Test void scenario4(){
+            val listener = mock(StartupCompletedEventListener.class);
+            doReturn(singletonList(listener)).when(implLoader).instancesExposedAs(eq(StartupCompletedEventListener.class));
+
+            val completed = launcher.completeStartup(event, Future.succeededFuture(), Future.failedFuture("failed"));
+
+            assertTrue(completed.failed());
+            verify(listener, never()).on(any());
         }
     }
 
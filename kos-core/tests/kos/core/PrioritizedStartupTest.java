@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.json.JsonObject;
+import kos.core.exception.KosException;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrioritizedStartup: runs startup tasks respecting their priorities")
+class PrioritizedStartupTest {
+
+    final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach void clearSystemProperty(){
+        System.clearProperty(PrioritizedStartup.PARALLELISM_PROPERTY);
+    }
+
+    @DisplayName("Should run tasks with higher priorities first")
+    @Test void scenario1(){
+        val tasks = asList(new Task("low", 0), new Task("high", 10), new Task("medium", 5));
+
+        new PrioritizedStartup("test", 1).run(tasks, Task::getPriority, t -> executed.add(t.name));
+
+        assertEquals(asList("high", "medium", "low"), executed);
+    }
+
+    @DisplayName("Should run tasks sharing the same priority concurrently")
+    @Test void scenario2(){
+        val bothStarted = new CountDownLatch(2);
+        val tasks = asList(new Task("first", 0), new Task("second", 0));
+
+        new PrioritizedStartup("test", 2).run(tasks, Task::getPriority, t -> {
+            bothStarted.countDown();
+            await(bothStarted);
+            executed.add(t.name);
+        });
+
+        assertEquals(2, executed.size());
+    }
+
+    @DisplayName("Should wait for the tasks of a priority before starting the next ones")
+    @Test void scenario3(){
+        val tasks = asList(new Task("a", 1), new Task("b", 1), new Task("c", 0), new Task("d", 0));
+
+        new PrioritizedStartup("test", 4).run(tasks, Task::getPriority, t -> {
+            if (t.priority == 1) sleep(50);
+            executed.add(t.name);
+        });
+
+        assertEquals(asList("a", "b"), sortedCopyOf(executed.subList(0, 2)));
+        assertEquals(asList("c", "d"), sortedCopyOf(executed.subList(2, 4)));
+    }
+
+    @DisplayName("Should report the time spent by each task, slowest first")
+    @Test void scenario4(){
+        val tasks = asList(new Task("fast", 0), new Task("slow", 0));
+
+        val report = new PrioritizedStartup("test", 1).run(tasks, Task::getPriority, t -> {
+            if (t.name.equals("slow")) sleep(50);
+        });
+
+        assertEquals("test", report.getPhase());
+        assertEquals(2, report.getTimings().size());
+        assertTrue(report.getTimings().get(0).getElapsedMillis() >= 50);
+        assertTrue(report.getElapsedMillis() >= 50);
+    }
+
+    @DisplayName("Should rethrow failures once all tasks of a priority are finished")
+    @Test void scenario5(){
+        val tasks = asList(new Task("failing", 0), new Task("succeeding", 0), new Task("never", -1));
+
+        val failure = assertThrows(KosException.class, () ->
+            new PrioritizedStartup("test", 2).run(tasks, Task::getPriority, t -> {
+                if (t.name.equals("failing")) throw new KosException("Failed");
+                sleep(20);
+                executed.add(t.name);
+            })
+        );
+
+        assertEquals("Failed", failure.getMessage());
+        assertEquals(asList("succeeding"), executed);
+    }
+
+    @DisplayName("Should read parallelism from the system property first, then from the configuration")
+    @Test void scenario6(){
+        val config = new JsonObject().put(PrioritizedStartup.PARALLELISM_CONFIG, 4);
+        assertEquals(1, PrioritizedStartup.parallelism(null));
+        assertEquals(4, PrioritizedStartup.parallelism(config));
+
+        System.setProperty(PrioritizedStartup.PARALLELISM_PROPERTY, "8");
+        assertEquals(8, PrioritizedStartup.parallelism(config));
+    }
+
+    static List<String> sortedCopyOf(List<String> values) {
+        val copy = new ArrayList<>(values);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @lombok.Value
+    static class Task {
+        String name;
+        int priority;
+    }
+}
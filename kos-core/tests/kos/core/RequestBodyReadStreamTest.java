@@ -0,0 +1,182 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.streams.ReadStream;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RequestBodyReadStream: reads the request body on demand")
+class RequestBodyReadStreamTest {
+
+    final FakeReadStream upstream = new FakeReadStream();
+    final RequestBodyReadStream<String> stream = RequestBodyReadStream.lines(upstream, Buffer::toString);
+
+    @DisplayName("SHOULD split new-line delimited entries even when they are spread over many chunks")
+    @Test void scenario1() {
+        val received = new ArrayList<String>();
+        val ended = new AtomicBoolean(false);
+        stream.endHandler(ignored -> ended.set(true));
+        stream.handler(received::add);
+
+        upstream.emit("first\nsec");
+        upstream.emit("ond\n\nthi");
+        upstream.emit("rd");
+        upstream.end();
+
+        assertEquals(asList("first", "second", "third"), received);
+        assertTrue(ended.get());
+    }
+
+    @DisplayName("SHOULD only emit entries when there is demand for them")
+    @Test void scenario2() {
+        val received = new ArrayList<String>();
+        stream.pause();
+        stream.handler(received::add);
+
+        upstream.emit("first\nsecond\nthird\n");
+        assertTrue(received.isEmpty());
+        assertTrue(upstream.paused);
+
+        stream.fetch(2);
+        assertEquals(asList("first", "second"), received);
+        assertTrue(upstream.paused);
+
+        stream.fetch(1);
+        assertEquals(asList("first", "second", "third"), received);
+
+        stream.resume();
+        assertFalse(upstream.paused);
+    }
+
+    @DisplayName("SHOULD notify the exception handler when an entry could not be decoded")
+    @Test void scenario3() {
+        val failingStream = RequestBodyReadStream.<String>lines(upstream, buffer -> { throw new IllegalArgumentException("invalid"); });
+        val failure = new ArrayList<Throwable>();
+        failingStream.exceptionHandler(failure::add);
+        failingStream.handler(entry -> fail("Should not receive entries"));
+
+        upstream.emit("first\n");
+
+        assertEquals(1, failure.size());
+        assertEquals("invalid", failure.get(0).getMessage());
+    }
+
+    @DisplayName("SHOULD forward received chunks untouched when not splitting lines")
+    @Test void scenario4() {
+        val chunks = RequestBodyReadStream.chunks(upstream);
+        val received = new ArrayList<String>();
+        chunks.handler(buffer -> received.add(buffer.toString()));
+
+        upstream.emit("first\nsec");
+        upstream.emit("ond");
+
+        assertEquals(asList("first\nsec", "ond"), received);
+    }
+
+    @DisplayName("SHOULD fail WHEN the amount of received bytes exceeds the maximum body size")
+    @Test void scenario5() {
+        val limitExceeded = new AtomicBoolean(false);
+        val failure = new ArrayList<Throwable>();
+        val received = new ArrayList<String>();
+        stream.limitedTo(10, () -> limitExceeded.set(true));
+        stream.exceptionHandler(failure::add);
+        stream.handler(received::add);
+
+        upstream.emit("first\n");
+        upstream.emit("second\n");
+
+        assertEquals(asList("first"), received);
+        assertTrue(limitExceeded.get());
+        assertTrue(failure.get(0) instanceof Request.PayloadTooLargeException);
+    }
+
+    @DisplayName("SHOULD read a long entry spread over many chunks")
+    @Test void scenario6() {
+        val received = new ArrayList<String>();
+        stream.handler(received::add);
+
+        val longEntry = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            upstream.emit("abc");
+            longEntry.append("abc");
+        }
+        upstream.emit("\nlast");
+        upstream.end();
+
+        assertEquals(asList(longEntry.toString(), "last"), received);
+    }
+
+    static class FakeReadStream implements ReadStream<Buffer> {
+
+        Handler<Buffer> handler;
+        Handler<Void> endHandler;
+        boolean paused = true;
+
+        void emit(String chunk) {
+            handler.handle(Buffer.buffer(chunk));
+        }
+
+        void end() {
+            endHandler.handle(null);
+        }
+
+        @Override
+        public ReadStream<Buffer> exceptionHandler(Handler<Throwable> handler) {
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> handler(Handler<Buffer> handler) {
+            this.handler = handler;
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> pause() {
+            paused = true;
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> resume() {
+            paused = false;
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> fetch(long amount) {
+            return this;
+        }
+
+        @Override
+        public ReadStream<Buffer> endHandler(Handler<Void> endHandler) {
+            this.endHandler = endHandler;
+            return this;
+        }
+    }
+}
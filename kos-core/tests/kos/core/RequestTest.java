@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package kos.core;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+import kos.api.KosContext;
+import kos.api.MutableKosContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Request: specialized parameter readers")
+class RequestTest {
+
+    final KosContext kosContext = new MutableKosContext();
+    @Mock RoutingContext context;
+    @Mock HttpServerRequest request;
+
+    @BeforeEach void setup(){
+        MockitoAnnotations.initMocks(this);
+        doReturn(request).when(context).request();
+    }
+
+    @DisplayName("SHOULD parse params straight into primitives")
+    @Test void scenario1(){
+        doReturn("12").when(request).getParam(eq("int"));
+        doReturn("1234567890123").when(request).getParam(eq("long"));
+        doReturn("1.5").when(request).getParam(eq("double"));
+        doReturn("true").when(request).getParam(eq("boolean"));
+        doReturn("text").when(request).getParam(eq("string"));
+
+        assertEquals(12, Request.readParamAsInt(kosContext, context, "int"));
+        assertEquals(1234567890123L, Request.readParamAsLong(kosContext, context, "long"));
+        assertEquals(1.5, Request.readParamAsDouble(kosContext, context, "double"));
+        assertTrue(Request.readParamAsBoolean(kosContext, context, "boolean"));
+        assertEquals("text", Request.readParamAsString(kosContext, context, "string"));
+    }
+
+    @DisplayName("SHOULD parse headers straight into primitives")
+    @Test void scenario2(){
+        doReturn("12").when(request).getHeader(eq("X-Int"));
+        doReturn("false").when(request).getHeader(eq("X-Boolean"));
+
+        assertEquals(12, Request.readHeaderAsInt(kosContext, context, "X-Int"));
+        assertFalse(Request.readHeaderAsBoolean(kosContext, context, "X-Boolean"));
+    }
+
+    @DisplayName("SHOULD fail with BadRequestException WHEN the value is missing or malformed")
+    @Test void scenario3(){
+        doReturn("abc").when(request).getParam(eq("int"));
+
+        assertThrows(Request.BadRequestException.class, () -> Request.readParamAsInt(kosContext, context, "int"));
+        assertThrows(Request.BadRequestException.class, () -> Request.readParamAsLong(kosContext, context, "missing"));
+        assertThrows(Request.BadRequestException.class, () -> Request.readParamAsDouble(kosContext, context, "missing"));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StartupTrace: measures the boot sequence phases")
+class StartupTraceTest {
+
+    final StartupTrace trace = new StartupTrace();
+
+    @DisplayName("Should measure phases in the order they were started")
+    @Test void scenario1(){
+        trace.measure("first", () -> sleep(20));
+        val result = trace.measure("second", () -> "done");
+
+        assertEquals("done", result);
+        assertEquals(asList("first", "second"), asList(trace.getPhases().keySet().toArray()));
+        assertTrue(trace.getPhases().get("first") >= 20);
+    }
+
+    @DisplayName("Should measure phases recorded more than once from their first start until their last end")
+    @Test void scenario2(){
+        val startedAt = System.nanoTime();
+        sleep(20);
+        trace.recordSince("repeated", System.nanoTime());
+        trace.recordSince("repeated", startedAt);
+
+        assertTrue(trace.getPhases().get("repeated") >= 20);
+        assertEquals(2, trace.getSpans().size());
+    }
+
+    @DisplayName("Should record each component of a prioritized startup report")
+    @Test void scenario3(){
+        val timing = new PrioritizedStartup.Timing("my.Plugin", 0, 1_000_000, "main");
+        trace.record(new PrioritizedStartup.Report("plugins", 2_000_000, Collections.singletonList(timing)));
+
+        val spans = trace.getSpans();
+        assertEquals(2, spans.size());
+        assertNull(spans.get(0).getComponent());
+        assertEquals("my.Plugin", spans.get(1).getComponent());
+        assertEquals(2, (long) trace.getPhases().get("plugins"));
+    }
+
+    @DisplayName("Should summarise phases as a single key=value line")
+    @Test void scenario4(){
+        trace.measure("plugins", () -> {});
+        val line = trace.finish().toLogLine();
+
+        assertTrue(line.startsWith("startup.total="), line);
+        assertTrue(line.contains(" startup.plugins="), line);
+    }
+
+    @DisplayName("Should serialise phases and spans as JSON")
+    @Test void scenario5(){
+        trace.record(new PrioritizedStartup.Report("plugins", 0, Collections.singletonList(
+            new PrioritizedStartup.Timing("my.Plugin", 0, 0, "main"))));
+
+        val json = trace.finish().toJson();
+
+        assertNotNull(json.getLong("totalMillis"));
+        assertEquals(0L, (long) json.getJsonObject("phases").getLong("plugins"));
+        assertEquals(2, json.getJsonArray("spans").size());
+        assertEquals("my.Plugin", json.getJsonArray("spans").getJsonObject(1).getString("component"));
+        assertFalse(json.getJsonArray("spans").getJsonObject(1).containsKey("startedAtMillis"));
+    }
+
+    static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import kos.core.exception.KosException;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WorkerPools: named, bounded pools for blocking code")
+class WorkerPoolsTest {
+
+    final Vertx vertx = Vertx.vertx();
+    final JsonObject applicationConfig = new JsonObject().put(WorkerPools.CONFIG_ENTRY, new JsonObject()
+        .put("single", new JsonObject().put("size", 1))
+        .put("other", new JsonObject()));
+    final WorkerPools workerPools = new WorkerPools(() -> vertx, () -> applicationConfig);
+
+    @AfterEach void closeVertx(){
+        Lang.waitFor(vertx.close());
+    }
+
+    @DisplayName("Should reuse pools with the same name")
+    @Test void scenario1(){
+        assertSame(workerPools.get("single"), workerPools.get("single"));
+        assertNotSame(workerPools.get("single"), workerPools.get(WorkerPools.DEFAULT_POOL));
+    }
+
+    @DisplayName("Should compute values on the pool")
+    @Test void scenario2(){
+        val result = Lang.waitFor(workerPools.get("single").compute(() -> Thread.currentThread().getName()), 5, TimeUnit.SECONDS);
+        assertTrue(result.startsWith("kos-single"), result);
+    }
+
+    @DisplayName("Should expose how many tasks are waiting for a thread")
+    @Test void scenario3() throws InterruptedException {
+        val pool = workerPools.get("single");
+        val release = new CountDownLatch(1);
+        val started = new CountDownLatch(1);
+
+        val first = pool.compute(() -> { started.countDown(); return release.await(5, TimeUnit.SECONDS); });
+        val second = pool.compute(() -> true);
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        val stats = pool.getStats();
+        assertEquals("single", stats.getName());
+        assertEquals(1, stats.getActive());
+        assertEquals(1, stats.getQueued());
+
+        release.countDown();
+        Lang.waitFor(second, 5, TimeUnit.SECONDS);
+        assertTrue(Lang.waitFor(first, 5, TimeUnit.SECONDS));
+        assertEquals(0, pool.getStats().getQueued());
+        assertEquals(1, workerPools.getStats().size());
+    }
+
+    @DisplayName("Should not block unrelated pools when a pool is saturated")
+    @Test void scenario4() {
+        val release = new CountDownLatch(1);
+        val blocked = workerPools.get("single").compute(() -> release.await(5, TimeUnit.SECONDS));
+
+        val unrelated = workerPools.get("other").compute(() -> "done");
+        assertEquals("done", Lang.waitFor(unrelated, 5, TimeUnit.SECONDS));
+
+        release.countDown();
+        assertTrue(Lang.waitFor(blocked, 5, TimeUnit.SECONDS));
+    }
+
+    @DisplayName("Should fail WHEN the pool is not defined in the configuration")
+    @Test void scenario5() {
+        val failure = assertThrows(KosException.class, () -> workerPools.get("unknown"));
+        assertTrue(failure.getMessage().contains("unknown"));
+        assertNotNull(workerPools.get(WorkerPools.DEFAULT_POOL));
+    }
+
+    @DisplayName("Should not keep pools requested before the configuration is loaded")
+    @Test void scenario6() {
+        val config = new AtomicReference<JsonObject>();
+        val lazilyConfigured = new WorkerPools(() -> vertx, config::get);
+
+        assertThrows(KosException.class, () -> lazilyConfigured.get("single"));
+        val beforeConfiguration = lazilyConfigured.get(WorkerPools.DEFAULT_POOL);
+        assertTrue(lazilyConfigured.getStats().isEmpty());
+
+        config.set(applicationConfig);
+        assertNotSame(beforeConfiguration, lazilyConfigured.get(WorkerPools.DEFAULT_POOL));
+        assertSame(lazilyConfigured.get("single"), lazilyConfigured.get("single"));
+    }
+}
@@ -98,6 +98,21 @@ class AutoGeneratedRestClientTest {
         assertNull(response.data);
     }
 
+    @DisplayName("SHOULD ask for the serializer's content type WHEN no Accept header is defined")
+    @Test void simpleGetWithDefaultAcceptHeader()
+    {
+        val conf = newConf("https://postman-echo.com/get").build()
+                .useDefaultsForNullProperties(kosContext);
+        val client = new TestableClient(conf);
+
+        val response = Lang.waitFor( client.execute(GET, "", MultiMap.caseInsensitiveMultiMap(), EchoResponse.class) );
+        assertEquals("application/json", response.headers.get("accept"));
+
+        val headers = MultiMap.caseInsensitiveMultiMap().add("Accept", "text/plain, application/json");
+        val customized = Lang.waitFor( client.execute(GET, "", headers, EchoResponse.class) );
+        assertEquals("text/plain, application/json", customized.headers.get("accept"));
+    }
+
     @DisplayName("SHOULD perform POST request and deserialize JSON response as Class")
     @Test void simplePost()
     {
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpResponse;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RestClientCache: caches the responses of GET requests")
+class RestClientCacheTest {
+
+    final AtomicLong clock = new AtomicLong();
+    final AtomicInteger requests = new AtomicInteger();
+    final AtomicReference<MultiMap> sentHeaders = new AtomicReference<>();
+    final RestClientSerializer serializer = mock(RestClientSerializer.class);
+    final RestClientCache cache = new RestClientCache(2, 0, TimeUnit.MINUTES.toMillis(10), RestClientCache.DEFAULT_KEY_HEADERS, clock::get);
+
+    @DisplayName("Should serve fresh responses without sending a request")
+    @Test void scenario1(){
+        val server = respondWith(200, "max-age=60", null, "users");
+
+        assertEquals("users", execute("/users", server).result());
+        assertEquals("users", execute("/users", server).result());
+        assertEquals(1, requests.get());
+
+        clock.set(TimeUnit.SECONDS.toNanos(61));
+        assertEquals("users", execute("/users", server).result());
+        assertEquals(2, requests.get());
+
+        val stats = cache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(1.0 / 3, stats.getHitRatio());
+    }
+
+    @DisplayName("Should revalidate stale responses with If-None-Match")
+    @Test void scenario2(){
+        execute("/users", respondWith(200, "no-cache", "\"v1\"", "users"));
+
+        val headers = MultiMap.caseInsensitiveMultiMap();
+        val response = execute("/users", headers, respondWith(304, null, "\"v1\"", null));
+
+        assertEquals("users", response.result());
+        assertEquals("\"v1\"", sentHeaders.get().get("If-None-Match"));
+        assertFalse(headers.contains("If-None-Match"));
+        assertEquals(1, cache.getStats().getRevalidations());
+    }
+
+    @DisplayName("Should not store responses marked as no-store")
+    @Test void scenario3(){
+        val server = respondWith(200, "no-store, max-age=60", "\"v1\"", "users");
+
+        execute("/users", server);
+        execute("/users", server);
+        assertEquals(2, requests.get());
+        assertEquals(0, cache.getStats().getSize());
+    }
+
+    @DisplayName("Should evict the least recently used responses")
+    @Test void scenario4(){
+        val server = respondWith(200, "max-age=60", null, "users");
+
+        execute("/a", server);
+        execute("/b", server);
+        execute("/a", server);
+        execute("/c", server);
+        assertEquals(1, cache.getStats().getEvictions());
+
+        execute("/a", server);
+        assertEquals(3, requests.get());
+        execute("/b", server);
+        assertEquals(4, requests.get());
+    }
+
+    @DisplayName("Should cap the freshness of a response by the max TTL")
+    @Test void scenario5(){
+        assertEquals(TimeUnit.SECONDS.toNanos(30), cache.ttlOf("public, max-age=30"));
+        assertEquals(TimeUnit.MINUTES.toNanos(10), cache.ttlOf("max-age=86400"));
+        assertEquals(0, cache.ttlOf(null));
+        assertEquals(-1, cache.ttlOf("no-store"));
+    }
+
+    @DisplayName("Should use the key headers as part of the cache key")
+    @Test void scenario6(){
+        val first = cache.keyFor("host", 80, "/users", String.class, MultiMap.caseInsensitiveMultiMap().add("Authorization", "a"));
+        val second = cache.keyFor("host", 80, "/users", String.class, MultiMap.caseInsensitiveMultiMap().add("Authorization", "b"));
+        val revalidation = cache.keyFor("host", 80, "/users", String.class, MultiMap.caseInsensitiveMultiMap()
+            .add("Authorization", "a").add("If-None-Match", "\"v1\""));
+        val traced = cache.keyFor("host", 80, "/users", String.class, MultiMap.caseInsensitiveMultiMap()
+            .add("Authorization", "a").add("X-Request-Id", "123"));
+
+        assertNotEquals(first, second);
+        assertEquals(first, revalidation);
+        assertEquals(first, traced);
+    }
+
+    @DisplayName("Should use only the configured key headers as part of the cache key")
+    @Test void scenario7(){
+        val tenantAware = new RestClientCache(2, 0, 1000, Collections.singletonList("X-Tenant"));
+        val first = tenantAware.keyFor("host", 80, "/users", String.class, MultiMap.caseInsensitiveMultiMap().add("x-tenant", "a"));
+        val second = tenantAware.keyFor("host", 80, "/users", String.class, MultiMap.caseInsensitiveMultiMap().add("X-Tenant", "b"));
+        val withAuthorization = tenantAware.keyFor("host", 80, "/users", String.class, MultiMap.caseInsensitiveMultiMap()
+            .add("X-Tenant", "a").add("Authorization", "a"));
+
+        assertNotEquals(first, second);
+        assertEquals(first, withAuthorization);
+    }
+
+    @DisplayName("Should keep the known ETag WHEN a 304 response doesn't send it")
+    @Test void scenario8(){
+        execute("/users", respondWith(200, "no-cache", "\"v1\"", "users"));
+        execute("/users", respondWith(304, "no-cache", null, null));
+
+        val response = execute("/users", respondWith(304, "no-cache", null, null));
+        assertEquals("users", response.result());
+        assertEquals("\"v1\"", sentHeaders.get().get("If-None-Match"));
+        assertEquals(2, cache.getStats().getRevalidations());
+        assertEquals(1, cache.getStats().getSize());
+    }
+
+    @DisplayName("Should use every header as part of the key WHEN every header is accepted")
+    @Test void scenario9(){
+        final MultiMap tenantA = MultiMap.caseInsensitiveMultiMap().add("X-Tenant-Id", "a");
+        final MultiMap tenantB = MultiMap.caseInsensitiveMultiMap().add("X-Tenant-Id", "b");
+
+        assertEquals(cache.keyFor("host", 80, "/users", String.class, tenantA), cache.keyFor("host", 80, "/users", String.class, tenantB));
+        assertNotEquals(
+            RestClientCache.keyFor("host", 80, "/users", String.class, tenantA, header -> true),
+            RestClientCache.keyFor("host", 80, "/users", String.class, tenantB, header -> true));
+    }
+
+    @DisplayName("Should use the expected response type as part of the cache key")
+    @Test void scenario10(){
+        val headers = MultiMap.caseInsensitiveMultiMap();
+        val asString = cache.keyFor("host", 80, "/users", String.class, headers);
+        val asJson = cache.keyFor("host", 80, "/users", JsonObject.class, headers);
+        val asList = cache.keyFor("host", 80, "/users", new TypeReference<List<String>>() {}.getType(), headers);
+
+        assertNotEquals(asString, asJson);
+        assertNotEquals(asString, asList);
+        assertEquals(asString, cache.keyFor("host", 80, "/users", new TypeReference<String>() {}.getType(), headers));
+    }
+
+    Future<String> execute(String uri, BiFunction<MultiMap, Supplier<ResponseHandler<String>>, Future<String>> server) {
+        return execute(uri, MultiMap.caseInsensitiveMultiMap(), server);
+    }
+
+    Future<String> execute(String uri, MultiMap headers, BiFunction<MultiMap, Supplier<ResponseHandler<String>>, Future<String>> server) {
+        val key = cache.keyFor("localhost", 80, uri, String.class, headers);
+        return cache.execute(key, headers, () -> ResponseHandler.create(serializer, String.class), server);
+    }
+
+    @SuppressWarnings("unchecked")
+    BiFunction<MultiMap, Supplier<ResponseHandler<String>>, Future<String>> respondWith(
+        int statusCode, String cacheControl, String etag, String body
+    ) {
+        final HttpResponse<Buffer> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        when(response.getHeader("cache-control")).thenReturn(cacheControl);
+        when(response.getHeader("etag")).thenReturn(etag);
+        when(serializer.deserialize(eq(response), any(Class.class))).thenReturn(body);
+
+        return (headers, handlers) -> {
+            requests.incrementAndGet();
+            sentHeaders.set(headers);
+            final ResponseHandler<String> handler = handlers.get();
+            handler.handle(Future.succeededFuture(response));
+            return handler.future();
+        };
+    }
+}
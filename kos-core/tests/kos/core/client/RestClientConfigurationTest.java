@@ -1,9 +1,12 @@
 package kos.core.client;
 
 import io.vertx.ext.web.client.WebClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.WebClientOptions;
 import kos.api.KosContext;
 import kos.api.MutableKosContext;
 import kos.api.StringConverter;
+import kos.core.exception.KosException;
 import lombok.val;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -104,5 +107,54 @@ class RestClientConfigurationTest {
             assertNotEquals(withDefaults.getRestClientSerializer(), kosContext.getDefaultRestClientSerializer());
             assertNotEquals(withDefaults.getStringConverter(), kosContext.getStringConverter());
         }
+
+        @Test void scenario5(){
+            val options = new WebClientOptions().setMaxPoolSize(50).setKeepAlive(true);
+            val conf = RestClientConfiguration.withUrl(baseUrl).clientOptions(options).build();
+            val other = RestClientConfiguration.withUrl(baseUrl + "/other").clientOptions(options).build();
+
+            val withDefaults = conf.useDefaultsForNullProperties(kosContext);
+            assertNotEquals(withDefaults.getClient(), kosContext.getDefaultVertxWebClient());
+            assertSame(withDefaults.getClient(), other.useDefaultsForNullProperties(kosContext).getClient());
+        }
+
+        @Test void scenario6(){
+            val conf = RestClientConfiguration.withUrl(baseUrl).build();
+
+            val withDefaults = conf.useDefaultsForNullProperties(kosContext);
+            assertNotNull(withDefaults.getPool());
+            assertEquals("example.me:443", withDefaults.getPool().getStats().getHost());
+            assertEquals(new WebClientOptions().getMaxPoolSize(), withDefaults.getPool().getStats().getCapacity());
+        }
+
+        @Test void scenario7(){
+            val config = new JsonObject()
+                .put("timeout", 2000).put("max-retries", 2)
+                .put("circuit-breaker", new JsonObject().put("failure-threshold", 5))
+                .put("methods", new JsonObject()
+                    .put("createUser", new JsonObject().put("max-retries", 0)));
+            val conf = RestClientConfiguration.withUrl(baseUrl).policies(config).build();
+
+            val withDefaults = conf.useDefaultsForNullProperties(kosContext);
+            assertEquals(2, withDefaults.policyFor("retrieveUsers").getMaxRetries());
+            assertEquals(2000, withDefaults.policyFor("retrieveUsers").getTimeout());
+
+            val createUser = withDefaults.policyFor("createUser");
+            assertEquals(0, createUser.getMaxRetries());
+            assertEquals(2000, createUser.getTimeout());
+            assertEquals(5, createUser.getCircuitBreakerFailureThreshold());
+        }
+
+        @Test void scenario8(){
+            val withoutTimeout = new JsonObject()
+                .put("methods", new JsonObject()
+                    .put("retrieveUsers", new JsonObject().put("single-flight", true)));
+            assertThrows(KosException.class, () -> RestClientConfiguration.withUrl(baseUrl).policies(withoutTimeout));
+
+            val conf = RestClientConfiguration.withUrl(baseUrl)
+                .policy(RestClientPolicy.builder().singleFlight(true).build())
+                .build().useDefaultsForNullProperties(kosContext);
+            assertThrows(KosException.class, () -> new TestableClient(conf));
+        }
     }
-}
\ No newline at end of file
+}
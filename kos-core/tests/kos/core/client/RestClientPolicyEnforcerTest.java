@@ -0,0 +1,198 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.client;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClosedException;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.EncodeException;
+import io.vertx.ext.web.client.HttpResponse;
+import kos.core.Lang;
+import kos.core.exception.KosException;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static kos.core.client.RestClientPolicyEnforcer.CircuitState.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RestClientPolicyEnforcer: applies resilience policies to Rest Client requests")
+class RestClientPolicyEnforcerTest {
+
+    @DisplayName("Should retry transient failures of idempotent requests until it succeeds")
+    @Test void scenario1(){
+        val policy = RestClientPolicy.builder().maxRetries(3).retryBackoff(1).build();
+        val enforcer = new RestClientPolicyEnforcer("client", policy);
+        val attempts = new AtomicInteger();
+
+        final Future<String> response = enforcer.execute(true, () -> attempts.incrementAndGet() < 3
+            ? Future.failedFuture(new ConnectException("refused"))
+            : Future.succeededFuture("done"));
+
+        assertEquals("done", Lang.waitFor(response));
+        assertEquals(3, attempts.get());
+    }
+
+    @DisplayName("Should not retry failures that are not transient, nor requests that aren't retryable")
+    @Test void scenario2(){
+        val policy = RestClientPolicy.builder().maxRetries(3).retryBackoff(1).build();
+        val enforcer = new RestClientPolicyEnforcer("client", policy);
+        val attempts = new AtomicInteger();
+
+        final Future<String> notFound = enforcer.execute(true, () -> {
+            attempts.incrementAndGet();
+            return Future.failedFuture(unexpectedResponse(404));
+        });
+        assertThrows(KosException.class, () -> Lang.waitFor(notFound));
+        assertEquals(1, attempts.get());
+
+        final Future<String> notRetryable = enforcer.execute(false, () -> {
+            attempts.incrementAndGet();
+            return Future.failedFuture(unexpectedResponse(503));
+        });
+        assertThrows(KosException.class, () -> Lang.waitFor(notRetryable));
+        assertEquals(2, attempts.get());
+
+        assertFalse(enforcer.isRetryable(HttpMethod.POST));
+        assertTrue(enforcer.isRetryable(HttpMethod.GET));
+    }
+
+    @DisplayName("Should open the circuit after consecutive failures and close it after a successful trial")
+    @Test void scenario3(){
+        val clock = new AtomicLong();
+        val policy = RestClientPolicy.builder()
+            .circuitBreakerFailureThreshold(2).circuitBreakerResetTimeout(1000).build();
+        val enforcer = new RestClientPolicyEnforcer("client", policy, clock::get);
+
+        enforcer.execute(false, () -> Future.failedFuture(unexpectedResponse(500)));
+        assertEquals(CLOSED, enforcer.getCircuitState());
+        enforcer.execute(false, () -> Future.failedFuture(unexpectedResponse(500)));
+        assertEquals(OPEN, enforcer.getCircuitState());
+
+        final Future<String> rejected = enforcer.execute(false, () -> Future.succeededFuture("ignored"));
+        assertTrue(rejected.cause() instanceof RejectedRestClientRequest);
+
+        clock.set(1_000_000_000L);
+        val trial = Promise.<String>promise();
+        enforcer.execute(false, trial::future);
+        assertEquals(HALF_OPEN, enforcer.getCircuitState());
+        assertTrue(enforcer.execute(false, () -> Future.succeededFuture("ignored")).failed());
+
+        trial.complete("done");
+        assertEquals(CLOSED, enforcer.getCircuitState());
+    }
+
+    @DisplayName("Should reject requests once the max concurrency is reached")
+    @Test void scenario4(){
+        val policy = RestClientPolicy.builder().maxConcurrency(1).build();
+        val enforcer = new RestClientPolicyEnforcer("client", policy);
+
+        val first = Promise.<String>promise();
+        enforcer.execute(true, first::future);
+        assertEquals(1, enforcer.getInFlight());
+
+        final Future<String> rejected = enforcer.execute(true, () -> Future.succeededFuture("ignored"));
+        assertTrue(rejected.cause() instanceof RejectedRestClientRequest);
+
+        first.complete("done");
+        assertEquals(0, enforcer.getInFlight());
+        assertEquals("done", enforcer.execute(true, () -> Future.succeededFuture("done")).result());
+    }
+
+    @DisplayName("Should grow the backoff exponentially up to the configured maximum")
+    @Test void scenario5(){
+        val policy = RestClientPolicy.builder()
+            .maxRetries(10).retryBackoff(100).maxRetryBackoff(1000).retryJitter(0).build();
+        val enforcer = new RestClientPolicyEnforcer("client", policy);
+
+        assertEquals(100, enforcer.backoffFor(0));
+        assertEquals(400, enforcer.backoffFor(2));
+        assertEquals(1000, enforcer.backoffFor(5));
+    }
+
+    @DisplayName("Should share the response of an in-flight request with identical requests")
+    @Test void scenario6(){
+        val enforcer = new RestClientPolicyEnforcer("client", RestClientPolicy.builder().singleFlight(true).timeout(1000).build());
+        val upstream = Promise.<String>promise();
+        val requests = new AtomicInteger();
+
+        final Future<String> first = enforcer.coalesce("/users", () -> { requests.incrementAndGet(); return upstream.future(); });
+        final Future<String> second = enforcer.coalesce("/users", () -> { requests.incrementAndGet(); return Future.succeededFuture("other"); });
+        final Future<String> another = enforcer.coalesce("/groups", () -> { requests.incrementAndGet(); return Future.succeededFuture("groups"); });
+
+        upstream.complete("users");
+        assertEquals("users", first.result());
+        assertEquals("users", second.result());
+        assertEquals("groups", another.result());
+        assertEquals(2, requests.get());
+        assertEquals(1, enforcer.getCoalesced());
+    }
+
+    @DisplayName("Should send a new request once the in-flight one is completed")
+    @Test void scenario7(){
+        val enforcer = new RestClientPolicyEnforcer("client", RestClientPolicy.builder().singleFlight(true).timeout(1000).build());
+        val requests = new AtomicInteger();
+
+        final Future<String> failed = enforcer.coalesce("/users", () -> {
+            requests.incrementAndGet();
+            return Future.<String>failedFuture(new ConnectException("refused"));
+        });
+        final Future<String> succeeded = enforcer.coalesce("/users", () -> {
+            requests.incrementAndGet();
+            return Future.succeededFuture("users");
+        });
+
+        assertTrue(failed.failed());
+        assertEquals("users", succeeded.result());
+        assertEquals(2, requests.get());
+    }
+
+    @DisplayName("Should neither retry nor count failures to decode the response")
+    @Test void scenario8(){
+        val policy = RestClientPolicy.builder().maxRetries(3).retryBackoff(1).circuitBreakerFailureThreshold(1).build();
+        val enforcer = new RestClientPolicyEnforcer("client", policy);
+        val attempts = new AtomicInteger();
+
+        final Future<String> response = enforcer.execute(true, () -> {
+            attempts.incrementAndGet();
+            return Future.failedFuture(new DecodeException("Failed to decode: unexpected token"));
+        });
+
+        assertThrows(KosException.class, () -> Lang.waitFor(response));
+        assertEquals(1, attempts.get());
+        assertEquals(CLOSED, enforcer.getCircuitState());
+        assertFalse(RestClientPolicyEnforcer.isTransientFailure(new EncodeException("Failed to encode")));
+        assertTrue(RestClientPolicyEnforcer.isTransientFailure(new HttpClosedException("Connection was closed")));
+    }
+
+    static UnexpectedRestClientResponse unexpectedResponse(int statusCode) {
+        @SuppressWarnings("unchecked")
+        final HttpResponse<Buffer> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        return new UnexpectedRestClientResponse("status " + statusCode, response);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.client;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.WebClientOptions;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("WebClientRegistry: shares clients and tracks the usage of each host")
+class WebClientRegistryTest {
+
+    final Vertx vertx = Vertx.vertx();
+    final WebClientRegistry registry = new WebClientRegistry(() -> vertx);
+
+    @AfterEach void closeVertx(){
+        vertx.close();
+    }
+
+    @DisplayName("Should reuse clients targeting the same host with the same options")
+    @Test void scenario1(){
+        val options = new WebClientOptions().setMaxPoolSize(10);
+
+        assertSame(registry.clientFor("localhost", 80, options), registry.clientFor("localhost", 80, new WebClientOptions(options)));
+        assertNotSame(registry.clientFor("localhost", 80, options), registry.clientFor("remote", 80, options));
+        assertNotSame(registry.clientFor("localhost", 80, options), registry.clientFor("localhost", 80, new WebClientOptions()));
+    }
+
+    @DisplayName("Should compute the capacity from the pool size and the pipelining/multiplexing limits")
+    @Test void scenario2(){
+        assertEquals(5, WebClientRegistry.capacityOf(new WebClientOptions().setMaxPoolSize(5)));
+        assertEquals(50, WebClientRegistry.capacityOf(new WebClientOptions().setMaxPoolSize(5).setPipelining(true).setPipeliningLimit(10)));
+        assertEquals(200, WebClientRegistry.capacityOf(new WebClientOptions()
+            .setProtocolVersion(HttpVersion.HTTP_2).setHttp2MaxPoolSize(2).setHttp2MultiplexingLimit(100)));
+        assertEquals(Integer.MAX_VALUE, WebClientRegistry.capacityOf(new WebClientOptions()
+            .setProtocolVersion(HttpVersion.HTTP_2).setHttp2MultiplexingLimit(-1)));
+    }
+
+    @DisplayName("Should expose in-flight and waiting requests per host")
+    @Test void scenario3(){
+        val pool = registry.poolFor("localhost", 80, new WebClientOptions().setMaxPoolSize(1));
+        pool.requestStarted();
+        pool.requestStarted();
+
+        val stats = pool.getStats();
+        assertEquals(2, stats.getInFlight());
+        assertEquals(1, stats.getWaiting());
+        assertEquals(1.0, stats.getUtilization());
+
+        pool.requestFinished();
+        pool.requestFinished();
+        assertEquals(0, registry.getStats().get(0).getInFlight());
+        assertEquals(2, registry.getStats().get(0).getTotalRequests());
+    }
+
+    @DisplayName("Should track the usage of each client targeting the same host separately")
+    @Test void scenario4(){
+        val options = new WebClientOptions().setMaxPoolSize(10);
+        val pool = registry.poolFor("localhost", 80, options);
+
+        assertSame(pool, registry.poolFor("localhost", 80, new WebClientOptions(options)));
+        val otherPool = registry.poolFor("localhost", 80, new WebClientOptions().setMaxPoolSize(1));
+        assertNotSame(pool, otherPool);
+        assertEquals(10, pool.getStats().getCapacity());
+        assertEquals(1, otherPool.getStats().getCapacity());
+        assertEquals("localhost:80", otherPool.getStats().getHost());
+    }
+}
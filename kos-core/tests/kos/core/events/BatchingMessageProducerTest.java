@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.Message;
+import kos.core.Lang;
+import kos.core.exception.KosException;
+import lombok.val;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BatchingMessageProducer: ships always consistent messages in batches")
+class BatchingMessageProducerTest {
+
+    static final String ADDRESS = "local::batched";
+
+    final AtomicInteger envelopes = new AtomicInteger();
+    final List<String> received = new CopyOnWriteArrayList<>();
+
+    Vertx vertx;
+
+    @BeforeEach
+    void setupVertx(){
+        vertx = Vertx.vertx();
+        vertx.eventBus().registerDefaultCodec(EventBatch.class, new JsonServiceBusCodec<>(EventBatch.class));
+
+        final BatchAwareMessageHandler<String> listener = new BatchAwareMessageHandler<>(String.class, EventHandler.async((Message<String> message) -> {
+            received.add(message.body());
+            if (message.body().startsWith("invalid"))
+                return Future.failedFuture(new IllegalArgumentException(message.body()));
+            return Future.succeededFuture();
+        }));
+
+        vertx.eventBus().<String>consumer(ADDRESS, message -> {
+            if ((Object) message.body() instanceof EventBatch)
+                envelopes.incrementAndGet();
+            listener.handle(message);
+        });
+    }
+
+    @AfterEach
+    void shutdownVertx(){
+        Lang.waitFor(vertx.close());
+    }
+
+    @DisplayName("Should send a batch once it is full and acknowledge each message individually")
+    @Test void scenario1(){
+        val producer = new BatchingMessageProducer<String>(ADDRESS, vertx, 3, 60_000);
+
+        val first = producer.write("first");
+        val invalid = producer.write("invalid message");
+        val third = producer.write("third");
+
+        Lang.waitFor(first);
+        Lang.waitFor(third);
+        assertThrows(KosException.class, () -> Lang.waitFor(invalid));
+
+        assertEquals(List.of("first", "invalid message", "third"), received);
+        assertEquals(1, envelopes.get());
+    }
+
+    @DisplayName("Should send an incomplete batch once the batch window is over")
+    @Test void scenario2(){
+        val producer = new BatchingMessageProducer<String>(ADDRESS, vertx, 100, 20);
+
+        val first = producer.write("first");
+        val second = producer.write("second");
+
+        Lang.waitFor(first);
+        Lang.waitFor(second);
+        assertEquals(List.of("first", "second"), received);
+        assertEquals(1, envelopes.get());
+    }
+
+    @DisplayName("Should complete the close future only once the flushed batch is acknowledged")
+    @Test void scenario4(){
+        val producer = new BatchingMessageProducer<String>(ADDRESS, vertx, 100, 60_000);
+
+        val first = producer.write("first");
+        val invalid = producer.write("invalid message");
+        Lang.waitFor(producer.close());
+
+        assertTrue(first.succeeded());
+        assertTrue(invalid.failed());
+        assertEquals(1, envelopes.get());
+    }
+
+    @DisplayName("Should keep delivering single messages to batch aware listeners")
+    @Test void scenario3(){
+        val producer = new AlwaysConsistentMessageProducer<String>(ADDRESS, vertx.eventBus());
+
+        Lang.waitFor(producer.write("single"));
+        assertEquals(List.of("single"), received);
+        assertEquals(0, envelopes.get());
+    }
+}
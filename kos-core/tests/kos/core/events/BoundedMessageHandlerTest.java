@@ -0,0 +1,132 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BoundedMessageHandler: limits how many messages are handled concurrently")
+@SuppressWarnings("unchecked")
+class BoundedMessageHandlerTest {
+
+    final MessageConsumer<String> consumer = mock(MessageConsumer.class);
+    final List<Promise<Void>> handling = new ArrayList<>();
+    final EventHandler<String> listener = EventHandler.async(message -> {
+        final Promise<Void> promise = Promise.promise();
+        handling.add(promise);
+        return promise.future();
+    });
+
+    @DisplayName("Should buffer messages once max in-flight is reached and reject them once the buffer is full")
+    @Test void scenario1(){
+        val handler = newHandler(ListenerOptions.Overflow.REJECT);
+        val first = newMessage();
+        val second = newMessage();
+        val third = newMessage();
+
+        handler.handle(first);
+        handler.handle(second);
+        handler.handle(third);
+
+        assertEquals(1, handling.size());
+        verify(third).fail(eq(BoundedMessageHandler.OVERLOADED_FAILURE_CODE), anyString());
+        assertEquals(new ListenerStats("address", 1, 1, 0, 1, false), handler.getStats());
+
+        handling.get(0).complete();
+        verify(first).reply(any());
+        assertEquals(2, handling.size());
+
+        handling.get(1).complete();
+        verify(second).reply(any());
+        assertEquals(new ListenerStats("address", 0, 0, 0, 1, false), handler.getStats());
+    }
+
+    @DisplayName("Should drop messages once the buffer is full, failing the ones that expect a reply")
+    @Test void scenario2(){
+        val handler = newHandler(ListenerOptions.Overflow.DROP);
+        val published = newMessage();
+        val request = newMessage();
+        when(request.replyAddress()).thenReturn("reply-address");
+
+        handler.handle(newMessage());
+        handler.handle(newMessage());
+        handler.handle(published);
+        handler.handle(request);
+
+        verify(published, never()).fail(anyInt(), anyString());
+        verify(published, never()).reply(any());
+        verify(request).fail(eq(BoundedMessageHandler.OVERLOADED_FAILURE_CODE), anyString());
+        assertEquals(2, handler.getStats().getDropped());
+    }
+
+    @DisplayName("Should pause the consumer once the buffer is full and resume it once it has room again")
+    @Test void scenario3(){
+        val handler = newHandler(ListenerOptions.Overflow.PAUSE);
+        verify(consumer).setMaxBufferedMessages(1);
+
+        handler.handle(newMessage());
+        handler.handle(newMessage());
+        verify(consumer).pause();
+        assertTrue(handler.getStats().isPaused());
+
+        handling.get(0).complete();
+        verify(consumer).resume();
+        assertFalse(handler.getStats().isPaused());
+    }
+
+    @DisplayName("Should handle buffered messages synchronously completed without growing the stack")
+    @Test void scenario4(){
+        val handled = new ArrayList<Message<String>>();
+        val pending = Promise.<Void>promise();
+        val handler = new BoundedMessageHandler<String>("address",
+            new ListenerOptions(1, 10_000, ListenerOptions.Overflow.REJECT),
+            EventHandler.async(message -> {
+                handled.add(message);
+                return handled.size() == 1 ? pending.future() : Future.succeededFuture();
+            }), consumer);
+
+        for (int i = 0; i < 10_000; i++)
+            handler.handle(newMessage());
+
+        pending.complete();
+        assertEquals(10_000, handled.size());
+        assertEquals(0, handler.getStats().getInFlight());
+    }
+
+    BoundedMessageHandler<String> newHandler(ListenerOptions.Overflow overflow) {
+        return new BoundedMessageHandler<>("address", new ListenerOptions(1, 1, overflow), listener, consumer);
+    }
+
+    static Message<String> newMessage() {
+        return mock(Message.class);
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019 Skullabs Contributors (https://github.com/skullabs)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package kos.core.events;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.MessageCodec;
+import kos.core.events.JacksonServiceBusCodec.LocalDelivery;
+import kos.core.exception.KosException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JacksonServiceBusCodec: length-prefixed wire codecs and local delivery")
+class JacksonServiceBusCodecTest {
+
+    final List<DefaultEventBusMessageCodecFactory> factories = asList(
+        new DefaultEventBusMessageCodecFactory(),
+        DefaultEventBusMessageCodecFactory.smile(),
+        DefaultEventBusMessageCodecFactory.cbor()
+    );
+
+    @DisplayName("Should decode messages written in the middle of a larger buffer")
+    @Test void scenario1(){
+        for (val factory : factories) {
+            val codec = factory.constructCodecFor(Person.class);
+            val buffer = Buffer.buffer().appendString("header");
+
+            val first = new Person("Luke", 19);
+            val second = new Person("Leia", 19);
+            val secondPosition = encode(codec, buffer, first);
+            encode(codec, buffer, second);
+            buffer.appendString("trailer");
+
+            assertEquals(first, codec.decodeFromWire(6, buffer), codec.name());
+            assertEquals(second, codec.decodeFromWire(secondPosition, buffer), codec.name());
+        }
+    }
+
+    @DisplayName("Should prefix the encoded message with its length")
+    @Test void scenario2(){
+        for (val factory : factories) {
+            val codec = factory.constructCodecFor(Person.class);
+            val buffer = Buffer.buffer();
+            codec.encodeToWire(buffer, new Person("Han", 32));
+
+            assertEquals(buffer.length() - JacksonServiceBusCodec.LENGTH_PREFIX_SIZE, buffer.getInt(0), codec.name());
+        }
+    }
+
+    @DisplayName("Should encode messages with binary formats into fewer bytes than JSON")
+    @Test void scenario3(){
+        val person = new Person("Obi-Wan Kenobi", 57);
+        val json = Buffer.buffer();
+        new DefaultEventBusMessageCodecFactory().constructCodecFor(Person.class).encodeToWire(json, person);
+        val smile = Buffer.buffer();
+        DefaultEventBusMessageCodecFactory.smile().constructCodecFor(Person.class).encodeToWire(smile, person);
+
+        assertTrue(smile.length() < json.length());
+    }
+
+    @DisplayName("Should name codecs after its data format")
+    @Test void scenario4(){
+        assertEquals("JSON::" + Person.class.getCanonicalName(),
+            new DefaultEventBusMessageCodecFactory().constructCodecFor(Person.class).name());
+        assertEquals("SMILE::" + Person.class.getCanonicalName(),
+            DefaultEventBusMessageCodecFactory.smile().constructCodecFor(Person.class).name());
+    }
+
+    @DisplayName("Should fail WHEN the data format is not available")
+    @Test void scenario5(){
+        assertThrows(KosException.class,
+            () -> DefaultEventBusMessageCodecFactory.forDataFormat("UNKNOWN", "unknown.DataFormatFactory"));
+    }
+
+    @DisplayName("Should deliver the very same instance to local listeners by default")
+    @Test void scenario6(){
+        val person = new Person("Luke", 19);
+        val factories = asList(
+            new DefaultEventBusMessageCodecFactory(),
+            DefaultEventBusMessageCodecFactory.forDataFormat("SMILE", "com.fasterxml.jackson.dataformat.smile.SmileFactory")
+        );
+        for (val factory : factories) {
+            val codec = factory.constructCodecFor(Person.class);
+            assertSame(person, codec.transform(person), codec.name());
+        }
+    }
+
+    @DisplayName("Should deliver a deep copy of mutable messages to local listeners WHEN copying mutable messages")
+    @Test void scenario7(){
+        val person = new Person("Luke", 19);
+        for (val factory : copyingFactories()) {
+            val codec = factory.constructCodecFor(Person.class);
+            val copy = codec.transform(person);
+            assertNotSame(person, copy, codec.name());
+            assertEquals(person, copy, codec.name());
+        }
+    }
+
+    @DisplayName("Should deliver immutable messages as is WHEN copying mutable messages")
+    @Test void scenario8(){
+        ImmutableMessageTypes.register(ImmutablePerson.class);
+        try {
+            for (val factory : copyingFactories()) {
+                val person = new ImmutablePerson("Leia", 19);
+                assertSame(person, factory.constructCodecFor(ImmutablePerson.class).transform(person));
+
+                val username = "leia";
+                assertSame(username, factory.constructCodecFor(String.class).transform(username));
+            }
+        } finally {
+            ImmutableMessageTypes.reset();
+        }
+    }
+
+    static List<DefaultEventBusMessageCodecFactory> copyingFactories() {
+        return asList(
+            new DefaultEventBusMessageCodecFactory(LocalDelivery.COPY_MUTABLE),
+            DefaultEventBusMessageCodecFactory.smile(LocalDelivery.COPY_MUTABLE)
+        );
+    }
+
+    /**
+     * @return the position right after the encoded message
+     */
+    static <T> int encode(MessageCodec<T, T> codec, Buffer buffer, T message) {
+        codec.encodeToWire(buffer, message);
+        return buffer.length();
+    }
+
+    @Data @NoArgsConstructor @AllArgsConstructor
+    static class Person {
+        String name;
+        int age;
+    }
+
+    @Value
+    static class ImmutablePerson {
+        String name;
+        int age;
+    }
+}
@@ -0,0 +1,50 @@
+package kos.core.exception;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import kos.api.MutableKosContext;
+import lombok.val;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ContentNegotiationExceptionHandler: responds with 415/406 as plain text")
+class ContentNegotiationExceptionHandlerTest {
+
+    final HttpServerRequest request = mock(HttpServerRequest.class);
+    final HttpServerResponse response = mock(HttpServerResponse.class);
+    final MutableKosContext kosContext = new MutableKosContext();
+
+    @DisplayName("Should respond with 415 WHEN the request media type is not supported")
+    @Test void scenario1(){
+        val handled = new ContentNegotiationExceptionHandler()
+            .handle(request, ContentNegotiationException.unsupportedMediaType("image/png"));
+
+        assertEquals(415, handled.statusCode());
+        assertEquals("text/plain", handled.headers().get(CONTENT_TYPE));
+    }
+
+    @DisplayName("Should respond with 406 WHEN none of the accepted media types are available")
+    @Test void scenario2(){
+        val handled = new ContentNegotiationExceptionHandler()
+            .handle(request, ContentNegotiationException.notAcceptable("image/png"));
+
+        assertEquals(406, handled.statusCode());
+    }
+
+    @DisplayName("Should be registered in the default exception handler")
+    @Test void scenario3(){
+        val cause = ContentNegotiationException.unsupportedMediaType("image/png");
+        val handled = kosContext.getExceptionHandler().handle(request, cause);
+
+        handled.send(kosContext, response);
+
+        verify(response).setStatusCode(eq(415));
+        verify(response).end(eq(Buffer.buffer(cause.getMessage())));
+    }
+}
@@ -31,8 +31,11 @@ public class InjectorJobRunner implements WebServerEventListener {
         this.injector = injector;
     }
 
+    /**
+     * Jobs run only once, even when more than one web server instance is deployed.
+     */
     @Override
-    public void on(BeforeDeployWebServerEvent event) {
+    public void on(BeforeDeployWebServersEvent event) {
         val exitOnJobFailure = event.getApplicationConfig().getBoolean("injector.job.exit-on-failure", true);
         val jobs = injector.instancesExposedAs( Job.class );
 